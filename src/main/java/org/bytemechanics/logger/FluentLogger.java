@@ -15,19 +15,27 @@
  */
 package org.bytemechanics.logger;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.bytemechanics.logger.adapters.Log;
 import org.bytemechanics.logger.adapters.LoggerAPIProvider;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.adapters.decorators.EveryNSampledLoggerAdapter;
+import org.bytemechanics.logger.adapters.decorators.LazyLoggerAdapter;
+import org.bytemechanics.logger.adapters.decorators.RatioSampledLoggerAdapter;
+import org.bytemechanics.logger.adapters.decorators.SampledLoggerAdapter;
+import org.bytemechanics.logger.adapters.decorators.TimeSampledLoggerAdapter;
 import org.bytemechanics.logger.beans.LogBean;
 import org.bytemechanics.logger.beans.LogSupplierBean;
 import org.bytemechanics.logger.factory.LoggerFactoryAdapter;
 import org.bytemechanics.logger.internal.commons.lang.ArrayUtils;
 import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
 import org.bytemechanics.logger.internal.factory.impl.LoggerFactoryReflectionImpl;
-import org.bytemechanics.logger.internal.factory.utils.LoggerReflectionUtils;
+import org.bytemechanics.logger.internal.factory.utils.LoggerFactoryCache;
+import org.bytemechanics.logger.metrics.LoggerCounters;
+import org.bytemechanics.logger.metrics.LoggerMetrics;
 
 /**
  * Simple logging system to log to java logging with more user friendly manner
@@ -47,9 +55,10 @@ public final class FluentLogger {
     protected final LoggerAdapter loggerAdapter;
 	protected final String prefix;
     protected final Object[] args;
+	protected final LoggerCounters counters;
 
     protected FluentLogger(final Function<String,LoggerAdapter> _apiLoggerSupplier,final String _name, final String _prefix, final Object... _args) {
-		this(_apiLoggerSupplier, _apiLoggerSupplier.apply(_name), _name, _prefix, _args);
+		this(_apiLoggerSupplier, LazyLoggerAdapter.isLazyEnabled()? new LazyLoggerAdapter(_apiLoggerSupplier,_name) : _apiLoggerSupplier.apply(_name), _name, _prefix, _args);
     }
     private FluentLogger(final Function<String,LoggerAdapter> _apiLoggerSupplier,LoggerAdapter _loggerAdapter,final String _name, final String _prefix, final Object... _args) {
         this.apiLoggerSupplier=_apiLoggerSupplier;
@@ -57,6 +66,7 @@ public final class FluentLogger {
 		this.name=_name;
         this.prefix = _prefix;
         this.args = _args;
+		this.counters=LoggerMetrics.getInstance().counters(_name);
     }
 
 	private static String getClassNameOrDefault(final String _factoryClassName){
@@ -74,18 +84,22 @@ public final class FluentLogger {
 	private static void replaceFactory(final String _factoryClassName){
 		synchronized(FluentLogger.class){
 			if(!loggerFactory.getClass().getName().equals(_factoryClassName)){
-				final Class factoryClazzCandidate;
-				try {
-					factoryClazzCandidate = Class.forName(_factoryClassName);
-					loggerFactory=((Class<LoggerFactoryAdapter>)factoryClazzCandidate).newInstance();
-				} catch (ClassCastException e) {
-					System.err.println(SimpleFormat.format("WARNING: Configured logger factory propery {} class {} does not implement LoggerFactoryAdapter. Error message: {}\n\tTo remove this message please remove this attribute from system properties or configure a correct class",LOGGER_FACTORY_ADAPTER_KEY,_factoryClassName,e.getMessage()));
-				} catch (ClassNotFoundException e) {
-					System.err.println(SimpleFormat.format("WARNING: Configured logger factory propery {} class {} does not exist. Error message: {}\n\tTo remove this message please remove this attribute from system properties or configure a correct class",LOGGER_FACTORY_ADAPTER_KEY,_factoryClassName,e.getMessage()));
-				} catch (InstantiationException e) {
-					System.err.println(SimpleFormat.format("WARNING: Configured logger factory propery {} class {} can not be instantiated or does not have default constructor. Error message: {}\n\tTo remove this message please remove this attribute from system properties or configure a correct class",LOGGER_FACTORY_ADAPTER_KEY,_factoryClassName,e.getMessage()));
-				} catch (IllegalAccessException e) {
-					System.err.println(SimpleFormat.format("WARNING: Configured logger factory propery {} class {} has non public default contructor. Error message: {}\n\tTo remove this message please remove this attribute from system properties or configure a correct class",LOGGER_FACTORY_ADAPTER_KEY,_factoryClassName,e.getMessage()));
+				if(LoggerFactoryReflectionImpl.class.getName().equals(_factoryClassName)){
+					loggerFactory=new LoggerFactoryReflectionImpl();
+				}else{
+					final Class factoryClazzCandidate;
+					try {
+						factoryClazzCandidate = Class.forName(_factoryClassName);
+						loggerFactory=((Class<LoggerFactoryAdapter>)factoryClazzCandidate).newInstance();
+					} catch (ClassCastException e) {
+						System.err.println(SimpleFormat.format("WARNING: Configured logger factory propery {} class {} does not implement LoggerFactoryAdapter. Error message: {}\n\tTo remove this message please remove this attribute from system properties or configure a correct class",LOGGER_FACTORY_ADAPTER_KEY,_factoryClassName,e.getMessage()));
+					} catch (ClassNotFoundException e) {
+						System.err.println(SimpleFormat.format("WARNING: Configured logger factory propery {} class {} does not exist. Error message: {}\n\tTo remove this message please remove this attribute from system properties or configure a correct class",LOGGER_FACTORY_ADAPTER_KEY,_factoryClassName,e.getMessage()));
+					} catch (InstantiationException e) {
+						System.err.println(SimpleFormat.format("WARNING: Configured logger factory propery {} class {} can not be instantiated or does not have default constructor. Error message: {}\n\tTo remove this message please remove this attribute from system properties or configure a correct class",LOGGER_FACTORY_ADAPTER_KEY,_factoryClassName,e.getMessage()));
+					} catch (IllegalAccessException e) {
+						System.err.println(SimpleFormat.format("WARNING: Configured logger factory propery {} class {} has non public default contructor. Error message: {}\n\tTo remove this message please remove this attribute from system properties or configure a correct class",LOGGER_FACTORY_ADAPTER_KEY,_factoryClassName,e.getMessage()));
+					}
 				}
 			}
 		}
@@ -128,7 +142,7 @@ public final class FluentLogger {
 		if(_name==null)
 			throw new NullPointerException("Can not retrieve logger from null name");
 		return Optional.ofNullable(_provider)
-						.flatMap((new LoggerReflectionUtils())::getLoggerFactory)
+						.flatMap(LoggerFactoryCache::getLoggerFactory)
 						.map(function -> new FluentLogger(function,_name,""))
 						.orElseThrow(() -> new NullPointerException("Can not retrieve logger from null provider"));
 	}	
@@ -165,9 +179,8 @@ public final class FluentLogger {
     public static final FluentLogger of(final Class<?> _class,final LoggerAPIProvider _provider){
 		if(_class==null)
 			throw new NullPointerException("Can not retrieve logger from null class");
-		System.out.println("my function"+(new LoggerReflectionUtils()).getLoggerFactory(_provider));
 		return Optional.ofNullable(_provider)
-						.flatMap((new LoggerReflectionUtils())::getLoggerFactory)
+						.flatMap(LoggerFactoryCache::getLoggerFactory)
 						.map(function -> new FluentLogger(function,_class.getName(),""))
 						.orElseThrow(() -> new NullPointerException("Can not retrieve logger from null provider"));
 	}	
@@ -213,6 +226,51 @@ public final class FluentLogger {
 		return new FluentLogger(this.apiLoggerSupplier,this.loggerAdapter,this.name,this.prefix,ArrayUtils.concat(this.args,_initialArgs));
 	}
 
+	/**
+     * Get NEW fluent logger instance sharing name, prefix and arguments that only logs randomly the given ratio of the enabled events.
+	 * Suppressed events are discarded before building the log. Intended to be kept per call site.
+     * @param _ratio ratio of events to log between 0 (none) and 1 (all)
+     * @return sampled fluent logger instance
+	 * @see RatioSampledLoggerAdapter
+	 * @since 2.3.0
+     */
+    public FluentLogger sampled(final double _ratio){
+		return new FluentLogger(this.apiLoggerSupplier,new RatioSampledLoggerAdapter(this.loggerAdapter,_ratio),this.name,this.prefix,this.args);
+	}
+	/**
+     * Get NEW fluent logger instance sharing name, prefix and arguments that only logs the first and then one of each _every enabled events.
+	 * Suppressed events are discarded before building the log. Intended to be kept per call site.
+     * @param _every number of events per logged event
+     * @return sampled fluent logger instance
+	 * @see EveryNSampledLoggerAdapter
+	 * @since 2.3.0
+     */
+    public FluentLogger everyN(final int _every){
+		return new FluentLogger(this.apiLoggerSupplier,new EveryNSampledLoggerAdapter(this.loggerAdapter,_every),this.name,this.prefix,this.args);
+	}
+	/**
+     * Get NEW fluent logger instance sharing name, prefix and arguments that logs at most one enabled event per _period.
+	 * Suppressed events are discarded before building the log. Intended to be kept per call site.
+     * @param _period minimum time between logged events
+     * @return sampled fluent logger instance
+	 * @see TimeSampledLoggerAdapter
+	 * @since 2.3.0
+     */
+    public FluentLogger atMostEvery(final Duration _period){
+		return new FluentLogger(this.apiLoggerSupplier,new TimeSampledLoggerAdapter(this.loggerAdapter,_period),this.name,this.prefix,this.args);
+	}
+	/**
+     * Return the number of enabled events suppressed by the sampling of this logger
+     * @return suppressed events or 0 if this logger is not sampled
+	 * @see FluentLogger#sampled(double) 
+	 * @see FluentLogger#everyN(int) 
+	 * @see FluentLogger#atMostEvery(java.time.Duration) 
+	 * @since 2.3.0
+     */
+    public long getSuppressed(){
+		return (this.loggerAdapter instanceof SampledLoggerAdapter)? ((SampledLoggerAdapter)this.loggerAdapter).getSuppressed() : 0l;
+	}
+
 	/**
      * Return the current prefix
      * @return current prefix
@@ -230,14 +288,27 @@ public final class FluentLogger {
 		return this.args;
 	}
 	
+	private void emit(final Log _log){
+		if(this.loggerAdapter.accept(_log)){
+			this.loggerAdapter.log(_log);
+			if(this.counters!=null){
+				this.counters.emitted(_log.getLevel());
+			}
+		}
+	}
+	
 	/**
 	 * Allows send the given _log to the underlying logger API if the log level is enabled
 	 * @param _log log to send
 	 * @return same FluentLogger instance
 	 */
     public FluentLogger log(final Log _log) {
-		if(this.loggerAdapter.isEnabled(_log)){
-			this.loggerAdapter.log(_log);
+		final boolean enabled=this.loggerAdapter.isEnabled(_log);
+		if(this.counters!=null){
+			this.counters.checked(_log.getLevel(),enabled);
+		}
+		if(enabled&&this.loggerAdapter.accept(_log.getLevel())){
+			emit(_log);
 		}
         return this;
     }
@@ -250,10 +321,14 @@ public final class FluentLogger {
 	 */
 	public FluentLogger log(final Level _level,final String _message, final Object... _args) {
 
-		if(this.loggerAdapter.isEnabled(_level)){
-			this.loggerAdapter.log(LogBean.of(_level)
-									   .message(getPrefix()).args(getArgs())
-									   .message(_message).args(_args));
+		final boolean enabled=this.loggerAdapter.isEnabled(_level);
+		if(this.counters!=null){
+			this.counters.checked(_level,enabled);
+		}
+		if(enabled&&this.loggerAdapter.accept(_level)){
+			emit(LogBean.of(_level)
+						.message(getPrefix()).args(getArgs())
+						.message(_message).args(_args));
 		}
 		return this;
     }
@@ -266,10 +341,14 @@ public final class FluentLogger {
 	 */
 	public FluentLogger log(final Level _level,final Supplier<String> _messageSupplier, final Throwable _exception) {
 
-		if(this.loggerAdapter.isEnabled(_level)){
-			this.loggerAdapter.log(LogSupplierBean.of(_level,
-												() -> (SimpleFormat.format(getPrefix(), getArgs())+_messageSupplier.get()),
-												_exception));
+		final boolean enabled=this.loggerAdapter.isEnabled(_level);
+		if(this.counters!=null){
+			this.counters.checked(_level,enabled);
+		}
+		if(enabled&&this.loggerAdapter.accept(_level)){
+			emit(LogSupplierBean.of(_level,
+									() -> (SimpleFormat.format(getPrefix(), getArgs())+_messageSupplier.get()),
+									_exception));
 		}
 		return this;
     }
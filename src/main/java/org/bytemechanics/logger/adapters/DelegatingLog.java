@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.bytemechanics.logger.Level;
+
+/**
+ * Log decorator that delegates every method to the decorated log, extend it overriding only the decorated behaviour (decorating the message means overriding getMessage() and formatTo(StringBuilder))
+ * @author afarre
+ * @since 2.3.0
+ */
+public abstract class DelegatingLog implements Log{
+
+	protected final Log log;
+
+	
+	/**
+	 * Constructor
+	 * @param _log decorated log
+	 */
+	protected DelegatingLog(final Log _log){
+		if(_log==null)
+			throw new NullPointerException("Can not decorate null log");
+		this.log=_log;
+	}
+
+	
+	/**
+	 * Returns the decorated log
+	 * @return decorated log
+	 */
+	public Log getDelegate() {
+		return log;
+	}
+
+	/** @see Log#getLevel() */
+	@Override
+	public Level getLevel() {
+		return this.log.getLevel();
+	}
+	/** @see Log#getTime() */
+	@Override
+	public LocalDateTime getTime() {
+		return this.log.getTime();
+	}
+	/** @see Log#getMessage() */
+	@Override
+	public Supplier<String> getMessage() {
+		return this.log.getMessage();
+	}
+	/** @see Log#getPattern() */
+	@Override
+	public String getPattern() {
+		return this.log.getPattern();
+	}
+	/** @see Log#getArgs() */
+	@Override
+	public Object[] getArgs() {
+		return this.log.getArgs();
+	}
+	/** @see Log#formatTo(java.lang.StringBuilder) */
+	@Override
+	public void formatTo(final StringBuilder _buffer) {
+		this.log.formatTo(_buffer);
+	}
+	/** @see Log#getThrowable() */
+	@Override
+	public Optional<Throwable> getThrowable() {
+		return this.log.getThrowable();
+	}
+	/** @see Log#getFields() */
+	@Override
+	public Map<String, Object> getFields() {
+		return this.log.getFields();
+	}
+	/** @see Log#getContext() */
+	@Override
+	public Map<String, String> getContext() {
+		return this.log.getContext();
+	}
+	/** @see Log#isSourceResolved() */
+	@Override
+	public boolean isSourceResolved() {
+		return this.log.isSourceResolved();
+	}
+	/** @see Log#getSource(java.util.Set) */
+	@Override
+	public StackTraceElement getSource(final Set<String> _classesToSkip) {
+		return this.log.getSource(_classesToSkip);
+	}
+}
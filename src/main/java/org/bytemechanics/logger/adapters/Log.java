@@ -18,6 +18,7 @@ package org.bytemechanics.logger.adapters;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -38,9 +39,15 @@ import org.bytemechanics.logger.internal.factory.utils.LoggerReflectionUtils;
 public interface Log {
 	
 	public static final String UNKNOWN_STACKTRACE = "unknown";
+	/** System.Logger bridge class name (only available on Java 9 or later), always skipped from the log stacktrace 
+	 * @since 2.3.0 */
+	public static final String SYSTEM_LOGGER_BRIDGE = "org.bytemechanics.logger.system.FluentSystemLogger";
 	public static final Set<String> SKIPPED_CLASS_NAMES = Collections.unmodifiableSet(
-																	Stream.of(Thread.class.getName(),LogBean.class.getName(),FluentLogger.class.getName(),LoggerFactoryAdapter.class.getName(),LoggerFactoryReflectionImpl.class.getName(),LoggerReflectionUtils.class.getName(),LoggerAdapter.class.getName(),Log.class.getName())
+																	Stream.of(Thread.class.getName(),LogBean.class.getName(),FluentLogger.class.getName(),LoggerFactoryAdapter.class.getName(),LoggerFactoryReflectionImpl.class.getName(),LoggerReflectionUtils.class.getName(),LoggerAdapter.class.getName(),Log.class.getName(),DelegatingLog.class.getName(),SYSTEM_LOGGER_BRIDGE)
 																				.collect(Collectors.toSet()));
+	/** Package prefix of the logger adapter decorators, always skipped from the log stacktrace 
+	 * @since 2.3.0 */
+	public static final String SKIPPED_DECORATORS_PACKAGE = "org.bytemechanics.logger.adapters.decorators.";
 
 	/**
 	 * Return the log level
@@ -61,11 +68,68 @@ public interface Log {
 	 */
 	public Supplier<String> getMessage();
 
+	/**
+	 * Return the message pattern before the arguments replacement
+	 * @return message pattern, by default the formatted message
+	 * @since 2.3.0
+	 */
+	public default String getPattern(){
+		return getMessage().get();
+	}
+
+	/**
+	 * Return the arguments to replace in the message pattern
+	 * @return arguments of the message pattern or null if the log does not have a message pattern with arguments (by default)
+	 * @see Log#getPattern() 
+	 * @since 2.3.0
+	 */
+	public default Object[] getArgs(){
+		return null;
+	}
+
+	/**
+	 * Append the log message to the given _buffer
+	 * @param _buffer buffer where append the message
+	 * @see Log#getMessage() 
+	 * @since 2.3.0
+	 */
+	public default void formatTo(final StringBuilder _buffer){
+		_buffer.append(getMessage().get());
+	}
+
 	/**
 	 * Return an optional of the throwable attached to the log
 	 * @return log throwable optional
 	 */
 	public Optional<Throwable> getThrowable();
+
+	/**
+	 * Return the structured fields attached to the log
+	 * @return unmodifiable map with the structured fields, empty map if none
+	 * @since 2.3.0
+	 */
+	public default Map<String,Object> getFields(){
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * Return the logging context snapshot taken when the log was created
+	 * @return unmodifiable map with the logging context, empty map if none
+	 * @see org.bytemechanics.logger.context.LogContext
+	 * @since 2.3.0
+	 */
+	public default Map<String,String> getContext(){
+		return Collections.emptyMap();
+	}
+	
+	/**
+	 * Returns if the log source is already resolved, so getSource() returns it without walking the current thread stack
+	 * @return true if the log source is precomputed, false by default
+	 * @since 2.3.0
+	 */
+	public default boolean isSourceResolved(){
+		return false;
+	}
 	
 	/**
 	 * Retrieve stacktrace element log source
@@ -85,6 +149,7 @@ public interface Log {
 		skippedClasses.addAll(_classesToSkip);
 		return Stream.of(Thread.currentThread().getStackTrace())
 								.filter(stack -> !skippedClasses.contains(stack.getClassName()))
+								.filter(stack -> !stack.getClassName().startsWith(SKIPPED_DECORATORS_PACKAGE))
 								.findFirst()
 								.orElse(new StackTraceElement(UNKNOWN_STACKTRACE, UNKNOWN_STACKTRACE, UNKNOWN_STACKTRACE, 0));
 	}
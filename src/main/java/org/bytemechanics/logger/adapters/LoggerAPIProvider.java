@@ -22,12 +22,24 @@ package org.bytemechanics.logger.adapters;
  */
 public enum LoggerAPIProvider{
 	
+	/** Logback provider through its native SLF4J API
+	 * @since 2.3.0 */
+	LOGBACK("ch.qos.logback.classic.Logger","org.bytemechanics.logger.adapters.impl.LoggerSlf4jImpl"),
 	/** Log4j provider*/
 	LOG4J("org.apache.log4j.Logger","org.bytemechanics.logger.adapters.impl.LoggerLog4jImpl"),
 	/** Log4j2 provider using extension*/
 	LOG4J2E("org.apache.logging.log4j.spi.ExtendedLoggerWrapper","org.bytemechanics.logger.adapters.impl.LoggerLog4j2Extension"),
 	/** Log4j2 provider*/
 	LOG4J2("org.apache.logging.log4j.Logger","org.bytemechanics.logger.adapters.impl.LoggerLog4j2Impl"),
+	/** Log4j2 provider using LogBuilder with the location resolved by FluentLogger (only used if explicitly selected)
+	 * @since 2.3.0 */
+	LOG4J2B("org.apache.logging.log4j.LogBuilder","org.bytemechanics.logger.adapters.impl.LoggerLog4j2BuilderImpl",false),
+	/** SLF4J provider for any SLF4J binding (only used if explicitly selected, as the binding can be a bridge to any other provider)
+	 * @since 2.3.0 */
+	SLF4J("org.slf4j.Logger","org.bytemechanics.logger.adapters.impl.LoggerSlf4jImpl",false),
+	/** System.Logger provider, Java 9 or later as its adapter only exists at the Java 9 section of the multi-release jar (only used if explicitly selected, as by default System.Logger writes to java logging)
+	 * @since 2.3.0 */
+	SYSTEM("java.lang.System$Logger","org.bytemechanics.logger.adapters.impl.LoggerSystemImpl",false),
 	/** Java Logging provider*/
 	JSR("java.util.logging.Logger","org.bytemechanics.logger.adapters.impl.LoggerJSRLoggingImpl"),
 	/** Console provider*/
@@ -38,12 +50,28 @@ public enum LoggerAPIProvider{
 	public final String detectionClassName;
 	/** Class to use to instance the API */
 	public final String implementationClassName;
+	/** True if the provider is detected automatically, false if it's only used when explicitly selected 
+	 * @since 2.3.0 */
+	public final boolean probed;
 	
 	LoggerAPIProvider(final String _detectionClassName,final String _implementationClassName){
+		this(_detectionClassName,_implementationClassName,true);
+	}
+	LoggerAPIProvider(final String _detectionClassName,final String _implementationClassName,final boolean _probed){
 		this.detectionClassName=_detectionClassName;
 		this.implementationClassName=_implementationClassName;
+		this.probed=_probed;
 	}
 
+	/**
+	 * Returns if the provider is detected automatically
+	 * @return true if the provider is detected automatically, false if it's only used when explicitly selected
+	 * @since 2.3.0
+	 */
+	public boolean isProbed() {
+		return probed;
+	}
+	
 	/**
 	 * Detection class, classloader retrieve
 	 * @return detection class from detectionClassName
@@ -45,6 +45,25 @@ public interface LoggerAdapter {
     public default boolean isEnabled(final Log _log){
 		return this.isEnabled(_log.getLevel());
 	}
+	/**
+	 * Decide if the next enabled event of the given _level must be logged. Called once per event after isEnabled and before building the log, so rejected events never build their message or arguments
+	 * @param _level fluent logger level
+	 * @return true if the event must be logged (by default all enabled events are accepted)
+	 * @since 2.3.0
+	 */
+    public default boolean accept(final Level _level){
+		return true;
+	}
+	/**
+	 * Decide if the given already built _log must be logged. Called once per event after accept(Level) and before log(Log) by the adapters that need the log content to decide
+	 * @param _log log to admit
+	 * @return true if the _log must be logged (by default all logs are accepted)
+	 * @see LoggerAdapter#accept(org.bytemechanics.logger.Level) 
+	 * @since 2.3.0
+	 */
+    public default boolean accept(final Log _log){
+		return true;
+	}
 	
 	/**
 	 * Send the given _log to the underlying API
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
+import org.bytemechanics.logger.metrics.AsyncPipelineMXBean;
+import org.bytemechanics.logger.metrics.AsyncPipelineSnapshot;
+import org.bytemechanics.logger.metrics.LatencyHistogram;
+
+/**
+ * Asynchronous logging pipeline, a bounded queue drained in batches by a single daemon consumer thread that writes each event to its logger adapter.
+ * When the queue is full the producer waits at most the configured enqueue timeout and then the event is dropped and counted per level.
+ * <br>
+ * The pipeline health (queue occupancy, high-water mark, enqueue wait, drops per level, consumer batch sizes and enqueue-to-write latency) is available through snapshot() 
+ * and as MXBean with the object name org.bytemechanics.logger:type=AsyncLogPipeline,name=&lt;name&gt;.
+ * Once closed, the pending events are written and any new event is written synchronously by the caller thread. 
+ * The consumer is a daemon thread, so a shutdown hook closes the pipeline at JVM exit to not lose the queued events, anyway close it explicitly when it's no longer needed.
+ * If the consumer thread is interrupted it stops, writes the pending events and from then on the events are written synchronously.
+ * @author afarre
+ * @since 2.3.0
+ * @see AsyncLoggerAdapter
+ */
+public class AsyncLogPipeline implements AsyncPipelineMXBean,Closeable{
+
+	/** MXBean object name pattern */
+	public static final String OBJECT_NAME="org.bytemechanics.logger:type=AsyncLogPipeline,name={}";
+	/** Default queue capacity */
+	public static final int DEFAULT_CAPACITY=8192;
+	/** Default maximum number of events written per batch */
+	public static final int DEFAULT_MAX_BATCH=256;
+	
+	private static final class Entry{
+		
+		final LoggerAdapter adapter;
+		final Log log;
+		final long enqueued;
+
+		Entry(final LoggerAdapter _adapter,final Log _log,final long _enqueued){
+			this.adapter=_adapter;
+			this.log=_log;
+			this.enqueued=_enqueued;
+		}
+	}
+	
+	private final String name;
+	private final int capacity;
+	private final long enqueueTimeoutNanos;
+	private final int maxBatch;
+	private final BlockingQueue<Entry> queue;
+	private final AtomicInteger queueSize;
+	private final AtomicInteger highWaterMark;
+	private final LongAdder enqueued;
+	private final LongAdder written;
+	private final LongAdder failed;
+	private final LongAdder[] dropped;
+	private final LatencyHistogram enqueueWait;
+	private final LatencyHistogram batchSize;
+	private final LatencyHistogram enqueueToWrite;
+	private final Thread consumer;
+	private final Thread shutdownHook;
+	private final ObjectName objectName;
+	private volatile boolean running;
+	private boolean closed;
+
+	
+	public AsyncLogPipeline(final String _name){
+		this(_name,DEFAULT_CAPACITY,Duration.ZERO,DEFAULT_MAX_BATCH);
+	}
+	/**
+	 * Constructor, starts the consumer thread and registers the MXBean
+	 * @param _name pipeline name
+	 * @param _capacity queue capacity
+	 * @param _enqueueTimeout maximum time to wait for queue space before drop the event, zero to drop immediately
+	 * @param _maxBatch maximum number of events written per batch
+	 */
+	public AsyncLogPipeline(final String _name,final int _capacity,final Duration _enqueueTimeout,final int _maxBatch){
+		if(_name==null)
+			throw new NullPointerException("Can not create pipeline with null name");
+		if(_capacity<1)
+			throw new IllegalArgumentException(SimpleFormat.format("Pipeline capacity must be positive, current: {}",_capacity));
+		if(_maxBatch<1)
+			throw new IllegalArgumentException(SimpleFormat.format("Pipeline max batch must be positive, current: {}",_maxBatch));
+		this.name=_name;
+		this.capacity=_capacity;
+		this.enqueueTimeoutNanos=_enqueueTimeout.toNanos();
+		this.maxBatch=_maxBatch;
+		this.queue=new ArrayBlockingQueue<>(_capacity);
+		this.queueSize=new AtomicInteger(0);
+		this.highWaterMark=new AtomicInteger(0);
+		this.enqueued=new LongAdder();
+		this.written=new LongAdder();
+		this.failed=new LongAdder();
+		this.dropped=new LongAdder[Level.values().length];
+		for(int ic1=0;ic1<this.dropped.length;ic1++){
+			this.dropped[ic1]=new LongAdder();
+		}
+		this.enqueueWait=new LatencyHistogram();
+		this.batchSize=new LatencyHistogram();
+		this.enqueueToWrite=new LatencyHistogram();
+		this.running=true;
+		this.closed=false;
+		this.consumer=new Thread(this::consume,"fluent-logger-async-"+_name);
+		this.consumer.setDaemon(true);
+		this.consumer.start();
+		this.shutdownHook=new Thread(this::close,"fluent-logger-async-"+_name+"-shutdown");
+		Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+		this.objectName=register();
+	}
+
+	
+	private ObjectName register(){
+		ObjectName reply=null;
+		try{
+			final MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+			reply=new ObjectName(SimpleFormat.format(OBJECT_NAME,ObjectName.quote(this.name)));
+			if(!server.isRegistered(reply)){
+				server.registerMBean(this,reply);
+			}else{
+				reply=null;
+			}
+		}catch(JMException|SecurityException e){
+			System.err.println(SimpleFormat.format("WARNING: Unable to register async log pipeline {} MXBean. Error message: {}",this.name,e.getMessage()));
+			reply=null;
+		}
+		return reply;
+	}
+	
+	private void write(final Entry _entry){
+		try{
+			_entry.adapter.log(_entry.log);
+		}catch(RuntimeException e){
+			this.failed.increment();
+			System.err.println(SimpleFormat.format("WARNING: Async log pipeline {} unable to write log to {}. Error message: {}",this.name,_entry.adapter.getName(),e.getMessage()));
+		}
+		this.enqueueToWrite.record(System.nanoTime()-_entry.enqueued);
+		this.written.increment();
+	}
+	private void consume(){
+		
+		final List<Entry> batch=new ArrayList<>(this.maxBatch);
+		boolean interrupted=false;
+		
+		while((!interrupted)&&(this.running||(!this.queue.isEmpty()))){
+			try{
+				final Entry first=this.queue.poll(100,TimeUnit.MILLISECONDS);
+				if(first!=null){
+					batch.add(first);
+					this.queue.drainTo(batch,this.maxBatch-1);
+					this.queueSize.addAndGet(-batch.size());
+					this.batchSize.record(batch.size());
+					for(Entry entry:batch){
+						write(entry);
+					}
+					batch.clear();
+				}
+			}catch(InterruptedException e){
+				interrupted=true;
+				this.running=false;
+			}
+		}
+		drain();
+		if(interrupted){
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	private void drain(){
+		Entry entry=this.queue.poll();
+		while(entry!=null){
+			this.queueSize.decrementAndGet();
+			write(entry);
+			entry=this.queue.poll();
+		}
+	}
+	
+	/**
+	 * Enqueue the given _log to be written asynchronously to the given _adapter. If the pipeline is closed the log is written synchronously
+	 * @param _adapter adapter where write the log
+	 * @param _log log to write
+	 * @return true if the log has been enqueued or written, false if it has been dropped
+	 */
+	public boolean submit(final LoggerAdapter _adapter,final Log _log){
+		
+		if(!this.running){
+			_adapter.log(_log);
+			return true;
+		}
+		final long start=System.nanoTime();
+		final Entry entry=new Entry(_adapter,_log,start);
+		boolean reply=this.queue.offer(entry);
+		if((!reply)&&(this.enqueueTimeoutNanos>0)){
+			try{
+				reply=this.queue.offer(entry,this.enqueueTimeoutNanos,TimeUnit.NANOSECONDS);
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+		}
+		this.enqueueWait.record(System.nanoTime()-start);
+		if(reply){
+			this.enqueued.increment();
+			final int size=this.queueSize.incrementAndGet();
+			int current=this.highWaterMark.get();
+			while((size>current)&&(!this.highWaterMark.compareAndSet(current,size))){
+				current=this.highWaterMark.get();
+			}
+			if((!this.running)&&(this.queue.remove(entry))){
+				// Closed while enqueuing, the consumer may be gone so the caller writes its own event unless someone already took it
+				this.queueSize.decrementAndGet();
+				write(entry);
+			}
+		}else{
+			this.dropped[_log.getLevel().ordinal()].increment();
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Returns the pipeline name
+	 * @return pipeline name
+	 */
+	public String getName() {
+		return name;
+	}
+	
+	/** @see AsyncPipelineMXBean#getQueueSize() */
+	@Override
+	public int getQueueSize() {
+		return Math.max(0,this.queueSize.get());
+	}
+	/** @see AsyncPipelineMXBean#getHighWaterMark() */
+	@Override
+	public int getHighWaterMark() {
+		return this.highWaterMark.get();
+	}
+	/** @see AsyncPipelineMXBean#getTotalDropped() */
+	@Override
+	public long getTotalDropped() {
+		long reply=0;
+		for(LongAdder adder:this.dropped){
+			reply+=adder.sum();
+		}
+		return reply;
+	}
+	/** @see AsyncPipelineMXBean#resetHighWaterMark() */
+	@Override
+	public void resetHighWaterMark() {
+		this.highWaterMark.set(getQueueSize());
+	}
+	/** @see AsyncPipelineMXBean#getSnapshot() */
+	@Override
+	public AsyncPipelineSnapshot getSnapshot() {
+		return snapshot();
+	}
+	/**
+	 * Take a snapshot of the pipeline metrics, the snapshot is not atomic under concurrent updates
+	 * @return pipeline snapshot
+	 */
+	public AsyncPipelineSnapshot snapshot() {
+		final long[] droppedPerLevel=new long[this.dropped.length];
+		for(int ic1=0;ic1<droppedPerLevel.length;ic1++){
+			droppedPerLevel[ic1]=this.dropped[ic1].sum();
+		}
+		return new AsyncPipelineSnapshot(this.name,this.capacity,getQueueSize(),getHighWaterMark()
+											,this.enqueued.sum(),this.written.sum(),this.failed.sum(),droppedPerLevel
+											,this.enqueueWait.snapshot(this.name+".enqueueWait")
+											,this.batchSize.snapshot(this.name+".batchSize")
+											,this.enqueueToWrite.snapshot(this.name+".enqueueToWrite"));
+	}
+	
+	/**
+	 * Stop accepting asynchronous events, waits until the consumer ends, writes any remaining event on the calling thread and unregisters the MXBean and the shutdown hook. 
+	 * Closing an already closed pipeline has no effect, closing it from the consumer thread does not wait for itself
+	 */
+	@Override
+	public synchronized void close(){
+		if(this.closed){
+			return;
+		}
+		this.closed=true;
+		this.running=false;
+		if(Thread.currentThread()!=this.shutdownHook){
+			try{
+				Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+			}catch(IllegalStateException e){
+				//Shutdown in progress, the hook will find the pipeline already closed
+			}
+		}
+		if(Thread.currentThread()!=this.consumer){
+			try {
+				this.consumer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		drain();
+		if(this.objectName!=null){
+			try{
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+			}catch(JMException|SecurityException e){
+				System.err.println(SimpleFormat.format("WARNING: Unable to unregister async log pipeline {} MXBean. Error message: {}",this.name,e.getMessage()));
+			}
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.util.Set;
+import java.util.function.Function;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.DelegatingLog;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ * Logger adapter decorator that writes the logs to the decorated adapter asynchronously through the given pipeline.
+ * The level check is done synchronously and, if enabled, the call site is resolved before enqueue, the message formatting is done by the pipeline consumer thread 
+ * so arguments must not be mutated after logging.
+ * <br>
+ * Example:
+ * <code>
+ *	final AsyncLogPipeline pipeline=new AsyncLogPipeline("my-pipeline");
+ *	final FluentLogger logger=FluentLogger.of("my-logger",AsyncLoggerAdapter.decorate(LoggerJSRLoggingImpl::new,pipeline));
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ * @see AsyncLogPipeline
+ */
+public class AsyncLoggerAdapter implements LoggerAdapter{
+
+	private static final class AsyncLog extends DelegatingLog{
+		
+		private final StackTraceElement source;
+
+		AsyncLog(final Log _log,final StackTraceElement _source){
+			super(_log);
+			this.source=_source;
+		}
+		
+		@Override
+		public boolean isSourceResolved() {
+			return (this.source!=null)||super.isSourceResolved();
+		}
+		@Override
+		public StackTraceElement getSource(final Set<String> _classesToSkip) {
+			return (this.source!=null)? this.source : super.getSource(_classesToSkip);
+		}
+	}
+	
+	private final LoggerAdapter delegate;
+	private final AsyncLogPipeline pipeline;
+	private final boolean resolveSource;
+
+	
+	/**
+	 * Constructor resolving the call site before enqueue
+	 * @param _delegate decorated logger adapter
+	 * @param _pipeline pipeline where enqueue the logs
+	 */
+	public AsyncLoggerAdapter(final LoggerAdapter _delegate,final AsyncLogPipeline _pipeline){
+		this(_delegate,_pipeline,true);
+	}
+	/**
+	 * Constructor
+	 * @param _delegate decorated logger adapter
+	 * @param _pipeline pipeline where enqueue the logs
+	 * @param _resolveSource if true the call site is resolved before enqueue, disable it only if the decorated adapter does not use the log source
+	 */
+	public AsyncLoggerAdapter(final LoggerAdapter _delegate,final AsyncLogPipeline _pipeline,final boolean _resolveSource){
+		if(_delegate==null)
+			throw new NullPointerException("Can not decorate null logger adapter");
+		if(_pipeline==null)
+			throw new NullPointerException("Can not enqueue to null pipeline");
+		this.delegate=_delegate;
+		this.pipeline=_pipeline;
+		this.resolveSource=_resolveSource;
+	}
+
+	
+	/**
+	 * Returns the decorated logger adapter
+	 * @return decorated logger adapter
+	 */
+	public LoggerAdapter getDelegate() {
+		return delegate;
+	}
+	/**
+	 * Returns the pipeline used to write the logs
+	 * @return asynchronous pipeline
+	 */
+	public AsyncLogPipeline getPipeline() {
+		return pipeline;
+	}
+	
+	@Override
+	public String getName() {
+		return this.delegate.getName();
+	}
+
+	@Override
+	public boolean isEnabled(final Level _level) {
+		return this.delegate.isEnabled(_level);
+	}
+
+	@Override
+	public boolean accept(final Level _level) {
+		return this.delegate.accept(_level);
+	}
+
+	@Override
+	public boolean accept(final Log _log) {
+		return this.delegate.accept(_log);
+	}
+
+	@Override
+	public void log(final Log _log) {
+		this.pipeline.submit(this.delegate,new AsyncLog(_log,(this.resolveSource)? _log.getSource() : null));
+	}
+	
+	
+	/**
+	 * Decorate the given logger factory to write asynchronously through the given pipeline
+	 * @param _factory logger adapter factory to decorate
+	 * @param _pipeline pipeline where enqueue the logs
+	 * @return decorated logger factory
+	 */
+	public static Function<String,LoggerAdapter> decorate(final Function<String,LoggerAdapter> _factory,final AsyncLogPipeline _pipeline){
+		return name -> new AsyncLoggerAdapter(_factory.apply(name),_pipeline);
+	}
+}
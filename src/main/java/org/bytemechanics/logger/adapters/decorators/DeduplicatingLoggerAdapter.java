@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.beans.LogBean;
+import org.bytemechanics.logger.internal.cache.OccurrenceTable;
+
+/**
+ * Logger adapter decorator that suppress duplicated messages. Only the first log of each pattern and level is forwarded per window, 
+ * when the window ends (detected at the next log of this adapter once the window expired, when its slot is reused, at flush or at close) a single summary with the number of suppressed duplicates is forwarded.
+ * <br>
+ * Example:
+ * <code>
+ *	final FluentLogger logger=FluentLogger.of("my-logger",DeduplicatingLoggerAdapter.decorate(LoggerJSRLoggingImpl::new,Duration.ofSeconds(10),64));
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ */
+public class DeduplicatingLoggerAdapter implements LoggerAdapter,AutoCloseable{
+
+	/** Summary message pattern */
+	public static final String SUMMARY_PATTERN="Suppressed {} duplicates in the last {} ms of: {}";
+	
+	private static final class DuplicateKey{
+		
+		private final Level level;
+		private final String pattern;
+
+		DuplicateKey(final Level _level,final String _pattern){
+			this.level=_level;
+			this.pattern=_pattern;
+		}
+		
+		@Override
+		public int hashCode() {
+			return 31*this.level.hashCode()+Objects.hashCode(this.pattern);
+		}
+		@Override
+		public boolean equals(final Object _other) {
+			return (_other instanceof DuplicateKey)
+					&&(this.level==((DuplicateKey)_other).level)
+					&&(Objects.equals(this.pattern,((DuplicateKey)_other).pattern));
+		}
+	}
+	
+	private final LoggerAdapter delegate;
+	private final long windowNanos;
+	private final long nameHash;
+	private final OccurrenceTable<DuplicateKey> occurrences;
+	private final AtomicLong nextExpiration;
+	private final Consumer<OccurrenceTable.Occurrence<DuplicateKey>> summarizer;
+
+	
+	/**
+	 * Constructor
+	 * @param _delegate decorated logger adapter
+	 * @param _window window duration where duplicates are suppressed
+	 * @param _capacity maximum number of distinct messages tracked at the same time
+	 */
+	public DeduplicatingLoggerAdapter(final LoggerAdapter _delegate,final Duration _window,final int _capacity){
+		if(_delegate==null)
+			throw new NullPointerException("Can not deduplicate null logger adapter");
+		if(_window==null)
+			throw new NullPointerException("Can not deduplicate with null window");
+		this.delegate=_delegate;
+		this.windowNanos=_window.toNanos();
+		this.nameHash=Objects.hashCode(_delegate.getName());
+		this.occurrences=new OccurrenceTable<>(_capacity,this.windowNanos);
+		this.nextExpiration=new AtomicLong(System.nanoTime()+this.windowNanos);
+		this.summarizer=this::summarize;
+	}
+
+	
+	/**
+	 * Returns the decorated logger adapter
+	 * @return decorated logger adapter
+	 */
+	public LoggerAdapter getDelegate() {
+		return delegate;
+	}
+
+	private static boolean matches(final DuplicateKey _key,final Log _log){
+		return (_key.level==_log.getLevel())&&(Objects.equals(_key.pattern,_log.getPattern()));
+	}
+	private static DuplicateKey key(final Log _log){
+		return new DuplicateKey(_log.getLevel(),_log.getPattern());
+	}
+	protected long hash(final Level _level,final String _pattern){
+		long reply=(this.nameHash*31+_level.ordinal())*0x9E3779B97F4A7C15L+Objects.hashCode(_pattern);
+		reply^=(reply>>>33);
+		reply*=0xff51afd7ed558ccdL;
+		reply^=(reply>>>33);
+		return reply;
+	}
+	protected void summarize(final OccurrenceTable.Occurrence<DuplicateKey> _occurrence){
+		final long suppressed=_occurrence.getCount()-1;
+		if(suppressed>0){
+			final DuplicateKey key=_occurrence.getKey();
+			this.delegate.log(LogBean.of(key.level)
+										.message(SUMMARY_PATTERN)
+										.args(suppressed,(System.nanoTime()-_occurrence.getWindowStart())/1_000_000,key.pattern));
+		}
+	}
+	
+	/**
+	 * Forward the summary of all the tracked messages with suppressed duplicates and restart tracking
+	 */
+	public void flush(){
+		this.occurrences.clear(this.summarizer);
+	}
+	/**
+	 * Forward the summary of the expired messages, only one caller per window sweeps the table
+	 * @param _now current time in nanoseconds
+	 */
+	protected void expire(final long _now){
+		final long next=this.nextExpiration.get();
+		if((_now-next>=0)&&(this.nextExpiration.compareAndSet(next,_now+this.windowNanos))){
+			this.occurrences.expire(_now,this.summarizer);
+		}
+	}
+	/**
+	 * Forward the pending summaries
+	 * @see #flush() 
+	 */
+	@Override
+	public void close(){
+		flush();
+	}
+	
+	@Override
+	public String getName() {
+		return this.delegate.getName();
+	}
+
+	@Override
+	public boolean isEnabled(final Level _level) {
+		return this.delegate.isEnabled(_level);
+	}
+
+	@Override
+	public boolean accept(final Level _level) {
+		return this.delegate.accept(_level);
+	}
+
+	@Override
+	public boolean accept(final Log _log) {
+		final long hash=hash(_log.getLevel(),_log.getPattern());
+		final long now=System.nanoTime();
+		expire(now);
+		long hits;
+		do{
+			// Zero hits means the occurrence was removed meanwhile (and summarized), so the log starts a new window
+			hits=this.occurrences.register(hash,_log,DeduplicatingLoggerAdapter::matches,DeduplicatingLoggerAdapter::key,now,this.summarizer)
+										.hit();
+		}while(hits==0);
+		return (hits==1)&&(this.delegate.accept(_log));
+	}
+
+	@Override
+	public void log(final Log _log) {
+		this.delegate.log(_log);
+	}
+	
+	
+	/**
+	 * Decorate the given logger factory to deduplicate the messages of each logger
+	 * @param _factory logger adapter factory to decorate
+	 * @param _window window duration where duplicates are suppressed
+	 * @param _capacity maximum number of distinct messages tracked at the same time per logger
+	 * @return decorated logger factory
+	 */
+	public static Function<String,LoggerAdapter> decorate(final Function<String,LoggerAdapter> _factory,final Duration _window,final int _capacity){
+		return name -> new DeduplicatingLoggerAdapter(_factory.apply(name),_window,_capacity);
+	}
+}
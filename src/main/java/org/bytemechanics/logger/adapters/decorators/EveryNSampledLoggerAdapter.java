@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ * Sampled logger adapter that accepts the first event and then one of each N events
+ * @author afarre
+ * @since 2.3.0
+ */
+public class EveryNSampledLoggerAdapter extends SampledLoggerAdapter{
+
+	private final int every;
+	private final AtomicLong counter;
+
+	
+	/**
+	 * Constructor
+	 * @param _delegate decorated logger adapter
+	 * @param _every number of events per accepted event
+	 */
+	public EveryNSampledLoggerAdapter(final LoggerAdapter _delegate,final int _every){
+		super(_delegate);
+		if(_every<1)
+			throw new IllegalArgumentException("Sampling every must be greater than 0 but was "+_every);
+		this.every=_every;
+		this.counter=new AtomicLong(0);
+	}
+
+	
+	/**
+	 * Returns the number of events per accepted event
+	 * @return events per accepted event
+	 */
+	public int getEvery() {
+		return every;
+	}
+
+	@Override
+	protected boolean accept() {
+		return (this.counter.getAndIncrement()%this.every)==0;
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.DelegatingLog;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.beans.MemoizedMessage;
+import org.bytemechanics.logger.metrics.LatencyHistogram;
+import org.bytemechanics.logger.metrics.LatencyMetrics;
+
+/**
+ * Logger adapter decorator that records the latency distribution of the decorated adapter log(Log) calls and of the message formatting separately.
+ * Histograms are shared by adapter type and level and are named &lt;adapter class name&gt;.&lt;level&gt;.log and &lt;adapter class name&gt;.&lt;level&gt;.format
+ * <br>
+ * Example:
+ * <code>
+ *	final FluentLogger logger=FluentLogger.of("my-logger",InstrumentedLoggerAdapter.decorate(LoggerJSRLoggingImpl::new));
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ * @see LatencyMetrics
+ */
+public class InstrumentedLoggerAdapter implements LoggerAdapter{
+
+	/** Histogram name suffix of the log calls */
+	public static final String LOG_SUFFIX=".log";
+	/** Histogram name suffix of the message formatting */
+	public static final String FORMAT_SUFFIX=".format";
+	
+	private static final class TimedLog extends DelegatingLog{
+		
+		private final LatencyHistogram formatHistogram;
+
+		TimedLog(final Log _log,final LatencyHistogram _formatHistogram){
+			super(_log);
+			this.formatHistogram=_formatHistogram;
+		}
+		
+		private static boolean isRendered(final Supplier<String> _message){
+			return (_message instanceof MemoizedMessage)&&(((MemoizedMessage)_message).isRendered());
+		}
+		private void record(final Supplier<String> _message,final long _start){
+			// Only the call that actually rendered the message is recorded, not memoized messages are rendered on every call
+			if((!(_message instanceof MemoizedMessage))||(isRendered(_message))){
+				this.formatHistogram.record(System.nanoTime()-_start);
+			}
+		}
+		private String format(){
+			final Supplier<String> message=this.log.getMessage();
+			if(isRendered(message)){
+				return message.get();
+			}
+			final long start=System.nanoTime();
+			try{
+				return message.get();
+			}finally{
+				record(message,start);
+			}
+		}
+		
+		@Override
+		public Supplier<String> getMessage() {
+			return this::format;
+		}
+		@Override
+		public void formatTo(final StringBuilder _buffer) {
+			if(isRendered(this.log.getMessage())){
+				this.log.formatTo(_buffer);
+			}else{
+				final long start=System.nanoTime();
+				try{
+					this.log.formatTo(_buffer);
+				}finally{
+					this.formatHistogram.record(System.nanoTime()-start);
+				}
+			}
+		}
+	}
+	
+	private final LoggerAdapter delegate;
+	private final LatencyHistogram[] logHistograms;
+	private final LatencyHistogram[] formatHistograms;
+
+	
+	/**
+	 * Constructor
+	 * @param _delegate decorated logger adapter
+	 */
+	public InstrumentedLoggerAdapter(final LoggerAdapter _delegate){
+		if(_delegate==null)
+			throw new NullPointerException("Can not instrument null logger adapter");
+		this.delegate=_delegate;
+		final LatencyMetrics metrics=LatencyMetrics.getInstance();
+		final String type=_delegate.getClass().getName();
+		final Level[] levels=Level.values();
+		this.logHistograms=new LatencyHistogram[levels.length];
+		this.formatHistograms=new LatencyHistogram[levels.length];
+		for(Level level:levels){
+			this.logHistograms[level.ordinal()]=metrics.histogram(type+'.'+level.name()+LOG_SUFFIX);
+			this.formatHistograms[level.ordinal()]=metrics.histogram(type+'.'+level.name()+FORMAT_SUFFIX);
+		}
+	}
+
+	
+	/**
+	 * Returns the decorated logger adapter
+	 * @return decorated logger adapter
+	 */
+	public LoggerAdapter getDelegate() {
+		return delegate;
+	}
+	
+	@Override
+	public String getName() {
+		return this.delegate.getName();
+	}
+
+	@Override
+	public boolean isEnabled(final Level _level) {
+		return this.delegate.isEnabled(_level);
+	}
+
+	@Override
+	public boolean accept(final Level _level) {
+		return this.delegate.accept(_level);
+	}
+
+	@Override
+	public boolean accept(final Log _log) {
+		return this.delegate.accept(_log);
+	}
+
+	/**
+	 * Log through the decorated adapter recording the call latency, the message formatting latency is recorded separately when the adapter (or its backend) formats the message
+	 * @param _log log to send
+	 */
+	@Override
+	public void log(final Log _log) {
+		final int level=_log.getLevel().ordinal();
+		final long start=System.nanoTime();
+		try{
+			this.delegate.log(new TimedLog(_log,this.formatHistograms[level]));
+		}finally{
+			this.logHistograms[level].record(System.nanoTime()-start);
+		}
+	}
+	
+	
+	/**
+	 * Decorate the given logger factory to instrument each logger
+	 * @param _factory logger adapter factory to decorate
+	 * @return decorated logger factory
+	 */
+	public static Function<String,LoggerAdapter> decorate(final Function<String,LoggerAdapter> _factory){
+		return name -> new InstrumentedLoggerAdapter(_factory.apply(name));
+	}
+}
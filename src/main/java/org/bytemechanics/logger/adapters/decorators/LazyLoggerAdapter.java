@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.util.function.Function;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ * Logger adapter that defers the creation of the underlaying logger adapter until the first level check or log, 
+ * so loggers held in static fields and never used do not instantiate nor register any backend logger.
+ * <br>
+ * The resolved adapter is published through a holder with a final field, so once resolved the steady-state path is a plain field read without volatile nor locking.
+ * Can be enabled for all the FluentLogger instances with the system property fluent.logger.lazy=true
+ * @author afarre
+ * @since 2.3.0
+ * @see LazyLoggerAdapter#LAZY_KEY
+ */
+public class LazyLoggerAdapter implements LoggerAdapter{
+
+	/** System property key to enable the lazy binding of all the FluentLogger instances (disabled by default) */
+	public static final String LAZY_KEY="fluent.logger.lazy";
+	
+	private static final class Holder{
+		
+		private final LoggerAdapter adapter;
+
+		Holder(final LoggerAdapter _adapter){
+			this.adapter=_adapter;
+		}
+	}
+	
+	private final Function<String,LoggerAdapter> factory;
+	private final String name;
+	private Holder holder;
+
+	
+	/**
+	 * Constructor
+	 * @param _factory logger adapter factory to use on first usage
+	 * @param _name logger name
+	 */
+	public LazyLoggerAdapter(final Function<String,LoggerAdapter> _factory,final String _name){
+		if(_factory==null)
+			throw new NullPointerException("Can not defer null logger adapter factory");
+		this.factory=_factory;
+		this.name=_name;
+		this.holder=null;
+	}
+
+	
+	/**
+	 * Returns if the underlaying logger adapter has been already resolved
+	 * @return true if already resolved
+	 */
+	public boolean isResolved(){
+		return this.holder!=null;
+	}
+	/**
+	 * Returns the underlaying logger adapter resolving it if it has not been resolved yet
+	 * @return underlaying logger adapter
+	 */
+	public LoggerAdapter getDelegate(){
+		
+		Holder current=this.holder;
+		
+		if(current==null){
+			synchronized(this){
+				current=this.holder;
+				if(current==null){
+					current=new Holder(this.factory.apply(this.name));
+					this.holder=current;
+				}
+			}
+		}
+		
+		return current.adapter;
+	}
+	
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public boolean isEnabled(final Level _level) {
+		return getDelegate().isEnabled(_level);
+	}
+
+	@Override
+	public boolean accept(final Level _level) {
+		return getDelegate().accept(_level);
+	}
+
+	@Override
+	public boolean accept(final Log _log) {
+		return getDelegate().accept(_log);
+	}
+
+	@Override
+	public boolean isEnabled(final Log _log) {
+		return getDelegate().isEnabled(_log);
+	}
+
+	@Override
+	public void log(final Log _log) {
+		getDelegate().log(_log);
+	}
+	
+	
+	/**
+	 * Check if the lazy binding is enabled for all the FluentLogger instances
+	 * @return true if the system property fluent.logger.lazy is true
+	 * @see LazyLoggerAdapter#LAZY_KEY
+	 */
+	public static boolean isLazyEnabled(){
+		return Boolean.parseBoolean(System.getProperty(LAZY_KEY,"false").trim());
+	}
+	/**
+	 * Decorate the given logger factory to defer the adapter creation until its first usage
+	 * @param _factory logger adapter factory to decorate
+	 * @return decorated logger factory
+	 */
+	public static Function<String,LoggerAdapter> decorate(final Function<String,LoggerAdapter> _factory){
+		return name -> new LazyLoggerAdapter(_factory,name);
+	}
+}
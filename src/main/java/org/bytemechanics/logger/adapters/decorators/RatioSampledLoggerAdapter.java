@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ * Sampled logger adapter that accepts randomly the given ratio of events using the thread local random generator
+ * @author afarre
+ * @since 2.3.0
+ */
+public class RatioSampledLoggerAdapter extends SampledLoggerAdapter{
+
+	private final double ratio;
+
+	
+	/**
+	 * Constructor
+	 * @param _delegate decorated logger adapter
+	 * @param _ratio ratio of events to accept between 0 (none) and 1 (all)
+	 */
+	public RatioSampledLoggerAdapter(final LoggerAdapter _delegate,final double _ratio){
+		super(_delegate);
+		if((_ratio<0d)||(_ratio>1d)||Double.isNaN(_ratio))
+			throw new IllegalArgumentException("Sampling ratio must be between 0 and 1 but was "+_ratio);
+		this.ratio=_ratio;
+	}
+
+	
+	/**
+	 * Returns the sampling ratio
+	 * @return sampling ratio
+	 */
+	public double getRatio() {
+		return ratio;
+	}
+	
+	@Override
+	protected boolean accept() {
+		return ThreadLocalRandom.current().nextDouble()<this.ratio;
+	}
+}
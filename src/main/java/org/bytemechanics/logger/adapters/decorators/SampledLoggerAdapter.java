@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ * Logger adapter decorator that only lets pass a sample of the enabled events.
+ * <br>
+ * isEnabled(Level) is side effect free and only delegates, so guarded logs behave as expected. The sampling decision is taken once per event in accept(Level), before the log is built, so log(Log) only delegates.
+ * @author afarre
+ * @since 2.3.0
+ */
+public abstract class SampledLoggerAdapter implements LoggerAdapter{
+
+	private final LoggerAdapter delegate;
+	private final LongAdder suppressed;
+
+	
+	protected SampledLoggerAdapter(final LoggerAdapter _delegate){
+		if(_delegate==null)
+			throw new NullPointerException("Can not sample null logger adapter");
+		this.delegate=_delegate;
+		this.suppressed=new LongAdder();
+	}
+
+	
+	/**
+	 * Decide if the current event must be accepted, called once per enabled event
+	 * @return true if the current event must be logged
+	 */
+	protected abstract boolean accept();
+
+	/**
+	 * Returns the decorated logger adapter
+	 * @return decorated logger adapter
+	 */
+	public LoggerAdapter getDelegate() {
+		return delegate;
+	}
+	/**
+	 * Returns the number of enabled events suppressed by this sampler
+	 * @return suppressed events
+	 */
+	public long getSuppressed() {
+		return suppressed.sum();
+	}
+
+	@Override
+	public String getName() {
+		return this.delegate.getName();
+	}
+
+	@Override
+	public boolean isEnabled(final Level _level) {
+		return this.delegate.isEnabled(_level);
+	}
+
+	@Override
+	public boolean accept(final Level _level) {
+		if(!accept()){
+			this.suppressed.increment();
+			return false;
+		}
+		return this.delegate.accept(_level);
+	}
+
+	@Override
+	public boolean accept(final Log _log) {
+		return this.delegate.accept(_log);
+	}
+
+	@Override
+	public void log(final Log _log) {
+		this.delegate.log(_log);
+	}
+}
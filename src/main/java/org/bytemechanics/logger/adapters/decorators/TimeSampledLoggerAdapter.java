@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ * Sampled logger adapter that accepts at most one event per period
+ * @author afarre
+ * @since 2.3.0
+ */
+public class TimeSampledLoggerAdapter extends SampledLoggerAdapter{
+
+	private final long periodNanos;
+	private final AtomicLong nextAllowed;
+
+	
+	/**
+	 * Constructor
+	 * @param _delegate decorated logger adapter
+	 * @param _period minimum time between accepted events
+	 */
+	public TimeSampledLoggerAdapter(final LoggerAdapter _delegate,final Duration _period){
+		super(_delegate);
+		if(_period==null)
+			throw new NullPointerException("Can not sample with null period");
+		if(_period.isNegative()||_period.isZero())
+			throw new IllegalArgumentException("Sampling period must be positive but was "+_period);
+		this.periodNanos=_period.toNanos();
+		this.nextAllowed=new AtomicLong(System.nanoTime()-this.periodNanos);
+	}
+
+	
+	/**
+	 * Returns the minimum time between accepted events
+	 * @return sampling period
+	 */
+	public Duration getPeriod() {
+		return Duration.ofNanos(this.periodNanos);
+	}
+
+	@Override
+	protected boolean accept() {
+		final long now=System.nanoTime();
+		final long next=this.nextAllowed.get();
+		return (now-next>=0)&&(this.nextAllowed.compareAndSet(next,now+this.periodNanos));
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.io.ObjectStreamException;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.beans.MemoizedMessage;
+
+/**
+ * Java logging record built directly from a FluentLogger log, keeping the message pattern as raw message and the pattern arguments as parameters.
+ * <br>
+ * Both the message formatting and the source inference are deferred until any handler or formatter asks for them: getMessage() returns the formatted message 
+ * (formatted only once) and getSourceClassName()/getSourceMethodName() walk the stack only on its first call. 
+ * As with any java logging record, handlers that pass the record to another thread must read the source first, otherwise the source is taken from the log itself.
+ * @author afarre
+ * @since 2.3.0
+ */
+final class FluentLogRecord extends LogRecord{
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient Log log;
+	private final transient Set<String> adapterClasses;
+	private transient MemoizedMessage formatted;
+	private transient volatile boolean sourceResolved;
+
+	
+	/**
+	 * Constructor
+	 * @param _level java logging level
+	 * @param _log log to bridge
+	 * @param _adapterClasses class names of the adapter that publishes the record (and this record class), the source is the first not skipped frame after the adapter
+	 */
+	FluentLogRecord(final Level _level,final Log _log,final Set<String> _adapterClasses){
+		super(_level,_log.getPattern());
+		this.log=_log;
+		this.adapterClasses=_adapterClasses;
+		this.formatted=MemoizedMessage.of(_log.getMessage());
+		this.sourceResolved=false;
+		setParameters(_log.getArgs());
+		setThrown(_log.getThrowable().orElse(null));
+	}
+
+	
+	/**
+	 * Returns if the given frame must be skipped to reach the log source
+	 * @param _frame stacktrace frame
+	 * @return true if the frame belongs to the logger itself
+	 */
+	private boolean isSkipped(final StackTraceElement _frame){
+		
+		final String className=_frame.getClassName();
+		
+		return Log.SKIPPED_CLASS_NAMES.contains(className)
+				||className.startsWith(Log.SKIPPED_DECORATORS_PACKAGE)
+				||this.adapterClasses.contains(className);
+	}
+	/**
+	 * Infer the log source, the one already resolved by the log if any, from the current stack if the adapter that publishes this record is still in it, or from the log otherwise
+	 * @return log source
+	 */
+	StackTraceElement inferSource(){
+		
+		if(this.log.isSourceResolved()){
+			return this.log.getSource(this.adapterClasses);
+		}
+		
+		final StackTraceElement[] stack=Thread.currentThread().getStackTrace();
+		int adapterFrame=-1;
+		
+		for(int ic1=0;ic1<stack.length;ic1++){
+			final String className=stack[ic1].getClassName();
+			if((this.adapterClasses.contains(className))&&(!FluentLogRecord.class.getName().equals(className))){
+				adapterFrame=ic1;
+			}
+		}
+		for(int ic1=adapterFrame+1;(adapterFrame>=0)&&(ic1<stack.length);ic1++){
+			if(!isSkipped(stack[ic1])){
+				return stack[ic1];
+			}
+		}
+		
+		return this.log.getSource(this.adapterClasses);
+	}
+	private void resolveSource(){
+		if(!this.sourceResolved){
+			final StackTraceElement source=inferSource();
+			super.setSourceClassName(source.getClassName());
+			super.setSourceMethodName(source.getMethodName());
+			this.sourceResolved=true;
+		}
+	}
+	/**
+	 * Returns if the message looks like a java.text.MessageFormat pattern, in this case java.util.logging.Formatter#formatMessage(LogRecord) would format again the already formatted message with the parameters
+	 * @param _message message to check
+	 * @return true if the message contains an opening brace followed by a digit
+	 */
+	static boolean isMessageFormatLike(final String _message){
+		
+		if(_message!=null){
+			for(int index=_message.indexOf('{');(index>=0)&&(index+1<_message.length());index=_message.indexOf('{',index+1)){
+				if(Character.isDigit(_message.charAt(index+1))){
+					return true;
+				}
+			}
+		}
+		
+		return false;
+	}
+	
+	/** 
+	 * Returns the formatted message, formatted only on the first call
+	 * @see LogRecord#getMessage() 
+	 */
+	@Override
+	public String getMessage() {
+		return (this.formatted!=null)? this.formatted.get() : super.getMessage();
+	}
+	/** @see LogRecord#setMessage(java.lang.String) */
+	@Override
+	public void setMessage(final String _message) {
+		this.formatted=null;
+		super.setMessage(_message);
+	}
+	/** 
+	 * Returns the message pattern arguments, or null once the message has been formatted if it looks like a MessageFormat pattern
+	 * @see LogRecord#getParameters() 
+	 */
+	@Override
+	public Object[] getParameters() {
+		
+		final Object[] reply=super.getParameters();
+		final MemoizedMessage message=this.formatted;
+		
+		return ((reply!=null)&&(message!=null)&&(message.isRendered())&&(isMessageFormatLike(message.get())))? null : reply;
+	}
+	/** @see LogRecord#getSourceClassName() */
+	@Override
+	public String getSourceClassName() {
+		resolveSource();
+		return super.getSourceClassName();
+	}
+	/** @see LogRecord#setSourceClassName(java.lang.String) */
+	@Override
+	public void setSourceClassName(final String _sourceClassName) {
+		this.sourceResolved=true;
+		super.setSourceClassName(_sourceClassName);
+	}
+	/** @see LogRecord#getSourceMethodName() */
+	@Override
+	public String getSourceMethodName() {
+		resolveSource();
+		return super.getSourceMethodName();
+	}
+	/** @see LogRecord#setSourceMethodName(java.lang.String) */
+	@Override
+	public void setSourceMethodName(final String _sourceMethodName) {
+		this.sourceResolved=true;
+		super.setSourceMethodName(_sourceMethodName);
+	}
+	
+	/**
+	 * Serialize as a plain log record with the formatted message and the resolved source
+	 * @return plain log record
+	 * @throws ObjectStreamException never
+	 */
+	private Object writeReplace() throws ObjectStreamException{
+		
+		final LogRecord reply=new LogRecord(getLevel(),getMessage());
+		
+		reply.setLoggerName(getLoggerName());
+		reply.setMillis(getMillis());
+		reply.setSequenceNumber(getSequenceNumber());
+		reply.setThreadID(getThreadID());
+		reply.setSourceClassName(getSourceClassName());
+		reply.setSourceMethodName(getSourceMethodName());
+		reply.setThrown(getThrown());
+		
+		return reply;
+	}
+}
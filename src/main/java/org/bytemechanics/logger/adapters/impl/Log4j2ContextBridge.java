@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.logging.log4j.ThreadContext;
+
+/**
+ * Bridge between the log context snapshot and the log4j2 ThreadContext, only loaded by the log4j2 adapters
+ * @author afarre
+ * @since 2.3.0
+ */
+final class Log4j2ContextBridge {
+
+	private Log4j2ContextBridge(){}
+	
+	
+	/**
+	 * Put the given _context into ThreadContext
+	 * @param _context log context snapshot
+	 * @return previous values of the replaced keys (null if not existed) to restore with pop or null if the context is empty
+	 */
+	static Map<String,String> push(final Map<String,String> _context){
+		
+		Map<String,String> reply=null;
+		
+		if(!_context.isEmpty()){
+			reply=new HashMap<>(_context.size()*2);
+			for(Map.Entry<String,String> entry:_context.entrySet()){
+				reply.put(entry.getKey(),ThreadContext.get(entry.getKey()));
+				ThreadContext.put(entry.getKey(),entry.getValue());
+			}
+		}
+		
+		return reply;
+	}
+	/**
+	 * Restore the given _previous values into ThreadContext
+	 * @param _previous values returned by push
+	 */
+	static void pop(final Map<String,String> _previous){
+		if(_previous!=null){
+			for(Map.Entry<String,String> entry:_previous.entrySet()){
+				if(entry.getValue()==null){
+					ThreadContext.remove(entry.getKey());
+				}else{
+					ThreadContext.put(entry.getKey(),entry.getValue());
+				}
+			}
+		}
+	}
+}
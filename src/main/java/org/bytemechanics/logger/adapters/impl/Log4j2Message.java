@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.util.Arrays;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.bytemechanics.logger.adapters.Log;
+
+/**
+ * Log4j2 message bridge carrying the FluentLogger message pattern and arguments, so log4j2 renders the log message only when it's written (StringBuilderFormattable) 
+ * and its garbage-free and async loggers can copy the message without rendering it on the caller thread (ReusableMessage).
+ * The message is always rendered by the log itself (Log#formatTo), directly into the log4j2 buffer unless another adapter already rendered it.
+ * <br>
+ * One instance is reused per thread between acquire and release, if it's already in use (logging while formatting a message argument) a new instance is used instead.
+ * @author afarre
+ * @since 2.3.0
+ */
+final class Log4j2Message implements ReusableMessage{
+
+	private static final long serialVersionUID = 1L;
+	private static final Object[] EMPTY_ARGS=new Object[0];
+	private static final ThreadLocal<Log4j2Message> CURRENT=ThreadLocal.withInitial(() -> new Log4j2Message(true));
+	
+	private final boolean reusable;
+	private transient Log log;
+	private transient Object[] args;
+	private transient boolean reserved;
+
+	
+	private Log4j2Message(final boolean _reusable){
+		this.reusable=_reusable;
+		this.log=null;
+		this.args=EMPTY_ARGS;
+		this.reserved=false;
+	}
+	private Log4j2Message(final Log _log){
+		this(false);
+		bind(_log);
+	}
+
+	
+	private void bind(final Log _log){
+		this.log=_log;
+		this.args=_log.getArgs();
+		this.reserved=true;
+	}
+	
+	/**
+	 * Acquire the message of the current thread bound to the given _log
+	 * @param _log log to bridge
+	 * @return reusable message bound to the log
+	 */
+	static Log4j2Message acquire(final Log _log){
+		
+		Log4j2Message reply=CURRENT.get();
+		
+		if(reply.reserved){
+			reply=new Log4j2Message(false);
+		}
+		reply.bind(_log);
+		
+		return reply;
+	}
+	/**
+	 * Release the message after its usage, discarding any reference to the bridged log
+	 */
+	void release(){
+		this.log=null;
+		this.args=EMPTY_ARGS;
+		this.reserved=false;
+	}
+	/**
+	 * Returns if this instance is reused between logs of the same thread
+	 * @return true if reusable
+	 */
+	boolean isReusable() {
+		return reusable;
+	}
+	
+	/** @see org.apache.logging.log4j.util.StringBuilderFormattable#formatTo(java.lang.StringBuilder) */
+	@Override
+	public void formatTo(final StringBuilder _buffer) {
+		if(this.log!=null){
+			this.log.formatTo(_buffer);
+		}
+	}
+	/** @see Message#getFormattedMessage() */
+	@Override
+	public String getFormattedMessage() {
+		return (this.log!=null)? this.log.getMessage().get() : null;
+	}
+	/** @see Message#getFormat() */
+	@Override
+	public String getFormat() {
+		return (this.log!=null)? this.log.getPattern() : null;
+	}
+	/** @see Message#getParameters() */
+	@Override
+	public Object[] getParameters() {
+		return (this.args!=null)? this.args : EMPTY_ARGS;
+	}
+	/** @see Message#getThrowable() */
+	@Override
+	public Throwable getThrowable() {
+		return (this.log!=null)? this.log.getThrowable().orElse(null) : null;
+	}
+	/** @see ReusableMessage#swapParameters(java.lang.Object[]) */
+	@Override
+	public Object[] swapParameters(final Object[] _emptyReplacement) {
+		
+		// The arguments are copied because they belong to the log and can be shared with other adapters
+		final Object[] parameters=getParameters();
+		final Object[] reply=((_emptyReplacement!=null)&&(_emptyReplacement.length>=parameters.length))? _emptyReplacement : new Object[parameters.length];
+		System.arraycopy(parameters,0,reply,0,parameters.length);
+		
+		return reply;
+	}
+	/** @see ReusableMessage#getParameterCount() */
+	@Override
+	public short getParameterCount() {
+		return (short)getParameters().length;
+	}
+	/** @see ReusableMessage#memento() */
+	@Override
+	public Message memento() {
+		return (this.log!=null)? new Log4j2Message(this.log) : new SimpleMessage("");
+	}
+	
+	private Object writeReplace(){
+		return new SimpleMessage(getFormattedMessage());
+	}
+
+	/** @see Object#toString() */
+	@Override
+	public String toString() {
+		return "Log4j2Message{" + "pattern=" + getFormat() + ", args=" + Arrays.toString(getParameters()) + '}';
+	}
+}
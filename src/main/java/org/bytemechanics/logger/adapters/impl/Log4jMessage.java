@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.util.function.Supplier;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.beans.MemoizedMessage;
+
+/**
+ * Log4j message object that defers the message formatting until log4j renders it (toString()), so the events filtered by every appender are never formatted.
+ * Once rendered the message is cached and any later render returns the same string.
+ * @author afarre
+ * @since 2.3.0
+ */
+final class Log4jMessage {
+
+	private final MemoizedMessage message;
+
+	
+	private Log4jMessage(final Supplier<String> _message){
+		this.message=MemoizedMessage.of(_message);
+	}
+
+	
+	/**
+	 * Message object bound to the given _log that formats the log message on the first render
+	 * @param _log log to bridge
+	 * @return deferred message object
+	 */
+	static Log4jMessage of(final Log _log){
+		return new Log4jMessage(_log.getMessage());
+	}
+
+	/**
+	 * Returns if the message has been already rendered
+	 * @return true if the message is cached
+	 */
+	boolean isRendered(){
+		return this.message.isRendered();
+	}
+	
+	/** 
+	 * Render the message, only formatted the first time
+	 * @see Object#toString() 
+	 */
+	@Override
+	public String toString() {
+		return this.message.get();
+	}
+}
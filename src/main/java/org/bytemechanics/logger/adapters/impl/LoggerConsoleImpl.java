@@ -15,26 +15,58 @@
  */
 package org.bytemechanics.logger.adapters.impl;
 
+import java.io.PrintStream;
 import org.bytemechanics.logger.Level;
 import org.bytemechanics.logger.adapters.Log;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
 import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
+import org.bytemechanics.logger.layouts.Layout;
+import org.bytemechanics.logger.layouts.LayoutBuffer;
+import org.bytemechanics.logger.layouts.ThrowableRenderer;
+import org.bytemechanics.logger.levels.LevelTree;
 
 /**
- * Standard output logger adapter (intended to use only as backup)
+ * Standard output logger adapter (intended to use only as backup). 
+ * Enabled levels are INFO and above unless other level is configured for this logger name or any ancestor in the default level tree
  * @author afarre
  * @since 2.1.0
+ * @see LevelTree
  */
 public class LoggerConsoleImpl implements LoggerAdapter {
 
 	private static final String PATTERN ="{} [{}] ({}): {}";
+	private static final ThreadLocal<LayoutBuffer> BUFFER=ThreadLocal.withInitial(LayoutBuffer::new);
+	private static final ThrowableRenderer THROWABLE_RENDERER=new ThrowableRenderer();
 
 	
 	private final String logName;
+	private final Layout layout;
+	private final LevelTree.Node levels;
 
 	
 	public LoggerConsoleImpl(final String _logName) {
+		this(_logName,null);
+	}
+	/**
+	 * Constructor with layout to encode logs directly as bytes into the console streams
+	 * @param _logName logger name
+	 * @param _layout layout to use or null to use the default text format
+	 * @since 2.3.0
+	 */
+	public LoggerConsoleImpl(final String _logName,final Layout _layout) {
+		this(_logName,_layout,LevelTree.getDefault());
+	}
+	/**
+	 * Constructor with layout and level tree
+	 * @param _logName logger name
+	 * @param _layout layout to use or null to use the default text format
+	 * @param _levels level tree where resolve the enabled levels of this logger name
+	 * @since 2.3.0
+	 */
+	public LoggerConsoleImpl(final String _logName,final Layout _layout,final LevelTree _levels) {
 		this.logName = _logName;
+		this.layout = _layout;
+		this.levels = _levels.node(_logName);
 	}
 
 	protected String getMessage(final Log _log){
@@ -48,23 +80,37 @@ public class LoggerConsoleImpl implements LoggerAdapter {
 
 	@Override
 	public boolean isEnabled(final Level _level) {
-		return Level.INFO.index<=_level.index;
+		return this.levels.isEnabled(_level,Level.INFO.index<=_level.index);
 	}
 	
 	@Override
 	public void log(final Log _log) {
 		
-		final String message=getMessage(_log);
+		final PrintStream stream;
 		
 		switch (_log.getLevel()) {
 			case CRITICAL:
-				System.err.println(message);
+				stream=System.err;
 				break;
 			case ERROR:
-				System.err.println(message);
+				stream=System.err;
 				break;
 			default:
-				System.out.println(message);
+				stream=System.out;
+		}
+		if(this.layout==null){
+			stream.println(getMessage(_log));
+			final Throwable throwable=_log.getThrowable()
+											.orElse(null);
+			if(throwable!=null){
+				final LayoutBuffer buffer=BUFFER.get().reset();
+				THROWABLE_RENDERER.render(throwable,buffer);
+				buffer.writeTo(stream);
+			}
+		}else{
+			final LayoutBuffer buffer=BUFFER.get().reset();
+			this.layout.encode(this.logName,_log,buffer);
+			buffer.writeTo(stream);
 		}
 	}
 }
@@ -18,6 +18,7 @@ package org.bytemechanics.logger.adapters.impl;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -25,7 +26,9 @@ import org.bytemechanics.logger.adapters.Log;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
 
 /**
- * Standard java logging API implementation
+ * Standard java logging API implementation. 
+ * <br>
+ * Each log is published as a log record built directly from the log, that formats the message and infers the source only when a handler or formatter asks for them.
  * @see <a href="https://docs.oracle.com/javase/7/docs/technotes/guides/logging/index.html">https://docs.oracle.com/javase/7/docs/technotes/guides/logging/index.html</a>
  * @author afarre
  * @since 2.1.0
@@ -33,7 +36,7 @@ import org.bytemechanics.logger.adapters.LoggerAdapter;
 public class LoggerJSRLoggingImpl implements LoggerAdapter {
 
 	private static final Level[] LEVEL_TRANSLATION = {Level.FINEST, Level.FINER, Level.FINE, Level.INFO, Level.WARNING, Level.SEVERE, Level.SEVERE};
-	private static final Set<String> SKIPPED_CLASS_NAMES = Stream.of(LoggerJSRLoggingImpl.class.getName())
+	private static final Set<String> SKIPPED_CLASS_NAMES = Stream.of(LoggerJSRLoggingImpl.class.getName(),FluentLogRecord.class.getName())
 																	.collect(Collectors.toSet());
 
 	
@@ -67,8 +70,8 @@ public class LoggerJSRLoggingImpl implements LoggerAdapter {
 	}
 	@Override
 	public void log(final Log _log) {
-		final StackTraceElement stack=_log.getSource(SKIPPED_CLASS_NAMES);
-		final Level level=translateLevel(_log.getLevel());
-		this.internalLogger.logp(level,stack.getClassName(),stack.getMethodName(),_log.getThrowable().orElse(null),_log.getMessage());
+		final LogRecord record=new FluentLogRecord(translateLevel(_log.getLevel()),_log,SKIPPED_CLASS_NAMES);
+		record.setLoggerName(this.internalLogger.getName());
+		this.internalLogger.log(record);
 	}
 }
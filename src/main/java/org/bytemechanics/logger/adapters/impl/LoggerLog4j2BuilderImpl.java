@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.util.Map;
+import java.util.Optional;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ * Logger adapter Log4j 2 implementation using LogBuilder (log4j2 2.13 or later). The log source already resolved by a decorator (async or publisher adapters) 
+ * is given to log4j2 as location, so log4j2 never walks the stack to compute it again and the location never points to the consumer thread.
+ * Otherwise the log is written with the FluentLogger FQCN and log4j2 resolves the location lazily, only if its configuration requires it.
+ * <br>
+ * This provider is never probed, it must be selected explicitly.
+ * <code>
+ *	final FluentLogger logger=FluentLogger.of(MyClass.class,LoggerAPIProvider.LOG4J2B);
+ * </code>
+ * @see <a href="https://logging.apache.org/log4j/2.x/">https://logging.apache.org/log4j/2.x/</a>
+ * @author afarre
+ * @since 2.3.0
+ */
+public class LoggerLog4j2BuilderImpl implements LoggerAdapter {
+
+	private static final Level[] LEVEL_TRANSLATION = {Level.TRACE, Level.DEBUG, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR, Level.FATAL};
+	private static final String FQCN=FluentLogger.class.getName();
+
+	
+	private final Logger internalLogger;
+
+	
+	public LoggerLog4j2BuilderImpl(final String _logName) {
+		this(LogManager.getLogger(_logName));
+	}
+	public LoggerLog4j2BuilderImpl(final Logger _logger) {
+		this.internalLogger = _logger;
+	}
+
+	protected Level translateLevel(org.bytemechanics.logger.Level _level){
+		return LEVEL_TRANSLATION[_level.index];
+	}
+
+	@Override
+	public String getName() {
+		return this.internalLogger.getName();
+	}
+
+	@Override
+	public boolean isEnabled(org.bytemechanics.logger.Level _level) {
+		return Optional.of(_level)
+						.map(this::translateLevel)
+						.map(this.internalLogger::isEnabled)
+						.orElse(false);
+	}
+	@Override
+	public void log(final Log _log) {
+		final Level level=translateLevel(_log.getLevel());
+		final Map<String,String> previous=Log4j2ContextBridge.push(_log.getContext());
+		final Log4j2Message message=Log4j2Message.acquire(_log);
+		try{
+			if(_log.isSourceResolved()){
+				this.internalLogger.atLevel(level)
+									.withLocation(_log.getSource())
+									.withThrowable(message.getThrowable())
+									.log(message);
+			}else if(this.internalLogger instanceof ExtendedLogger){
+				((ExtendedLogger)this.internalLogger).logIfEnabled(FQCN,level,null,message,message.getThrowable());
+			}else{
+				this.internalLogger.log(level,message,message.getThrowable());
+			}
+		}finally{
+			message.release();
+			Log4j2ContextBridge.pop(previous);
+		}
+	}
+}
@@ -15,20 +15,19 @@
  */
 package org.bytemechanics.logger.adapters.impl;
 
+import java.util.Map;
 import java.util.Optional;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.message.SimpleMessage;
 import org.apache.logging.log4j.spi.AbstractLogger;
 import org.apache.logging.log4j.spi.ExtendedLoggerWrapper;
-import org.apache.logging.log4j.util.MessageSupplier;
 import org.bytemechanics.logger.FluentLogger;
 import org.bytemechanics.logger.adapters.Log;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
 
 /**
- * Logger adapter Log4j 2 alternative implementation using log4j2 extensions
+ * Logger adapter Log4j 2 alternative implementation using log4j2 extensions, the logs are bridged as reusable messages formatted only when written
  * @see <a href="https://logging.apache.org/log4j/2.x/">https://logging.apache.org/log4j/2.x/</a>
  * @author afarre
  * @since 2.1.0
@@ -58,7 +57,13 @@ public class LoggerLog4j2Extension extends ExtendedLoggerWrapper implements Logg
 	@Override
 	public void log(final Log _log) {
 		final Level level=translateLevel(_log.getLevel());
-                final MessageSupplier messageSupplier=() -> new SimpleMessage(_log.getMessage().get());
-		logIfEnabled(FluentLogger.class.getName(),level,null,messageSupplier,_log.getThrowable().orElse(null));
+		final Map<String,String> previous=Log4j2ContextBridge.push(_log.getContext());
+		final Log4j2Message message=Log4j2Message.acquire(_log);
+		try{
+			logIfEnabled(FluentLogger.class.getName(),level,null,message,message.getThrowable());
+		}finally{
+			message.release();
+			Log4j2ContextBridge.pop(previous);
+		}
 	}
 }
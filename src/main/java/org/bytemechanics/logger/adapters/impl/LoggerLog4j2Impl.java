@@ -15,15 +15,19 @@
  */
 package org.bytemechanics.logger.adapters.impl;
 
+import java.util.Map;
 import java.util.Optional;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.bytemechanics.logger.FluentLogger;
 import org.bytemechanics.logger.adapters.Log;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
 
 /**
- * Logger adapter Log4j 2 implementation
+ * Logger adapter Log4j 2 implementation, the logs are bridged as reusable messages formatted by log4j2 only when written.
+ * The logs are written with the FluentLogger FQCN, so log4j2 resolves the caller location lazily, only if its configuration requires it
  * @see <a href="https://logging.apache.org/log4j/2.x/">https://logging.apache.org/log4j/2.x/</a>
  * @author afarre
  * @since 2.1.0
@@ -31,6 +35,7 @@ import org.bytemechanics.logger.adapters.LoggerAdapter;
 public class LoggerLog4j2Impl implements LoggerAdapter {
 
 	private static final Level[] LEVEL_TRANSLATION = {Level.TRACE, Level.DEBUG, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR, Level.FATAL};
+	private static final String FQCN=FluentLogger.class.getName();
 
 	
 	private final Logger internalLogger;
@@ -62,6 +67,17 @@ public class LoggerLog4j2Impl implements LoggerAdapter {
 	@Override
 	public void log(final Log _log) {
 		final Level level=translateLevel(_log.getLevel());
-		this.internalLogger.log(level,_log.getMessage(),_log.getThrowable().orElse(null));
+		final Map<String,String> previous=Log4j2ContextBridge.push(_log.getContext());
+		final Log4j2Message message=Log4j2Message.acquire(_log);
+		try{
+			if(this.internalLogger instanceof ExtendedLogger){
+				((ExtendedLogger)this.internalLogger).logIfEnabled(FQCN,level,null,message,message.getThrowable());
+			}else{
+				this.internalLogger.log(level,message,message.getThrowable());
+			}
+		}finally{
+			message.release();
+			Log4j2ContextBridge.pop(previous);
+		}
 	}
 }
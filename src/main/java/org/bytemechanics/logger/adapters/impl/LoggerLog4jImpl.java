@@ -15,15 +15,21 @@
  */
 package org.bytemechanics.logger.adapters.impl;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
+import org.apache.log4j.MDC;
 import org.bytemechanics.logger.FluentLogger;
 import org.bytemechanics.logger.adapters.Log;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
 
 /**
- * Logger adapter Log4j implementation
+ * Logger adapter Log4j implementation. 
+ * <br>
+ * The message is given to log4j as a deferred message object formatted only when log4j renders it, so it's never formatted if no appender writes it. 
+ * Log4j AsyncAppender renders the message on the caller thread before enqueue it, so the message never leaves the application thread unrendered.
  * @see <a href="https://logging.apache.org/log4j/1.2/">https://logging.apache.org/log4j/1.2/</a>
  * @author afarre
  * @since 2.1.0
@@ -59,9 +65,51 @@ public class LoggerLog4jImpl implements LoggerAdapter {
 						.map(this.internalLogger::isEnabledFor)
 						.orElse(false);
 	}
+	/**
+	 * Put the given _context into log4j MDC
+	 * @param _context log context snapshot
+	 * @return previous values of the replaced keys (null if not existed) or null if the context is empty
+	 * @since 2.3.0
+	 */
+	protected Map<String,Object> pushContext(final Map<String,String> _context){
+		
+		Map<String,Object> reply=null;
+		
+		if(!_context.isEmpty()){
+			reply=new HashMap<>(_context.size()*2);
+			for(Map.Entry<String,String> entry:_context.entrySet()){
+				reply.put(entry.getKey(),MDC.get(entry.getKey()));
+				MDC.put(entry.getKey(),entry.getValue());
+			}
+		}
+		
+		return reply;
+	}
+	/**
+	 * Restore the given _previous values into log4j MDC
+	 * @param _previous values returned by pushContext
+	 * @since 2.3.0
+	 */
+	protected void popContext(final Map<String,Object> _previous){
+		if(_previous!=null){
+			for(Map.Entry<String,Object> entry:_previous.entrySet()){
+				if(entry.getValue()==null){
+					MDC.remove(entry.getKey());
+				}else{
+					MDC.put(entry.getKey(),entry.getValue());
+				}
+			}
+		}
+	}
+	
 	@Override
 	public void log(final Log _log) {
 		final Level level=translateLevel(_log.getLevel());
-		this.internalLogger.log(FluentLogger.class.getName(),level,_log.getMessage().get(),_log.getThrowable().orElse(null));
+		final Map<String,Object> previous=pushContext(_log.getContext());
+		try{
+			this.internalLogger.log(FluentLogger.class.getName(),level,Log4jMessage.of(_log),_log.getThrowable().orElse(null));
+		}finally{
+			popContext(previous);
+		}
 	}
 }
@@ -18,16 +18,20 @@ package org.bytemechanics.logger.adapters.impl;
 import org.bytemechanics.logger.Level;
 import org.bytemechanics.logger.adapters.Log;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.levels.LevelTree;
 
 /**
- * Maven plugin log adapter
+ * Maven plugin log adapter. 
+ * Enabled levels are the ones enabled by the underlaying logger, restricted by the level configured for this logger name or any ancestor in the default level tree
  * @author afarre
  * @since 2.2.0
+ * @see LevelTree
  */
 public class LoggerMavenPluginImpl implements LoggerAdapter{
 
 	private final String name;
 	private final org.apache.maven.plugin.logging.Log underlayingLog;
+	private final LevelTree.Node levels;
 	
 	
 	/**
@@ -37,8 +41,20 @@ public class LoggerMavenPluginImpl implements LoggerAdapter{
 	 * @see org.apache.maven.plugin.logging.Log
 	 */
 	public LoggerMavenPluginImpl(final String _name,final org.apache.maven.plugin.logging.Log _log){
+		this(_name,_log,LevelTree.getDefault());
+	}
+	/**
+	 * Constructor receives name, the underlaying logger and the level tree
+	 * @param _name logger name
+	 * @param _log underlaying logger
+	 * @param _levels level tree where resolve the enabled levels of this logger name
+	 * @see org.apache.maven.plugin.logging.Log
+	 * @since 2.3.0
+	 */
+	public LoggerMavenPluginImpl(final String _name,final org.apache.maven.plugin.logging.Log _log,final LevelTree _levels){
 		this.name=_name;
 		this.underlayingLog=_log;
+		this.levels=_levels.node(_name);
 	}
 
 	/**
@@ -59,6 +75,9 @@ public class LoggerMavenPluginImpl implements LoggerAdapter{
 	@Override
 	public boolean isEnabled(final Level _level) {
 		
+		if(!this.levels.isEnabled(_level,true))
+			return false;
+		
 		boolean reply;
 		
 		switch(_level){
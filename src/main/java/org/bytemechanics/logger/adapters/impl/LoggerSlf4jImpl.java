@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LocationAwareLogger;
+
+/**
+ * Logger adapter SLF4J implementation (SLF4J 1.7.15 or later), also used for Logback as it's its native API. 
+ * <br>
+ * The message pattern and arguments are given to SLF4J without formatting, so the message is formatted by the backend only if the log is written. 
+ * If the backend logger is location aware (as Logback) the log is written with the FluentLogger class as boundary, so the location computed by the backend is the FluentLogger caller.
+ * @see <a href="https://www.slf4j.org/">https://www.slf4j.org/</a>
+ * @see <a href="https://logback.qos.ch/">https://logback.qos.ch/</a>
+ * @author afarre
+ * @since 2.3.0
+ */
+public class LoggerSlf4jImpl implements LoggerAdapter {
+
+	private static final Level[] LEVEL_TRANSLATION = {Level.TRACE, Level.DEBUG, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR, Level.ERROR};
+	private static final Object[] EMPTY_ARGS = new Object[0];
+
+	
+	private final Logger internalLogger;
+
+	
+	public LoggerSlf4jImpl(final String _logName) {
+		this(LoggerFactory.getLogger(_logName));
+	}
+	public LoggerSlf4jImpl(final Logger _logger) {
+		this.internalLogger = _logger;
+	}
+
+	protected Level translateLevel(org.bytemechanics.logger.Level _level){
+		return LEVEL_TRANSLATION[_level.index];
+	}
+
+	@Override
+	public String getName() {
+		return this.internalLogger.getName();
+	}
+
+	protected boolean isEnabled(final Level _level) {
+		switch(_level){
+			case TRACE:	return this.internalLogger.isTraceEnabled();
+			case DEBUG:	return this.internalLogger.isDebugEnabled();
+			case INFO:	return this.internalLogger.isInfoEnabled();
+			case WARN:	return this.internalLogger.isWarnEnabled();
+			default:	return this.internalLogger.isErrorEnabled();
+		}
+	}
+	@Override
+	public boolean isEnabled(org.bytemechanics.logger.Level _level) {
+		return Optional.of(_level)
+						.map(this::translateLevel)
+						.map(this::isEnabled)
+						.orElse(false);
+	}
+	/**
+	 * Put the given _context into SLF4J MDC
+	 * @param _context log context snapshot
+	 * @return previous values of the replaced keys (null if not existed) or null if the context is empty
+	 */
+	protected Map<String,String> pushContext(final Map<String,String> _context){
+		
+		Map<String,String> reply=null;
+		
+		if(!_context.isEmpty()){
+			reply=new HashMap<>(_context.size()*2);
+			for(Map.Entry<String,String> entry:_context.entrySet()){
+				reply.put(entry.getKey(),MDC.get(entry.getKey()));
+				MDC.put(entry.getKey(),entry.getValue());
+			}
+		}
+		
+		return reply;
+	}
+	/**
+	 * Restore the given _previous values into SLF4J MDC
+	 * @param _previous values returned by pushContext
+	 */
+	protected void popContext(final Map<String,String> _previous){
+		if(_previous!=null){
+			for(Map.Entry<String,String> entry:_previous.entrySet()){
+				if(entry.getValue()==null){
+					MDC.remove(entry.getKey());
+				}else{
+					MDC.put(entry.getKey(),entry.getValue());
+				}
+			}
+		}
+	}
+	/**
+	 * Write through the SLF4J parameterized API, SLF4J uses the last argument as throwable if it's not consumed by the message pattern
+	 * @param _level translated level
+	 * @param _pattern message pattern
+	 * @param _args pattern arguments including the throwable as last argument if any
+	 */
+	protected void log(final Level _level,final String _pattern,final Object[] _args){
+		switch(_level){
+			case TRACE:	this.internalLogger.trace(_pattern,_args);
+						break;
+			case DEBUG:	this.internalLogger.debug(_pattern,_args);
+						break;
+			case INFO:	this.internalLogger.info(_pattern,_args);
+						break;
+			case WARN:	this.internalLogger.warn(_pattern,_args);
+						break;
+			default:	this.internalLogger.error(_pattern,_args);
+		}
+	}
+	
+	/**
+	 * Write an already formatted message through the SLF4J API
+	 * @param _level translated level
+	 * @param _message formatted message
+	 * @param _throwable throwable or null
+	 */
+	protected void log(final Level _level,final String _message,final Throwable _throwable){
+		switch(_level){
+			case TRACE:	this.internalLogger.trace(_message,_throwable);
+						break;
+			case DEBUG:	this.internalLogger.debug(_message,_throwable);
+						break;
+			case INFO:	this.internalLogger.info(_message,_throwable);
+						break;
+			case WARN:	this.internalLogger.warn(_message,_throwable);
+						break;
+			default:	this.internalLogger.error(_message,_throwable);
+		}
+	}
+	
+	@Override
+	public void log(final Log _log) {
+		final Level level=translateLevel(_log.getLevel());
+		final Object[] args=_log.getArgs();
+		final String pattern=(args!=null)? _log.getPattern() : _log.getMessage().get();
+		final Throwable throwable=_log.getThrowable().orElse(null);
+		final Map<String,String> previous=pushContext(_log.getContext());
+		try{
+			if(this.internalLogger instanceof LocationAwareLogger){
+				((LocationAwareLogger)this.internalLogger).log(null,FluentLogger.class.getName(),level.toInt(),pattern,(args!=null)? args : EMPTY_ARGS,throwable);
+			}else if(args==null){
+				log(level,pattern,throwable);
+			}else if(throwable!=null){
+				final Object[] argsWithThrowable=new Object[args.length+1];
+				System.arraycopy(args,0,argsWithThrowable,0,args.length);
+				argsWithThrowable[args.length]=throwable;
+				log(level,pattern,argsWithThrowable);
+			}else{
+				log(level,pattern,args);
+			}
+		}finally{
+			popContext(previous);
+		}
+	}
+}
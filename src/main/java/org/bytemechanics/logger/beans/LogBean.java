@@ -18,7 +18,10 @@ package org.bytemechanics.logger.beans;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -26,6 +29,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.bytemechanics.logger.Level;
 import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.context.LogContext;
 import org.bytemechanics.logger.internal.commons.lang.ArrayUtils;
 import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
 import org.bytemechanics.logger.internal.factory.utils.LoggerReflectionUtils;
@@ -37,20 +41,44 @@ import org.bytemechanics.logger.internal.factory.utils.LoggerReflectionUtils;
  */
 public class LogBean implements Log{
 
+	private static final String PLACEHOLDER="{}";
+
 	private final LocalDateTime time;
 	private final Level level;
 	private final List<String> message;
 	private final List<Object[]> args;
+	private Map<String,Object> fields;
+	private final Map<String,String> context;
+	private final MemoizedMessage formatted;
+	private String pattern;
+	private Object[] flattenArgs;
 	
 
 	protected LogBean(final Level _level) {
 		this(_level,LocalDateTime.now(),new ArrayList<>(),new ArrayList<>());
 	}
 	protected LogBean(final Level _level,final LocalDateTime _time,final List<String> _message,final List<Object[]> _args) {
+		this(_level,_time,_message,_args,null);
+	}
+	protected LogBean(final Level _level,final LocalDateTime _time,final List<String> _message,final List<Object[]> _args,final Map<String,Object> _fields) {
+		this(_level,_time,_message,_args,_fields,LogContext.current());
+	}
+	protected LogBean(final Level _level,final LocalDateTime _time,final List<String> _message,final List<Object[]> _args,final Map<String,Object> _fields,final Map<String,String> _context) {
 		this.time=_time;
 		this.level=_level;
 		this.message=_message;
 		this.args=_args;
+		this.fields=_fields;
+		this.context=_context;
+		this.formatted=new MemoizedMessage(this::format);
+		this.pattern=null;
+		this.flattenArgs=null;
+	}
+
+	private void reset(){
+		this.pattern=null;
+		this.flattenArgs=null;
+		this.formatted.reset();
 	}
 
 	/**
@@ -60,6 +88,7 @@ public class LogBean implements Log{
 	 */
 	public LogBean message(final String _message) {
 		this.message.add(_message);
+		reset();
 		return this;
 	}
 	/**
@@ -70,16 +99,31 @@ public class LogBean implements Log{
 	public LogBean args(final Object... _args) {
 		this.args.add(Optional.ofNullable(_args)
 						  .orElse(new Object[]{null}));
+		reset();
 
 		  return this;
 	}
+	/**
+	 * Add a structured field to the log
+	 * @param _name field name
+	 * @param _value field value
+	 * @return this logBean
+	 * @since 2.3.0
+	 */
+	public LogBean field(final String _name,final Object _value) {
+		if(this.fields==null){
+			this.fields=new LinkedHashMap<>();
+		}
+		this.fields.put(_name,_value);
+		return this;
+	}
 	/**
 	 * Replaces current log time with the given one
 	 * @param _time time to set
 	 * @return new logBean with the new time
 	 */
 	public LogBean time(final LocalDateTime _time) {
-		return new LogBean(this.level, _time, this.message, this.args);
+		return new LogBean(this.level, _time, this.message, this.args, this.fields, this.context);
 	}
 
 	/** @see Log#getTime() */
@@ -94,14 +138,96 @@ public class LogBean implements Log{
 		return level;
 	}
 	
-	/** @see Log#getMessage() */
+	/**
+	 * Append the _pattern to the _buffer replacing each placeholder '{}' by the next of the _args, with the SimpleFormat semantics (missing or null arguments are appended as "null")
+	 * @param _buffer buffer where append
+	 * @param _pattern message pattern
+	 * @param _args arguments to replace
+	 * @return the same _buffer
+	 * @since 2.3.0
+	 */
+	protected static StringBuilder format(final StringBuilder _buffer,final String _pattern,final Object[] _args){
+		
+		int start=0;
+		int argument=0;
+		int placeholder;
+		
+		while((placeholder=_pattern.indexOf(PLACEHOLDER,start))>=0){
+			_buffer.append(_pattern,start,placeholder)
+					.append(((_args!=null)&&(argument<_args.length))? _args[argument] : null);
+			argument++;
+			start=placeholder+PLACEHOLDER.length();
+		}
+		
+		return _buffer.append(_pattern,start,_pattern.length());
+	}
+	/**
+	 * Format the message replacing the arguments
+	 * @return formatted message
+	 * @since 2.3.0
+	 */
+	protected String format(){
+		return format(new StringBuilder(),getPattern(),getArgs()).toString();
+	}
+	
+	/** 
+	 * Appends the message already rendered if any or formats it directly into the _buffer without rendering an intermediate string
+	 * @see Log#formatTo(java.lang.StringBuilder) 
+	 */
+	@Override
+	public void formatTo(final StringBuilder _buffer){
+		if(this.formatted.isRendered()){
+			_buffer.append(this.formatted.get());
+		}else{
+			format(_buffer,getPattern(),getArgs());
+		}
+	}
+	
+	/** 
+	 * The message is formatted only once on the first get() of the returned supplier, until the message or the arguments are modified
+	 * @see Log#getMessage() 
+	 */
 	@Override
 	public Supplier<String> getMessage() {
-		return () -> SimpleFormat.format(this.message.stream()
-											 .collect(Collectors.joining())
-								  ,this.args.stream()
-											 .reduce(ArrayUtils::concat)
-											 .orElse(new Object[0]));
+		return this.formatted;
+	}
+
+	/** 
+	 * The pattern is joined only once, until the message is modified
+	 * @see Log#getPattern() 
+	 */
+	@Override
+	public String getPattern() {
+		
+		String reply=this.pattern;
+		
+		if(reply==null){
+			reply=(this.message.size()==1)? String.valueOf(this.message.get(0)) : this.message.stream()
+																							.map(String::valueOf)
+																							.collect(Collectors.joining());
+			this.pattern=reply;
+		}
+		
+		return reply;
+	}
+
+	/** 
+	 * The arguments are concatenated only once, until the arguments are modified, so the returned array is shared between calls and must not be modified
+	 * @see Log#getArgs() 
+	 */
+	@Override
+	public Object[] getArgs() {
+		
+		Object[] reply=this.flattenArgs;
+		
+		if(reply==null){
+			reply=(this.args.size()==1)? this.args.get(0) : this.args.stream()
+																	.reduce(ArrayUtils::concat)
+																	.orElse(new Object[0]);
+			this.flattenArgs=reply;
+		}
+		
+		return reply;
 	}
 
 	/** @see Log#getThrowable() */
@@ -114,6 +240,18 @@ public class LogBean implements Log{
 						.findFirst();
 	}
 
+	/** @see Log#getFields() */
+	@Override
+	public Map<String,Object> getFields() {
+		return (this.fields==null)? Collections.emptyMap() : Collections.unmodifiableMap(this.fields);
+	}
+
+	/** @see Log#getContext() */
+	@Override
+	public Map<String,String> getContext() {
+		return this.context;
+	}
+
 	/** @see Object#hashCode()  */
 	@Override
 	public int hashCode() {
@@ -127,6 +265,7 @@ public class LogBean implements Log{
 		hash = 41 * hash + Objects.hashCode(this.level);
 		hash = 41 * hash + Objects.hashCode(this.message);
 		hash = 41 * hash + Objects.hashCode(this.time);
+		hash = 41 * hash + Objects.hashCode(getFields());
 		return hash;
 	}
 	/**@see Object#equals(java.lang.Object) */
@@ -151,6 +290,9 @@ public class LogBean implements Log{
 		if (!Objects.equals(this.time, other.time)) {
 			return false;
 		}
+		if (!Objects.equals(getFields(), other.getFields())) {
+			return false;
+		}
 		if(this.args == other.args)
 			return true;
 		final Object[] objects1=Optional.ofNullable(this.args)
@@ -16,11 +16,13 @@
 package org.bytemechanics.logger.beans;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.bytemechanics.logger.Level;
 import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.context.LogContext;
 import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
 
 /**
@@ -34,16 +36,21 @@ public class LogSupplierBean implements Log{
 	private final Level level;
 	private final Supplier<String> message;
 	private final Throwable throwable;
+	private final Map<String,String> context;
 	
 
 	protected LogSupplierBean(final Level _level,final Supplier<String> _message,final Throwable _throwable) {
 		this(_level,LocalDateTime.now(),_message,_throwable);
 	}
 	protected LogSupplierBean(final Level _level,final LocalDateTime _time,final Supplier<String> _message,final Throwable _throwable) {
+		this(_level,_time,_message,_throwable,LogContext.current());
+	}
+	protected LogSupplierBean(final Level _level,final LocalDateTime _time,final Supplier<String> _message,final Throwable _throwable,final Map<String,String> _context) {
 		this.time=_time;
 		this.level=_level;
-		this.message=_message;
+		this.message=MemoizedMessage.of(_message);
 		this.throwable=_throwable;
+		this.context=_context;
 	}
 
 	/** @see Log#getTime() */
@@ -58,7 +65,10 @@ public class LogSupplierBean implements Log{
 		return level;
 	}
 	
-	/** @see Log#getMessage() */
+	/** 
+	 * The supplier is memoized, so the message is only supplied once
+	 * @see Log#getMessage() 
+	 */
 	@Override
 	public Supplier<String> getMessage() {
 		return this.message;
@@ -70,6 +80,12 @@ public class LogSupplierBean implements Log{
 		return Optional.ofNullable(this.throwable);
 	}
 
+	/** @see Log#getContext() */
+	@Override
+	public Map<String,String> getContext() {
+		return this.context;
+	}
+
 	/** @see Object#hashCode()  */
 	@Override
 	public int hashCode() {
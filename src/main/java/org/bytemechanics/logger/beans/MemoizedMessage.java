@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.beans;
+
+import java.util.function.Supplier;
+
+/**
+ * Message supplier that renders the message only once, the first get() calls the renderer and any later call returns the cached message.
+ * <br>
+ * Safe to share between threads without locking: the cached message is an immutable string (or a constant marker for null) read once per call, 
+ * so a concurrent first call can, at most, render the message twice with the same result. 
+ * @author afarre
+ * @since 2.3.0
+ */
+public final class MemoizedMessage implements Supplier<String>{
+
+	private static final Object NULL_MESSAGE=new Object();
+	
+	private final Supplier<String> renderer;
+	private Object rendered;
+
+	
+	/**
+	 * Constructor
+	 * @param _renderer supplier that renders the message
+	 */
+	public MemoizedMessage(final Supplier<String> _renderer){
+		if(_renderer==null)
+			throw new NullPointerException("Can not memoize null message renderer");
+		this.renderer=_renderer;
+		this.rendered=null;
+	}
+
+	
+	/**
+	 * Discard the cached message, the next get() renders it again
+	 */
+	void reset(){
+		this.rendered=null;
+	}
+	/**
+	 * Returns if the message has been already rendered
+	 * @return true if the message is cached
+	 */
+	public boolean isRendered(){
+		return this.rendered!=null;
+	}
+	
+	/** @see Supplier#get() */
+	@Override
+	public String get() {
+		
+		Object reply=this.rendered;
+		
+		if(reply==null){
+			final String message=this.renderer.get();
+			reply=(message==null)? NULL_MESSAGE : message;
+			this.rendered=reply;
+		}
+		
+		return (reply==NULL_MESSAGE)? null : (String)reply;
+	}
+	
+	
+	/**
+	 * Memoize the given _supplier unless it's already memoized
+	 * @param _supplier message supplier
+	 * @return memoized message supplier or null if _supplier is null
+	 */
+	public static MemoizedMessage of(final Supplier<String> _supplier){
+		return (_supplier==null)? null : (_supplier instanceof MemoizedMessage)? (MemoizedMessage)_supplier : new MemoizedMessage(_supplier);
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.context;
+
+/**
+ * Carrier of a piece of thread-scoped logging state that must be propagated between threads
+ * @author afarre
+ * @since 2.3.0
+ * @see ContextSnapshot
+ */
+public interface ContextCarrier {
+	
+	/**
+	 * Capture the state of the current thread
+	 * @return captured state, can be null
+	 */
+	public Object capture();
+	
+	/**
+	 * Replace the state of the current thread with the given _captured state
+	 * @param _captured state returned by capture(), can be null
+	 * @return previous state of the current thread to be restored later
+	 */
+	public Object restore(Object _captured);
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.context;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Executor service decorator that propagates the logging state of the submitter thread to each task
+ * @author afarre
+ * @since 2.3.0
+ * @see ContextSnapshot#wrap(java.util.concurrent.ExecutorService) 
+ */
+class ContextPropagatingExecutorService implements ExecutorService{
+
+	private final ExecutorService delegate;
+
+	
+	ContextPropagatingExecutorService(final ExecutorService _delegate){
+		if(_delegate==null)
+			throw new NullPointerException("Can not wrap null executor service");
+		this.delegate=_delegate;
+	}
+
+	
+	private <T> List<Callable<T>> wrapAll(final Collection<? extends Callable<T>> _tasks){
+		final ContextSnapshot snapshot=ContextSnapshot.capture();
+		return _tasks.stream()
+						.map(snapshot::wrap)
+						.collect(Collectors.toList());
+	}
+	
+	@Override
+	public void execute(final Runnable _command) {
+		this.delegate.execute(ContextSnapshot.capture().wrap(_command));
+	}
+	@Override
+	public Future<?> submit(final Runnable _task) {
+		return this.delegate.submit(ContextSnapshot.capture().wrap(_task));
+	}
+	@Override
+	public <T> Future<T> submit(final Runnable _task,final T _result) {
+		return this.delegate.submit(ContextSnapshot.capture().wrap(_task),_result);
+	}
+	@Override
+	public <T> Future<T> submit(final Callable<T> _task) {
+		return this.delegate.submit(ContextSnapshot.capture().wrap(_task));
+	}
+	@Override
+	public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> _tasks) throws InterruptedException {
+		return this.delegate.invokeAll(wrapAll(_tasks));
+	}
+	@Override
+	public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> _tasks,final long _timeout,final TimeUnit _unit) throws InterruptedException {
+		return this.delegate.invokeAll(wrapAll(_tasks),_timeout,_unit);
+	}
+	@Override
+	public <T> T invokeAny(final Collection<? extends Callable<T>> _tasks) throws InterruptedException, ExecutionException {
+		return this.delegate.invokeAny(wrapAll(_tasks));
+	}
+	@Override
+	public <T> T invokeAny(final Collection<? extends Callable<T>> _tasks,final long _timeout,final TimeUnit _unit) throws InterruptedException, ExecutionException, TimeoutException {
+		return this.delegate.invokeAny(wrapAll(_tasks),_timeout,_unit);
+	}
+
+	@Override
+	public void shutdown() {
+		this.delegate.shutdown();
+	}
+	@Override
+	public List<Runnable> shutdownNow() {
+		return this.delegate.shutdownNow();
+	}
+	@Override
+	public boolean isShutdown() {
+		return this.delegate.isShutdown();
+	}
+	@Override
+	public boolean isTerminated() {
+		return this.delegate.isTerminated();
+	}
+	@Override
+	public boolean awaitTermination(final long _timeout,final TimeUnit _unit) throws InterruptedException {
+		return this.delegate.awaitTermination(_timeout,_unit);
+	}
+}
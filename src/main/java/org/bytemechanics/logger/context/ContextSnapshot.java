@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.context;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Immutable snapshot of the thread-scoped logging state (the log context and the state of any registered carrier) that can be attached to other threads.
+ * Propagation is explicit: tasks are wrapped when submitted, so threads never copy state when created and pooled or virtual threads never keep state of previous tasks.
+ * <br>
+ * Example:
+ * <code>
+ *	final ExecutorService executor=ContextSnapshot.wrap(Executors.newFixedThreadPool(4));
+ *	try(LogContext.Scope scope=LogContext.with("requestId",requestId)){
+ *		executor.submit(() -&gt; logger.info("logged with requestId"));
+ *	}
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ */
+public final class ContextSnapshot {
+
+	private static final List<ContextCarrier> CARRIERS=new CopyOnWriteArrayList<>();
+	
+	private final Map<String,String> context;
+	private final ContextCarrier[] carriers;
+	private final Object[] captured;
+
+	
+	private ContextSnapshot(final Map<String,String> _context,final ContextCarrier[] _carriers,final Object[] _captured){
+		this.context=_context;
+		this.carriers=_carriers;
+		this.captured=_captured;
+	}
+
+	
+	/**
+	 * Returns the captured log context
+	 * @return captured immutable log context
+	 */
+	public Map<String,String> getContext() {
+		return context;
+	}
+	
+	/**
+	 * Attach this snapshot to the current thread until the returned scope is closed
+	 * @return scope that restores the previous thread state when closed
+	 */
+	public LogContext.Scope attach(){
+		
+		final Object[] previous=new Object[this.carriers.length];
+		for(int ic1=0;ic1<this.carriers.length;ic1++){
+			previous[ic1]=this.carriers[ic1].restore(this.captured[ic1]);
+		}
+		final LogContext.Scope contextScope=LogContext.restore(this.context);
+		
+		return new LogContext.Scope(() -> {
+			contextScope.close();
+			for(int ic1=this.carriers.length-1;ic1>=0;ic1--){
+				this.carriers[ic1].restore(previous[ic1]);
+			}
+		});
+	}
+	/**
+	 * Wrap the given _runnable to run with this snapshot attached
+	 * @param _runnable runnable to wrap
+	 * @return wrapped runnable
+	 */
+	public Runnable wrap(final Runnable _runnable){
+		return () -> {
+			try(LogContext.Scope scope=attach()){
+				_runnable.run();
+			}
+		};
+	}
+	/**
+	 * Wrap the given _callable to run with this snapshot attached
+	 * @param <T> callable result type
+	 * @param _callable callable to wrap
+	 * @return wrapped callable
+	 */
+	public <T> Callable<T> wrap(final Callable<T> _callable){
+		return () -> {
+			try(LogContext.Scope scope=attach()){
+				return _callable.call();
+			}
+		};
+	}
+	
+	
+	/**
+	 * Register a new carrier of thread-scoped logging state to capture in the snapshots
+	 * @param _carrier carrier to register
+	 */
+	public static void register(final ContextCarrier _carrier){
+		if(_carrier==null)
+			throw new NullPointerException("Can not register null context carrier");
+		if(!CARRIERS.contains(_carrier)){
+			CARRIERS.add(_carrier);
+		}
+	}
+	/**
+	 * Unregister the given carrier
+	 * @param _carrier carrier to unregister
+	 */
+	public static void unregister(final ContextCarrier _carrier){
+		CARRIERS.remove(_carrier);
+	}
+	
+	/**
+	 * Capture the logging state of the current thread. The log context is captured with a reference copy
+	 * @return snapshot of the current thread logging state
+	 */
+	public static ContextSnapshot capture(){
+		
+		final ContextCarrier[] carriers=CARRIERS.toArray(new ContextCarrier[0]);
+		final Object[] captured=new Object[carriers.length];
+		for(int ic1=0;ic1<carriers.length;ic1++){
+			captured[ic1]=carriers[ic1].capture();
+		}
+		
+		return new ContextSnapshot(LogContext.current(),carriers,captured);
+	}
+	/**
+	 * Wrap the given _executor to propagate the logging state of the submitter thread to each task
+	 * @param _executor executor to wrap
+	 * @return context propagating executor
+	 */
+	public static Executor wrap(final Executor _executor){
+		return command -> _executor.execute(capture().wrap(command));
+	}
+	/**
+	 * Wrap the given _executorService to propagate the logging state of the submitter thread to each task
+	 * @param _executorService executor service to wrap
+	 * @return context propagating executor service
+	 */
+	public static ExecutorService wrap(final ExecutorService _executorService){
+		return new ContextPropagatingExecutorService(_executorService);
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.context;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-scoped logging context map (MDC). The map of each thread is immutable and replaced on each change (copy-on-write), 
+ * so any log takes its snapshot with a single reference copy and can be written later by another thread without copying it again.
+ * <br>
+ * Example:
+ * <code>
+ *	try(LogContext.Scope scope=LogContext.with("requestId",requestId)){
+ *		logger.info("processing request");
+ *	}
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ */
+public final class LogContext {
+
+	private static final ThreadLocal<Map<String,String>> CONTEXT=new ThreadLocal<>();
+
+	
+	/**
+	 * Context scope that restores the previous context when closed
+	 */
+	public static final class Scope implements AutoCloseable{
+		
+		private final Runnable onClose;
+		
+		Scope(final Runnable _onClose){
+			this.onClose=_onClose;
+		}
+		
+		/**
+		 * Restores the state existing when this scope was opened
+		 */
+		@Override
+		public void close(){
+			this.onClose.run();
+		}
+	}
+	
+	
+	private LogContext(){}
+	
+	
+	private static Map<String,String> replace(final Map<String,String> _context){
+		final Map<String,String> reply=current();
+		if((_context==null)||(_context.isEmpty())){
+			CONTEXT.remove();
+		}else{
+			CONTEXT.set(_context);
+		}
+		return reply;
+	}
+	private static Map<String,String> copy(final Map<String,String> _context){
+		return new LinkedHashMap<>(_context);
+	}
+	
+	/**
+	 * Return the current thread context
+	 * @return current immutable context map, never null
+	 */
+	public static Map<String,String> current(){
+		final Map<String,String> reply=CONTEXT.get();
+		return (reply==null)? Collections.emptyMap() : reply;
+	}
+	/**
+	 * Return the value of the given _key in the current thread context
+	 * @param _key context key
+	 * @return the context value or null if not exist
+	 */
+	public static String get(final String _key){
+		return current().get(_key);
+	}
+	/**
+	 * Put the given _key and _value into the current thread context, null values remove the key
+	 * @param _key context key
+	 * @param _value context value
+	 */
+	public static void put(final String _key,final String _value){
+		if(_key==null)
+			throw new NullPointerException("Can not put null key into log context");
+		if(_value==null){
+			remove(_key);
+		}else{
+			final Map<String,String> context=copy(current());
+			context.put(_key,_value);
+			replace(Collections.unmodifiableMap(context));
+		}
+	}
+	/**
+	 * Remove the given _key from the current thread context
+	 * @param _key context key
+	 */
+	public static void remove(final String _key){
+		final Map<String,String> current=current();
+		if(current.containsKey(_key)){
+			final Map<String,String> context=copy(current);
+			context.remove(_key);
+			replace(Collections.unmodifiableMap(context));
+		}
+	}
+	/**
+	 * Remove all the keys of the current thread context
+	 */
+	public static void clear(){
+		CONTEXT.remove();
+	}
+	/**
+	 * Put the given _key and _value into the current thread context until the returned scope is closed
+	 * @param _key context key
+	 * @param _value context value
+	 * @return scope that restores the previous context when closed
+	 */
+	public static Scope with(final String _key,final String _value){
+		final Map<String,String> previous=current();
+		put(_key,_value);
+		return new Scope(() -> replace(previous));
+	}
+	/**
+	 * Replace the current thread context with the given _context snapshot until the returned scope is closed
+	 * @param _context context snapshot to restore, must be a map returned by current()
+	 * @return scope that restores the previous context when closed
+	 */
+	public static Scope restore(final Map<String,String> _context){
+		final Map<String,String> previous=replace(_context);
+		return new Scope(() -> replace(previous));
+	}
+}
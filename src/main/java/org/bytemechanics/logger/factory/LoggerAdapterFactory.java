@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.factory;
+
+/**
+ * Logger adapter factory service provider interface. Implementations registered at META-INF/services/org.bytemechanics.logger.factory.LoggerAdapterFactory 
+ * are discovered through ServiceLoader by the default logger factory before probing the embedded LoggerAPIProvider list, 
+ * the available implementation with the highest priority is used. The embedded providers are registered as services too with negative priorities, 
+ * so any implementation with priority 0 or greater is preferred to them.
+ * <br>
+ * Implementations must have a public no-args constructor and must avoid to load any logging API class until isAvailable() is called.
+ * @author afarre
+ * @since 2.3.0
+ * @see java.util.ServiceLoader
+ * @see org.bytemechanics.logger.adapters.LoggerAPIProvider
+ */
+public interface LoggerAdapterFactory extends LoggerFactoryAdapter{
+	
+	/**
+	 * Return the priority of this factory, factories with higher priority are preferred
+	 * @return priority of this factory, by default 0 (negative priorities are reserved for the embedded providers)
+	 */
+	public default int getPriority(){
+		return 0;
+	}
+	
+	/**
+	 * Return if the logging API used by this factory is available
+	 * @return true if this factory can provide loggers, by default true
+	 */
+	public default boolean isAvailable(){
+		return true;
+	}
+}
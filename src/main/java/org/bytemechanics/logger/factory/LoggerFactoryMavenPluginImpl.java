@@ -19,6 +19,8 @@ import org.apache.maven.plugin.logging.Log;
 import static org.bytemechanics.logger.FluentLogger.LOGGER_FACTORY_ADAPTER_KEY;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
 import org.bytemechanics.logger.adapters.impl.LoggerMavenPluginImpl;
+import org.bytemechanics.logger.context.ContextCarrier;
+import org.bytemechanics.logger.context.ContextSnapshot;
 
 /**
  * Logger factory implementation to use FluentLogger in maven plugin. You must instance as try-with-resource before creating the logger.
@@ -31,12 +33,34 @@ import org.bytemechanics.logger.adapters.impl.LoggerMavenPluginImpl;
  *			(...)
  *		}
  * </code>
+ * The maven log is bound only to the mojo thread that creates the factory, so concurrent mojos (mvn -T) keep their own log. 
+ * To use it from other threads propagate it explicitly with ContextSnapshot, it is neither inherited by child threads nor kept by pooled threads
  * @author afarre
  * @since 2.2.0
+ * @see ContextSnapshot
  */
 public class LoggerFactoryMavenPluginImpl implements LoggerFactoryAdapter,AutoCloseable{
 
-	private static final InheritableThreadLocal<Log> INSTANCE=new InheritableThreadLocal<>();
+	private static final ThreadLocal<Log> INSTANCE=new ThreadLocal<>();
+	
+	static{
+		ContextSnapshot.register(new ContextCarrier() {
+			@Override
+			public Object capture() {
+				return LoggerFactoryMavenPluginImpl.INSTANCE.get();
+			}
+			@Override
+			public Object restore(final Object _captured) {
+				final Log reply=LoggerFactoryMavenPluginImpl.INSTANCE.get();
+				if(_captured==null){
+					LoggerFactoryMavenPluginImpl.INSTANCE.remove();
+				}else{
+					LoggerFactoryMavenPluginImpl.INSTANCE.set((Log)_captured);
+				}
+				return reply;
+			}
+		});
+	}
 	
 	
 	/**
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.factory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
+import org.bytemechanics.logger.internal.factory.utils.LoggerReflectionUtils;
+
+/**
+ * Precomputed logger provider configuration. When the resource META-INF/fluent-logger/provider.properties exist in classpath, 
+ * the default logger factory loads directly the recorded provider skipping the service lookup and the classpath probing, 
+ * the probing is only done if the recorded provider API is missing.
+ * <br>
+ * The resource can be generated at build time running this class main with the application classpath, for example with exec-maven-plugin at process-classes phase:
+ * <code>
+ *	java -cp &lt;application classpath&gt; org.bytemechanics.logger.factory.LoggerProviderConfiguration target/classes
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ */
+public final class LoggerProviderConfiguration {
+
+	/** Precomputed provider resource path */
+	public static final String RESOURCE="META-INF/fluent-logger/provider.properties";
+	/** Provider property key, the value must be a LoggerAPIProvider name */
+	public static final String PROVIDER_KEY="fluent.logger.provider";
+	
+	
+	private LoggerProviderConfiguration(){}
+	
+	
+	/**
+	 * Read the precomputed provider from the given _classLoader
+	 * @param _classLoader class loader where look for the resource
+	 * @return optional with the recorded provider or empty if the resource does not exist or is invalid
+	 * @see LoggerProviderConfiguration#RESOURCE
+	 */
+	public static Optional<LoggerAPIProvider> read(final ClassLoader _classLoader){
+		
+		LoggerAPIProvider reply=null;
+		
+		final URL resource=_classLoader.getResource(RESOURCE);
+		if(resource!=null){
+			final Properties properties=new Properties();
+			try(InputStream input=resource.openStream()){
+				properties.load(input);
+				final String provider=properties.getProperty(PROVIDER_KEY);
+				if(provider!=null){
+					reply=LoggerAPIProvider.valueOf(provider.trim());
+				}
+			}catch(IOException|IllegalArgumentException e){
+				Logger.getLogger(LoggerProviderConfiguration.class.getName()).log(Level.FINEST,e, () -> SimpleFormat.format("Invalid precomputed logger provider {}",resource));
+				System.err.println(SimpleFormat.format("[WARNING] Invalid precomputed logger provider {}: {}",resource,e.getMessage()));
+			}
+		}
+		
+		return Optional.ofNullable(reply);
+	}
+	
+	/**
+	 * Write the given _provider as precomputed provider at the given _outputDirectory
+	 * @param _provider provider to record
+	 * @param _outputDirectory classpath root directory where write the resource
+	 * @return path of the written resource
+	 * @throws IOException if the resource can not be written
+	 * @see LoggerProviderConfiguration#RESOURCE
+	 */
+	public static Path write(final LoggerAPIProvider _provider,final Path _outputDirectory) throws IOException{
+		
+		final Path reply=_outputDirectory.resolve(RESOURCE);
+		
+		Files.createDirectories(reply.getParent());
+		final Properties properties=new Properties();
+		properties.setProperty(PROVIDER_KEY,_provider.name());
+		try(OutputStream output=Files.newOutputStream(reply)){
+			properties.store(output,"Generated by "+LoggerProviderConfiguration.class.getName());
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Select the first available provider with the same order than the default logger factory and writes it as precomputed provider
+	 * @param _args optional output directory, by default target/classes
+	 * @throws IOException if the resource can not be written
+	 */
+	public static void main(final String... _args) throws IOException{
+		
+		final Path outputDirectory=Paths.get((_args.length>0)? _args[0] : "target/classes");
+		final LoggerAPIProvider provider=new LoggerReflectionUtils()
+													.findAvailableProvider(Stream.of(LoggerAPIProvider.values())
+																					.filter(LoggerAPIProvider::isProbed))
+													.orElse(LoggerAPIProvider.CONSOLE);
+		final Path written=write(provider,outputDirectory);
+		System.out.println(SimpleFormat.format("FluentLogger: precomputed logger provider {} written to {}",provider,written));
+	}
+}
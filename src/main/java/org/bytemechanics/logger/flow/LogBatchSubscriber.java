@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.flow;
+
+import java.util.List;
+import org.bytemechanics.logger.adapters.Log;
+
+/**
+ * Receiver of the log batches published by a LogPublisher, equivalent to java.util.concurrent.Flow.Subscriber. 
+ * All the methods of the same subscriber are called sequentially from the publisher executor
+ * @author afarre
+ * @since 2.3.0
+ * @see LogPublisher
+ */
+public interface LogBatchSubscriber {
+	
+	/**
+	 * Called once before any other method with the subscription to use to request batches
+	 * @param _subscription subscription
+	 */
+	public void onSubscribe(LogSubscription _subscription);
+	
+	/**
+	 * Called with the next batch of logs, never more times than requested
+	 * @param _batch unmodifiable non empty list of logs
+	 */
+	public void onNext(List<Log> _batch);
+	
+	/**
+	 * Called once when the subscription is terminated because an error, no other method is called after
+	 * @param _error cause of the termination
+	 */
+	public void onError(Throwable _error);
+	
+	/**
+	 * Called once when the publisher is closed and all the buffered logs has been delivered, no other method is called after
+	 */
+	public void onComplete();
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.flow;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.bytemechanics.logger.adapters.Log;
+
+/**
+ * Non blocking publisher of logs to reactive consumers with demand-driven backpressure. 
+ * Each subscriber has its own bounded buffer, the logs are delivered in batches (one batch per requested unit) from the given executor and, 
+ * when a subscriber falls behind, the configured overflow strategy is applied without blocking the producers.
+ * <br>
+ * Example:
+ * <code>
+ *	final LogPublisher publisher=new LogPublisher("my-publisher");
+ *	publisher.subscribe(mySubscriber);
+ *	final FluentLogger logger=FluentLogger.of("my-logger",PublisherLoggerAdapter.factory(publisher));
+ * </code>
+ * On Java 9 or later FlowLogPublisher exposes it as java.util.concurrent.Flow.Publisher
+ * @author afarre
+ * @since 2.3.0
+ * @see PublisherLoggerAdapter
+ * @see OverflowStrategy
+ */
+public class LogPublisher implements AutoCloseable{
+
+	/** Default subscriber buffer size */
+	public static final int DEFAULT_BUFFER_SIZE=1024;
+	/** Default maximum logs per batch */
+	public static final int DEFAULT_BATCH_SIZE=64;
+	
+	private final String name;
+	private final Executor executor;
+	private final int bufferSize;
+	private final int batchSize;
+	private final OverflowStrategy overflowStrategy;
+	private final List<PublisherSubscription> subscriptions;
+	private volatile boolean closed;
+
+	
+	/**
+	 * Constructor with default configuration delivering from the common fork-join pool
+	 * @param _name publisher name
+	 */
+	public LogPublisher(final String _name){
+		this(_name,ForkJoinPool.commonPool(),DEFAULT_BUFFER_SIZE,DEFAULT_BATCH_SIZE,OverflowStrategy.DROP_OLDEST);
+	}
+	/**
+	 * Constructor
+	 * @param _name publisher name
+	 * @param _executor executor where the logs are delivered to the subscribers
+	 * @param _bufferSize maximum number of logs buffered per subscriber
+	 * @param _batchSize maximum number of logs per delivered batch
+	 * @param _overflowStrategy strategy to apply when a subscriber buffer is full
+	 */
+	public LogPublisher(final String _name,final Executor _executor,final int _bufferSize,final int _batchSize,final OverflowStrategy _overflowStrategy){
+		if(_executor==null)
+			throw new NullPointerException("Can not deliver logs with null executor");
+		if(_overflowStrategy==null)
+			throw new NullPointerException("Can not publish logs with null overflow strategy");
+		if(_bufferSize<=0)
+			throw new IllegalArgumentException("Buffer size must be positive but was "+_bufferSize);
+		if(_batchSize<=0)
+			throw new IllegalArgumentException("Batch size must be positive but was "+_batchSize);
+		this.name=_name;
+		this.executor=_executor;
+		this.bufferSize=_bufferSize;
+		this.batchSize=_batchSize;
+		this.overflowStrategy=_overflowStrategy;
+		this.subscriptions=new CopyOnWriteArrayList<>();
+		this.closed=false;
+	}
+
+	
+	public String getName() {
+		return name;
+	}
+	public Executor getExecutor() {
+		return executor;
+	}
+	public int getBufferSize() {
+		return bufferSize;
+	}
+	public int getBatchSize() {
+		return batchSize;
+	}
+	public OverflowStrategy getOverflowStrategy() {
+		return overflowStrategy;
+	}
+	public boolean isClosed() {
+		return closed;
+	}
+	
+	/**
+	 * Check if there is any active subscriber
+	 * @return true if at least one subscriber is active
+	 */
+	public boolean hasSubscribers(){
+		return !this.subscriptions.isEmpty();
+	}
+	/**
+	 * Number of active subscribers
+	 * @return active subscribers
+	 */
+	public int getSubscribers(){
+		return this.subscriptions.size();
+	}
+	/**
+	 * Number of logs dropped by the active subscribers because overflow
+	 * @return dropped logs
+	 */
+	public long getDropped(){
+		return this.subscriptions.stream()
+							.mapToLong(PublisherSubscription::getDropped)
+							.sum();
+	}
+	/**
+	 * Number of logs buffered waiting the demand of the active subscribers
+	 * @return buffered logs
+	 */
+	public long getBuffered(){
+		return this.subscriptions.stream()
+							.mapToLong(PublisherSubscription::getBuffered)
+							.sum();
+	}
+	
+	void remove(final PublisherSubscription _subscription){
+		this.subscriptions.remove(_subscription);
+	}
+	
+	/**
+	 * Subscribe the given subscriber, onSubscribe is called from the current thread. If the publisher is already closed the subscriber is completed immediately
+	 * @param _subscriber subscriber
+	 */
+	public void subscribe(final LogBatchSubscriber _subscriber){
+		if(_subscriber==null)
+			throw new NullPointerException("Can not subscribe null subscriber");
+		final PublisherSubscription subscription=new PublisherSubscription(this,_subscriber);
+		_subscriber.onSubscribe(subscription);
+		if(this.closed){
+			subscription.complete();
+		}else{
+			this.subscriptions.add(subscription);
+			if(this.closed){
+				subscription.complete();
+			}
+		}
+	}
+	
+	/**
+	 * Publish the given log to all the active subscribers, never blocks
+	 * @param _log log to publish
+	 * @return number of subscribers that have enqueued the log
+	 */
+	public int publish(final Log _log){
+		
+		int reply=0;
+		
+		for(PublisherSubscription subscription:this.subscriptions){
+			if(subscription.offer(_log)){
+				reply++;
+			}
+		}
+		
+		return reply;
+	}
+
+	/**
+	 * Close the publisher completing all the subscribers once its buffered logs has been delivered
+	 * @see AutoCloseable#close() 
+	 */
+	@Override
+	public void close() {
+		this.closed=true;
+		for(PublisherSubscription subscription:this.subscriptions){
+			subscription.complete();
+		}
+	}
+
+	/** @see Object#toString() */
+	@Override
+	public String toString() {
+		return "LogPublisher{" + "name=" + name + ", bufferSize=" + bufferSize + ", batchSize=" + batchSize + ", overflowStrategy=" + overflowStrategy + ", subscribers=" + getSubscribers() + '}';
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.flow;
+
+/**
+ * Link between a LogPublisher and one of its subscribers, equivalent to java.util.concurrent.Flow.Subscription
+ * @author afarre
+ * @since 2.3.0
+ * @see LogPublisher
+ */
+public interface LogSubscription {
+	
+	/**
+	 * Request up to the given number of additional batches
+	 * @param _batches number of batches requested, must be positive
+	 */
+	public void request(long _batches);
+	
+	/**
+	 * Stop receiving batches, the buffered logs are discarded
+	 */
+	public void cancel();
+}
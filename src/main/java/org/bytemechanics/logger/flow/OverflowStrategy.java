@@ -0,0 +1,33 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.flow;
+
+/**
+ * Strategy applied when a subscriber buffer is full because the subscriber is not requesting as fast as the logs are published
+ * @author afarre
+ * @since 2.3.0
+ * @see LogPublisher
+ */
+public enum OverflowStrategy {
+	
+	/** Discard the log being published, keeping the buffered ones */
+	DROP_LATEST,
+	/** Discard the oldest buffered log to make room for the log being published */
+	DROP_OLDEST,
+	/** Discard the buffer and terminate the subscriber with an error */
+	FAIL,
+	;
+}
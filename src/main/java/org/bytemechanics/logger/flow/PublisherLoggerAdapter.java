@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.flow;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Function;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.DelegatingLog;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ * Logger adapter that publishes the logs to the reactive subscribers of the given publisher without blocking the caller. 
+ * The levels are only enabled while the publisher has subscribers, the call site is resolved before publishing (unless disabled, as it walks the stacktrace on each log) 
+ * and the message formatting is done by the subscribers so arguments must not be mutated after logging.
+ * <br>
+ * Example:
+ * <code>
+ *	final LogPublisher publisher=new LogPublisher("my-publisher");
+ *	final FluentLogger logger=FluentLogger.of("my-logger",PublisherLoggerAdapter.factory(publisher));
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ * @see LogPublisher
+ */
+public class PublisherLoggerAdapter implements LoggerAdapter{
+
+	private static final Set<String> SKIPPED_CLASSES=Collections.singleton(PublisherLoggerAdapter.class.getName());
+	private static final StackTraceElement UNKNOWN_SOURCE=new StackTraceElement(Log.UNKNOWN_STACKTRACE,Log.UNKNOWN_STACKTRACE,Log.UNKNOWN_STACKTRACE,0);
+	
+	private static final class PublishedLog extends DelegatingLog{
+		
+		private final StackTraceElement source;
+
+		PublishedLog(final Log _log,final StackTraceElement _source){
+			super(_log);
+			this.source=_source;
+		}
+		
+		@Override
+		public boolean isSourceResolved() {
+			return true;
+		}
+		@Override
+		public StackTraceElement getSource(final Set<String> _classesToSkip) {
+			return (this.source!=null)? this.source : UNKNOWN_SOURCE;
+		}
+	}
+	
+	private final String name;
+	private final LogPublisher publisher;
+	private final Level minimum;
+	private final boolean resolveSource;
+
+	
+	/**
+	 * Constructor publishing all levels
+	 * @param _name logger name
+	 * @param _publisher publisher where publish the logs
+	 */
+	public PublisherLoggerAdapter(final String _name,final LogPublisher _publisher){
+		this(_name,_publisher,Level.FINEST);
+	}
+	/**
+	 * Constructor resolving the call site before publishing
+	 * @param _name logger name
+	 * @param _publisher publisher where publish the logs
+	 * @param _minimum minimum level to publish
+	 */
+	public PublisherLoggerAdapter(final String _name,final LogPublisher _publisher,final Level _minimum){
+		this(_name,_publisher,_minimum,true);
+	}
+	/**
+	 * Constructor
+	 * @param _name logger name
+	 * @param _publisher publisher where publish the logs
+	 * @param _minimum minimum level to publish
+	 * @param _resolveSource if true the call site is resolved before publishing, disable it only if the subscribers do not use the log source
+	 */
+	public PublisherLoggerAdapter(final String _name,final LogPublisher _publisher,final Level _minimum,final boolean _resolveSource){
+		if(_publisher==null)
+			throw new NullPointerException("Can not publish to null publisher");
+		if(_minimum==null)
+			throw new NullPointerException("Can not publish with null minimum level");
+		this.name=_name;
+		this.publisher=_publisher;
+		this.minimum=_minimum;
+		this.resolveSource=_resolveSource;
+	}
+
+	
+	/**
+	 * Returns the publisher used to publish the logs
+	 * @return log publisher
+	 */
+	public LogPublisher getPublisher() {
+		return publisher;
+	}
+	
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public boolean isEnabled(final Level _level) {
+		return (this.minimum.index<=_level.index)&&(this.publisher.hasSubscribers());
+	}
+
+	@Override
+	public void log(final Log _log) {
+		if(this.publisher.hasSubscribers()){
+			this.publisher.publish(new PublishedLog(_log,(this.resolveSource)? _log.getSource(SKIPPED_CLASSES) : null));
+		}
+	}
+	
+	
+	/**
+	 * Logger factory publishing all levels to the given publisher
+	 * @param _publisher publisher where publish the logs
+	 * @return logger factory
+	 */
+	public static Function<String,LoggerAdapter> factory(final LogPublisher _publisher){
+		return name -> new PublisherLoggerAdapter(name,_publisher);
+	}
+	/**
+	 * Logger factory publishing the levels equal or greater than the minimum to the given publisher
+	 * @param _publisher publisher where publish the logs
+	 * @param _minimum minimum level to publish
+	 * @return logger factory
+	 */
+	public static Function<String,LoggerAdapter> factory(final LogPublisher _publisher,final Level _minimum){
+		return name -> new PublisherLoggerAdapter(name,_publisher,_minimum);
+	}
+	/**
+	 * Logger factory publishing the levels equal or greater than the minimum to the given publisher
+	 * @param _publisher publisher where publish the logs
+	 * @param _minimum minimum level to publish
+	 * @param _resolveSource if true the call site is resolved before publishing, disable it only if the subscribers do not use the log source
+	 * @return logger factory
+	 */
+	public static Function<String,LoggerAdapter> factory(final LogPublisher _publisher,final Level _minimum,final boolean _resolveSource){
+		return name -> new PublisherLoggerAdapter(name,_publisher,_minimum,_resolveSource);
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.flow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bytemechanics.logger.adapters.Log;
+
+/**
+ * Subscription of a single subscriber with its own bounded buffer and demand. 
+ * Producers only enqueue and schedule the drain, the subscriber is only called from the drain loop that is never executed concurrently
+ * @author afarre
+ * @since 2.3.0
+ */
+final class PublisherSubscription implements LogSubscription,Runnable{
+
+	private final LogPublisher publisher;
+	private final LogBatchSubscriber subscriber;
+	private final Queue<Log> buffer;
+	private final AtomicInteger size;
+	private final AtomicLong requested;
+	private final AtomicInteger pending;
+	private final AtomicLong dropped;
+	private volatile boolean completed;
+	private volatile boolean cancelled;
+	private volatile Throwable error;
+
+	
+	PublisherSubscription(final LogPublisher _publisher,final LogBatchSubscriber _subscriber){
+		this.publisher=_publisher;
+		this.subscriber=_subscriber;
+		this.buffer=new ConcurrentLinkedQueue<>();
+		this.size=new AtomicInteger(0);
+		this.requested=new AtomicLong(0);
+		this.pending=new AtomicInteger(0);
+		this.dropped=new AtomicLong(0);
+		this.completed=false;
+		this.cancelled=false;
+		this.error=null;
+	}
+
+	
+	LogBatchSubscriber getSubscriber() {
+		return subscriber;
+	}
+	long getDropped() {
+		return this.dropped.get();
+	}
+	int getBuffered() {
+		return this.size.get();
+	}
+	
+	/**
+	 * Enqueue the given log applying the publisher overflow strategy if the buffer is full, never blocks
+	 * @param _log log to enqueue
+	 * @return true if the log has been enqueued
+	 */
+	boolean offer(final Log _log){
+		
+		if(this.cancelled||this.completed||(this.error!=null))
+			return false;
+		if(this.size.incrementAndGet()>this.publisher.getBufferSize()){
+			this.dropped.incrementAndGet();
+			switch(this.publisher.getOverflowStrategy()){
+				case DROP_OLDEST:
+					if(this.buffer.poll()!=null){
+						this.size.decrementAndGet();
+					}
+					break;
+				case FAIL:
+					this.size.decrementAndGet();
+					this.error=new IllegalStateException("Subscriber buffer of publisher "+this.publisher.getName()+" overflowed with "+this.publisher.getBufferSize()+" logs");
+					schedule();
+					return false;
+				default:
+					this.size.decrementAndGet();
+					return false;
+			}
+		}
+		this.buffer.offer(_log);
+		schedule();
+		return true;
+	}
+	void complete(){
+		this.completed=true;
+		schedule();
+	}
+	
+	private void schedule(){
+		if(this.pending.getAndIncrement()==0){
+			try{
+				this.publisher.getExecutor().execute(this);
+			}catch(RejectedExecutionException e){
+				this.cancelled=true;
+				this.publisher.remove(this);
+				this.buffer.clear();
+			}
+		}
+	}
+	private List<Log> poll(){
+		
+		final List<Log> reply=new ArrayList<>(Math.min(this.publisher.getBatchSize(),Math.max(1,this.size.get())));
+		Log log;
+		while((reply.size()<this.publisher.getBatchSize())&&((log=this.buffer.poll())!=null)){
+			this.size.decrementAndGet();
+			reply.add(log);
+		}
+		
+		return reply;
+	}
+	private void terminate(){
+		this.cancelled=true;
+		this.publisher.remove(this);
+		this.buffer.clear();
+		this.size.set(0);
+	}
+	private void drain(){
+		
+		if(this.cancelled){
+			this.buffer.clear();
+			this.size.set(0);
+			return;
+		}
+		final Throwable failure=this.error;
+		if(failure!=null){
+			terminate();
+			this.subscriber.onError(failure);
+			return;
+		}
+		final long demand=this.requested.get();
+		long emitted=0;
+		while((emitted!=demand)&&(!this.cancelled)){
+			final List<Log> batch=poll();
+			if(batch.isEmpty())
+				break;
+			this.subscriber.onNext(Collections.unmodifiableList(batch));
+			emitted++;
+		}
+		if((emitted>0)&&(demand!=Long.MAX_VALUE)){
+			this.requested.addAndGet(-emitted);
+		}
+		if(this.completed&&(!this.cancelled)&&(this.buffer.isEmpty())){
+			terminate();
+			this.subscriber.onComplete();
+		}
+	}
+	
+	/** @see Runnable#run() */
+	@Override
+	public void run() {
+		int missed=1;
+		do{
+			try{
+				drain();
+			}catch(Throwable e){
+				// A subscriber failing on a signal is considered cancelled
+				terminate();
+			}
+			missed=this.pending.addAndGet(-missed);
+		}while(missed!=0);
+	}
+
+	/** @see LogSubscription#request(long) */
+	@Override
+	public void request(final long _batches) {
+		if(_batches<=0){
+			this.error=new IllegalArgumentException("Requested batches must be positive but was "+_batches);
+		}else{
+			long current;
+			long next;
+			do{
+				current=this.requested.get();
+				next=(current+_batches<0)? Long.MAX_VALUE : current+_batches;
+			}while(!this.requested.compareAndSet(current,next));
+		}
+		schedule();
+	}
+	/** @see LogSubscription#cancel() */
+	@Override
+	public void cancel() {
+		this.cancelled=true;
+		this.publisher.remove(this);
+		schedule();
+	}
+}
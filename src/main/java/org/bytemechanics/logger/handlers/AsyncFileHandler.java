@@ -0,0 +1,458 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.handlers;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Filter;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
+
+/**
+ * Asynchronous java logging file handler. Records are enqueued into a bounded lock-free queue and a single daemon writer thread formats them and writes them
+ * in batches into a buffered stream flushed once per batch, rotating the file when it reaches the size limit.
+ * When the queue is full the record is dropped and counted. Flush enqueues a marker and waits until the writer thread has written and flushed all the records enqueued before it.
+ * Records enqueued while the handler closes are written by close, only the ones enqueued once the file is already closed are dropped, counted and reported to the error manager.
+ * <br>
+ * As the records are formatted by the writer thread, the record source is resolved before enqueue unless source is disabled (if the formatter never prints it).
+ * <br>
+ * Configuration through logging.properties (all optional):
+ * <ul>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.file: log file path (default: fluent-logger.log)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.limit: maximum file size in bytes before rotate, zero for no limit (default: 0)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.count: number of files including the current one (default: 1)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.append: append to the existing file (default: true)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.capacity: queue capacity (default: 8192)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.bufferSize: write buffer size in bytes (default: 65536)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.source: resolve the record source before enqueue (default: true)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.level: handler level (default: ALL)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.filter: filter class name, loaded from the system class loader or the thread context class loader (default: none)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.formatter: formatter class name, loaded from the system class loader or the thread context class loader (default: java.util.logging.SimpleFormatter)</li>
+ * <li>org.bytemechanics.logger.handlers.AsyncFileHandler.encoding: file encoding (default: UTF-8)</li>
+ * </ul>
+ * Example:
+ * <code>
+ * handlers = org.bytemechanics.logger.handlers.AsyncFileHandler
+ * org.bytemechanics.logger.handlers.AsyncFileHandler.file = logs/application.log
+ * org.bytemechanics.logger.handlers.AsyncFileHandler.limit = 10485760
+ * org.bytemechanics.logger.handlers.AsyncFileHandler.count = 5
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ */
+public class AsyncFileHandler extends Handler{
+
+	/** Default log file */
+	public static final String DEFAULT_FILE="fluent-logger.log";
+	/** Default queue capacity */
+	public static final int DEFAULT_CAPACITY=8192;
+	/** Default write buffer size */
+	public static final int DEFAULT_BUFFER_SIZE=64*1024;
+	/** Maximum writer thread idle park time */
+	private static final long IDLE_PARK_NANOS=TimeUnit.MILLISECONDS.toNanos(100);
+
+	/**
+	 * Queue marker released by the writer thread once all the records enqueued before it are written and the file flushed
+	 */
+	private static final class FlushMarker extends LogRecord{
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final transient CountDownLatch done;
+		
+		FlushMarker(){
+			super(Level.OFF,null);
+			this.done=new CountDownLatch(1);
+		}
+	}
+
+	private final Path file;
+	private final long limit;
+	private final int count;
+	private final int capacity;
+	private final int bufferSize;
+	private final boolean resolveSource;
+	private final Queue<LogRecord> queue;
+	private final AtomicInteger queueSize;
+	private final LongAdder dropped;
+	private final Thread writer;
+	private OutputStream stream;
+	private long written;
+	private volatile boolean running;
+	private boolean closed;
+
+	
+	/**
+	 * Constructor configured from the LogManager properties
+	 * @throws IOException if the log file can not be opened
+	 */
+	public AsyncFileHandler() throws IOException{
+		this(new Configuration(AsyncFileHandler.class.getName()));
+	}
+	/**
+	 * Constructor with the default configuration for the given _file
+	 * @param _file log file
+	 * @throws IOException if the log file can not be opened
+	 */
+	public AsyncFileHandler(final Path _file) throws IOException{
+		this(_file,0,1,true,DEFAULT_CAPACITY);
+	}
+	/**
+	 * Constructor with custom configuration
+	 * @param _file log file
+	 * @param _limit maximum file size in bytes before rotate, zero for no limit
+	 * @param _count number of files including the current one
+	 * @param _append append to the existing file
+	 * @param _capacity queue capacity
+	 * @throws IOException if the log file can not be opened
+	 */
+	public AsyncFileHandler(final Path _file,final long _limit,final int _count,final boolean _append,final int _capacity) throws IOException{
+		this(new Configuration(AsyncFileHandler.class.getName())
+								.file(_file)
+								.limit(_limit)
+								.count(_count)
+								.append(_append)
+								.capacity(_capacity));
+	}
+	private AsyncFileHandler(final Configuration _configuration) throws IOException{
+		if(_configuration.file==null)
+			throw new NullPointerException("Can not create handler with null file");
+		if(_configuration.limit<0)
+			throw new IllegalArgumentException(SimpleFormat.format("Handler limit must be zero or positive, current: {}",_configuration.limit));
+		if(_configuration.count<1)
+			throw new IllegalArgumentException(SimpleFormat.format("Handler count must be positive, current: {}",_configuration.count));
+		if(_configuration.capacity<1)
+			throw new IllegalArgumentException(SimpleFormat.format("Handler capacity must be positive, current: {}",_configuration.capacity));
+		this.file=_configuration.file.toAbsolutePath();
+		this.limit=_configuration.limit;
+		this.count=_configuration.count;
+		this.capacity=_configuration.capacity;
+		this.bufferSize=_configuration.bufferSize;
+		this.resolveSource=_configuration.source;
+		this.queue=new ConcurrentLinkedQueue<>();
+		this.queueSize=new AtomicInteger(0);
+		this.dropped=new LongAdder();
+		setLevel(_configuration.level);
+		setFilter(_configuration.filter);
+		setFormatter(_configuration.formatter);
+		setEncoding(_configuration.encoding);
+		if(this.file.getParent()!=null){
+			Files.createDirectories(this.file.getParent());
+		}
+		this.stream=open(_configuration.append);
+		this.running=true;
+		this.closed=false;
+		this.writer=new Thread(this::consume,"fluent-logger-handler-"+this.file.getFileName());
+		this.writer.setDaemon(true);
+		this.writer.start();
+		_configuration.errors.forEach((message,error) -> reportError(message,error,ErrorManager.GENERIC_FAILURE));
+	}
+
+	
+	private OutputStream open(final boolean _append) throws IOException{
+		final OutputStream reply=Files.newOutputStream(this.file,StandardOpenOption.CREATE,StandardOpenOption.WRITE,(_append)? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+		this.written=(_append)? Files.size(this.file) : 0;
+		return new BufferedOutputStream(reply,this.bufferSize);
+	}
+	/**
+	 * Rotate the log files, file.(count-2) to file.(count-1), ..., file to file.1 and opens a new empty file
+	 * @throws IOException if any file can not be moved or opened
+	 */
+	private void rotate() throws IOException{
+		this.stream.close();
+		if(this.count>1){
+			for(int ic1=this.count-2;ic1>=0;ic1--){
+				final Path source=(ic1==0)? this.file : Paths.get(this.file+"."+ic1);
+				if(Files.exists(source)){
+					Files.move(source,Paths.get(this.file+"."+(ic1+1)),StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+		this.stream=open(false);
+	}
+	private Charset charset(){
+		final String encoding=getEncoding();
+		return (encoding==null)? StandardCharsets.UTF_8 : Charset.forName(encoding);
+	}
+	private void write(final LogRecord _record,final Charset _charset){
+		try{
+			final byte[] bytes=getFormatter().format(_record).getBytes(_charset);
+			if((this.limit>0)&&(this.written>0)&&(this.written+bytes.length>this.limit)){
+				rotate();
+			}
+			this.stream.write(bytes);
+			this.written+=bytes.length;
+		}catch(IOException e){
+			reportError(null,e,ErrorManager.WRITE_FAILURE);
+		}catch(RuntimeException e){
+			reportError(null,e,ErrorManager.FORMAT_FAILURE);
+		}
+	}
+	private void flushStream(){
+		try{
+			this.stream.flush();
+		}catch(IOException e){
+			reportError(null,e,ErrorManager.FLUSH_FAILURE);
+		}
+	}
+	private int drain(){
+		
+		final Charset charset=charset();
+		int reply=0;
+		
+		LogRecord record=this.queue.poll();
+		while(record!=null){
+			if(record instanceof FlushMarker){
+				flushStream();
+				((FlushMarker)record).done.countDown();
+			}else{
+				this.queueSize.decrementAndGet();
+				write(record,charset);
+			}
+			reply++;
+			record=this.queue.poll();
+		}
+		if(reply>0){
+			flushStream();
+		}
+		
+		return reply;
+	}
+	private void consume(){
+		while(this.running){
+			if(drain()==0){
+				LockSupport.parkNanos(this,IDLE_PARK_NANOS);
+			}
+		}
+		drain();
+	}
+	
+	/**
+	 * Returns the number of records dropped because the queue was full
+	 * @return dropped records
+	 */
+	public long getDropped(){
+		return this.dropped.sum();
+	}
+	/**
+	 * Returns the number of records waiting to be written
+	 * @return pending records
+	 */
+	public int getQueueSize(){
+		return Math.max(0,this.queueSize.get());
+	}
+	/**
+	 * Returns the current log file
+	 * @return absolute path of the log file
+	 */
+	public Path getFile(){
+		return this.file;
+	}
+
+	/**
+	 * Enqueue the given _record to be written by the writer thread, if the queue is full the record is dropped
+	 * @see Handler#publish(java.util.logging.LogRecord) 
+	 */
+	@Override
+	public void publish(final LogRecord _record) {
+		if((!this.running)||(!isLoggable(_record))){
+			return;
+		}
+		if(this.queueSize.incrementAndGet()>this.capacity){
+			this.queueSize.decrementAndGet();
+			this.dropped.increment();
+			return;
+		}
+		if(this.resolveSource){
+			_record.getSourceClassName();
+		}
+		this.queue.offer(_record);
+		LockSupport.unpark(this.writer);
+		if(!this.running){
+			late(_record);
+		}
+	}
+	/**
+	 * Drop the given _record enqueued while closing if close could not write it, waits for close to end before check it
+	 * @param _record record enqueued while closing
+	 */
+	private synchronized void late(final LogRecord _record){
+		if(this.queue.remove(_record)){
+			this.queueSize.decrementAndGet();
+			this.dropped.increment();
+			reportError("Record published once the handler was closed has been dropped",null,ErrorManager.WRITE_FAILURE);
+		}
+	}
+	/** 
+	 * Waits until all the records enqueued before this call are written and the file is flushed. Has no effect once the handler is closed or from the writer thread
+	 * @see Handler#flush() 
+	 */
+	@Override
+	public void flush() {
+		if((!this.running)||(Thread.currentThread()==this.writer)){
+			return;
+		}
+		final FlushMarker marker=new FlushMarker();
+		this.queue.offer(marker);
+		LockSupport.unpark(this.writer);
+		try{
+			// The writer thread could have finished its last drain before the marker was enqueued if the handler was closed meanwhile
+			while((!marker.done.await(IDLE_PARK_NANOS,TimeUnit.NANOSECONDS))&&(this.writer.isAlive())){
+				LockSupport.unpark(this.writer);
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+	/**
+	 * Stop accepting records, waits until the writer thread ends, writes any remaining record on the calling thread and closes the file. Closing an already closed handler has no effect
+	 * @see Handler#close() 
+	 */
+	@Override
+	public synchronized void close() throws SecurityException {
+		if(this.closed){
+			return;
+		}
+		this.closed=true;
+		this.running=false;
+		LockSupport.unpark(this.writer);
+		if(Thread.currentThread()!=this.writer){
+			try {
+				this.writer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		drain();
+		try{
+			this.stream.close();
+		}catch(IOException e){
+			reportError(null,e,ErrorManager.CLOSE_FAILURE);
+		}
+	}
+	
+	
+	/**
+	 * Handler configuration read from the LogManager properties
+	 */
+	private static final class Configuration{
+		
+		private final String prefix;
+		private Path file;
+		private long limit;
+		private int count;
+		private boolean append;
+		private int capacity;
+		private int bufferSize;
+		private boolean source;
+		private Level level;
+		private Filter filter;
+		private Formatter formatter;
+		private String encoding;
+		private final Map<String,Exception> errors;
+
+		Configuration(final String _prefix){
+			this.prefix=_prefix+'.';
+			this.errors=new LinkedHashMap<>();
+			this.file=Paths.get(property("file",DEFAULT_FILE));
+			this.limit=Long.parseLong(property("limit","0"));
+			this.count=Integer.parseInt(property("count","1"));
+			this.append=Boolean.parseBoolean(property("append","true"));
+			this.capacity=Integer.parseInt(property("capacity",String.valueOf(DEFAULT_CAPACITY)));
+			this.bufferSize=Integer.parseInt(property("bufferSize",String.valueOf(DEFAULT_BUFFER_SIZE)));
+			this.source=Boolean.parseBoolean(property("source","true"));
+			this.level=Level.parse(property("level","ALL"));
+			this.filter=instance(property("filter",null),Filter.class);
+			this.formatter=instance(property("formatter",null),Formatter.class);
+			this.encoding=property("encoding",StandardCharsets.UTF_8.name());
+			if(this.formatter==null){
+				this.formatter=new SimpleFormatter();
+			}
+		}
+		
+		private String property(final String _name,final String _default){
+			final String reply=LogManager.getLogManager().getProperty(this.prefix+_name);
+			return ((reply==null)||(reply.trim().isEmpty()))? _default : reply.trim();
+		}
+		private static Class<?> loadClass(final String _className) throws ClassNotFoundException{
+			try{
+				return ClassLoader.getSystemClassLoader().loadClass(_className);
+			}catch(ClassNotFoundException e){
+				final ClassLoader context=Thread.currentThread().getContextClassLoader();
+				if(context==null){
+					throw e;
+				}
+				return context.loadClass(_className);
+			}
+		}
+		private <T> T instance(final String _className,final Class<T> _type){
+			T reply=null;
+			if(_className!=null){
+				try{
+					reply=_type.cast(loadClass(_className).newInstance());
+				}catch(ReflectiveOperationException|ClassCastException e){
+					// Reported by the handler once built, as the error manager belongs to it
+					this.errors.put(SimpleFormat.format("Unable to instantiate {} {}",_type.getSimpleName(),_className),e);
+				}
+			}
+			return reply;
+		}
+		
+		Configuration file(final Path _file){
+			this.file=_file;
+			return this;
+		}
+		Configuration limit(final long _limit){
+			this.limit=_limit;
+			return this;
+		}
+		Configuration count(final int _count){
+			this.count=_count;
+			return this;
+		}
+		Configuration append(final boolean _append){
+			this.append=_append;
+			return this;
+		}
+		Configuration capacity(final int _capacity){
+			this.capacity=_capacity;
+			return this;
+		}
+	}
+}
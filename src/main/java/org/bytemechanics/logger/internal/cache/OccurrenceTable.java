@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.internal.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bounded lock-free table of time windowed occurrences. Each key can be held in two slots, the primary and a secondary one probed before evicting a live occurrence of another key.
+ * When the window expires or both slots are owned by other keys the occurrence is replaced.
+ * <br>
+ * Removed occurrences are closed before notifying them, so a hit racing with the removal is either counted in the notified occurrence or rejected to register it again.
+ * @param <K> occurrence key type
+ * @author afarre
+ * @since 2.3.0
+ */
+public class OccurrenceTable<K> {
+
+	/**
+	 * Single occurrence window of a key
+	 * @param <K> occurrence key type
+	 */
+	public static final class Occurrence<K>{
+		
+		private static final long CLOSED=Long.MIN_VALUE;
+		
+		private final long hash;
+		private final K key;
+		private final long id;
+		private final long windowStart;
+		private final AtomicLong count;
+
+		Occurrence(final long _hash,final K _key,final long _id,final long _windowStart){
+			this.hash=_hash;
+			this.key=_key;
+			this.id=_id;
+			this.windowStart=_windowStart;
+			this.count=new AtomicLong(0);
+		}
+
+		<Q> boolean matches(final long _hash,final Q _query,final BiPredicate<K,Q> _matcher){
+			return (this.hash==_hash)&&(_matcher.test(this.key,_query));
+		}
+		void close(){
+			this.count.getAndUpdate(current -> current|CLOSED);
+		}
+
+		/**
+		 * Register a new hit of this occurrence
+		 * @return the number of hits in this window including this one, 1 means first hit, 0 means that the occurrence has been already removed and the key must be registered again
+		 */
+		public long hit(){
+			long current=this.count.get();
+			while((current&CLOSED)==0){
+				if(this.count.compareAndSet(current,current+1)){
+					return current+1;
+				}
+				current=this.count.get();
+			}
+			return 0;
+		}
+		/**
+		 * Returns if the occurrence has been removed from the table and no longer accepts hits
+		 * @return true if closed
+		 */
+		public boolean isClosed(){
+			return (this.count.get()&CLOSED)!=0;
+		}
+		/**
+		 * Occurrence key
+		 * @return key
+		 */
+		public K getKey() {
+			return key;
+		}
+		/**
+		 * Occurrence unique identifier
+		 * @return identifier
+		 */
+		public long getId() {
+			return id;
+		}
+		/**
+		 * Window start in nanoseconds
+		 * @return window start
+		 * @see System#nanoTime() 
+		 */
+		public long getWindowStart() {
+			return windowStart;
+		}
+		/**
+		 * Number of hits in this window
+		 * @return hits registered
+		 */
+		public long getCount() {
+			return this.count.get()&~CLOSED;
+		}
+	}
+	
+	
+	private final AtomicReferenceArray<Occurrence<K>> slots;
+	private final int mask;
+	private final long windowNanos;
+	private final AtomicLong sequence;
+
+	
+	/**
+	 * Table constructor
+	 * @param _capacity maximum number of occurrences to keep, rounded up to the next power of two
+	 * @param _windowNanos window duration in nanoseconds
+	 */
+	public OccurrenceTable(final int _capacity,final long _windowNanos){
+		final int capacity=Integer.highestOneBit(Math.max(2,_capacity-1))<<1;
+		this.slots=new AtomicReferenceArray<>(capacity);
+		this.mask=capacity-1;
+		this.windowNanos=_windowNanos;
+		this.sequence=new AtomicLong(0);
+	}
+
+	
+	private boolean isLive(final Occurrence<K> _occurrence,final long _now){
+		return (_occurrence!=null)&&(_now-_occurrence.windowStart<this.windowNanos);
+	}
+	private void removed(final Occurrence<K> _occurrence,final Consumer<Occurrence<K>> _onRemoved){
+		_occurrence.close();
+		if(_onRemoved!=null){
+			_onRemoved.accept(_occurrence);
+		}
+	}
+	
+	/**
+	 * Return the current occurrence for the given _key or replaces it with a new one if the window expired or the slot is owned by another key
+	 * @param _hash key hash
+	 * @param _key key
+	 * @param _now current time in nanoseconds
+	 * @param _onReplaced consumer to call with the replaced occurrence, can be null
+	 * @return current occurrence window of the key
+	 */
+	public Occurrence<K> register(final long _hash,final K _key,final long _now,final Consumer<Occurrence<K>> _onReplaced){
+		return register(_hash,_key,Object::equals,key -> key,_now,_onReplaced);
+	}
+	/**
+	 * Return the current occurrence of the key matching the given _query or replaces it with a new one if the window expired or the slots are owned by other keys.
+	 * The key is only created when a new occurrence is registered
+	 * @param <Q> query type
+	 * @param _hash key hash
+	 * @param _query query to match against the existing keys
+	 * @param _matcher predicate to check if a key matches the query
+	 * @param _keyFactory function to create the key of the query
+	 * @param _now current time in nanoseconds
+	 * @param _onReplaced consumer to call with the replaced occurrence, can be null
+	 * @return current occurrence window of the key
+	 */
+	public <Q> Occurrence<K> register(final long _hash,final Q _query,final BiPredicate<K,Q> _matcher,final Function<Q,K> _keyFactory,final long _now,final Consumer<Occurrence<K>> _onReplaced){
+		
+		final int primary=(int)(_hash^(_hash>>>32))&this.mask;
+		final int secondary=primary^(1|((int)(_hash>>>48)&this.mask));
+		Occurrence<K> reply=null;
+		K key=null;
+		
+		while(reply==null){
+			final Occurrence<K> first=this.slots.get(primary);
+			final Occurrence<K> second=this.slots.get(secondary);
+			if(isLive(first,_now)&&(first.matches(_hash,_query,_matcher))){
+				reply=first;
+			}else if(isLive(second,_now)&&(second.matches(_hash,_query,_matcher))){
+				reply=second;
+			}else{
+				final boolean useSecond=isLive(first,_now)&&(!isLive(second,_now));
+				final int index=(useSecond)? secondary : primary;
+				final Occurrence<K> current=(useSecond)? second : first;
+				if(key==null){
+					key=_keyFactory.apply(_query);
+				}
+				final Occurrence<K> replacement=new Occurrence<>(_hash,key,this.sequence.incrementAndGet(),_now);
+				if(this.slots.compareAndSet(index,current,replacement)){
+					if(current!=null){
+						removed(current,_onReplaced);
+					}
+					reply=replacement;
+				}
+			}
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Remove the occurrences whose window expired at the given _now calling the given consumer for each one
+	 * @param _now current time in nanoseconds
+	 * @param _onExpired consumer to call with each expired occurrence, can be null
+	 */
+	public void expire(final long _now,final Consumer<Occurrence<K>> _onExpired){
+		for(int ic1=0;ic1<this.slots.length();ic1++){
+			final Occurrence<K> current=this.slots.get(ic1);
+			if((current!=null)&&(!isLive(current,_now))&&(this.slots.compareAndSet(ic1,current,null))){
+				removed(current,_onExpired);
+			}
+		}
+	}
+	
+	/**
+	 * Remove all the occurrences calling the given consumer for each one
+	 * @param _onRemoved consumer to call with each removed occurrence
+	 */
+	public void clear(final Consumer<Occurrence<K>> _onRemoved){
+		for(int ic1=0;ic1<this.slots.length();ic1++){
+			final Occurrence<K> current=this.slots.getAndSet(ic1,null);
+			if(current!=null){
+				removed(current,_onRemoved);
+			}
+		}
+	}
+}
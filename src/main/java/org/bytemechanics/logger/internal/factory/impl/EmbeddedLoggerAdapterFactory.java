@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.internal.factory.impl;
+
+import java.util.function.Function;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.factory.LoggerAdapterFactory;
+import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
+import org.bytemechanics.logger.internal.factory.utils.LoggerFactoryCache;
+
+/**
+ * Logger adapter factory service of an embedded logger API provider. The automatically probed providers are registered at META-INF/services 
+ * with negative priorities in the LoggerAPIProvider order, so any user factory with priority 0 or greater is preferred.
+ * <br>
+ * The availability check only looks for the detection class without initializing it and the adapter factory is resolved at the first getLogger call.
+ * @author afarre
+ * @since 2.3.0
+ * @see LoggerAPIProvider
+ */
+public abstract class EmbeddedLoggerAdapterFactory implements LoggerAdapterFactory{
+
+	/** Logback embedded provider service */
+	public static final class Logback extends EmbeddedLoggerAdapterFactory{
+		public Logback(){
+			super(LoggerAPIProvider.LOGBACK,-10);
+		}
+	}
+	/** Log4j embedded provider service */
+	public static final class Log4j extends EmbeddedLoggerAdapterFactory{
+		public Log4j(){
+			super(LoggerAPIProvider.LOG4J,-20);
+		}
+	}
+	/** Log4j2 extension embedded provider service */
+	public static final class Log4j2Extension extends EmbeddedLoggerAdapterFactory{
+		public Log4j2Extension(){
+			super(LoggerAPIProvider.LOG4J2E,-30);
+		}
+	}
+	/** Log4j2 embedded provider service */
+	public static final class Log4j2 extends EmbeddedLoggerAdapterFactory{
+		public Log4j2(){
+			super(LoggerAPIProvider.LOG4J2,-40);
+		}
+	}
+	/** Java logging embedded provider service */
+	public static final class JavaLogging extends EmbeddedLoggerAdapterFactory{
+		public JavaLogging(){
+			super(LoggerAPIProvider.JSR,-90);
+		}
+	}
+	
+	private final LoggerAPIProvider provider;
+	private final int priority;
+	private volatile Function<String,LoggerAdapter> factory;
+
+	
+	protected EmbeddedLoggerAdapterFactory(final LoggerAPIProvider _provider,final int _priority){
+		this.provider=_provider;
+		this.priority=_priority;
+		this.factory=null;
+	}
+
+	
+	/**
+	 * Returns the embedded logger API provider of this factory
+	 * @return logger API provider
+	 */
+	public LoggerAPIProvider getProvider() {
+		return provider;
+	}
+
+	/** @see LoggerAdapterFactory#getPriority() */
+	@Override
+	public int getPriority() {
+		return this.priority;
+	}
+
+	/** 
+	 * Look for the provider detection class without initializing it
+	 * @see LoggerAdapterFactory#isAvailable() 
+	 */
+	@Override
+	public boolean isAvailable() {
+		
+		boolean reply=false;
+		
+		try{
+			reply=(Class.forName(this.provider.detectionClassName,false,EmbeddedLoggerAdapterFactory.class.getClassLoader())!=null);
+		}catch(ClassNotFoundException|LinkageError e){
+			//We do nothing because we are detecting if the class exist
+		}
+		
+		return reply;
+	}
+
+	/** @see LoggerAdapterFactory#getLogger(java.lang.String) */
+	@Override
+	public LoggerAdapter getLogger(final String _logger) {
+		
+		Function<String,LoggerAdapter> reply=this.factory;
+		
+		if(reply==null){
+			reply=LoggerFactoryCache.getLoggerFactory(this.provider)
+										.orElseThrow(() -> new IllegalStateException(SimpleFormat.format("Embedded provider {} has no registered logger adapter",this.provider)));
+			this.factory=reply;
+		}
+		
+		return reply.apply(_logger);
+	}
+
+	/** @see Object#toString() */
+	@Override
+	public String toString() {
+		return "EmbeddedLoggerAdapterFactory{" + "provider=" + provider + ", priority=" + priority + '}';
+	}
+}
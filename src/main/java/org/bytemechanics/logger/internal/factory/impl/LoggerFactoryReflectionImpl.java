@@ -35,7 +35,9 @@ public class LoggerFactoryReflectionImpl implements LoggerFactoryAdapter{
 	
 	public LoggerFactoryReflectionImpl(){
 		this(new LoggerReflectionUtils()
-					.findLoggerFactory(Stream.of(LoggerAPIProvider.values())
+					.findLoggerFactory(getClassLoader()
+										,Stream.of(LoggerAPIProvider.values())
+												.filter(LoggerAPIProvider::isProbed)
 												.filter(apiProvider -> !LoggerAPIProvider.CONSOLE.equals(apiProvider))
 										,LoggerFactoryReflectionImpl::consoleLogger));
 	}
@@ -50,6 +52,15 @@ public class LoggerFactoryReflectionImpl implements LoggerFactoryAdapter{
 	}
 
 	
+	/**
+	 * Return the class loader where look for logger adapter factory services
+	 * @return the current thread context class loader if exist, otherwise the class loader of this class
+	 * @since 2.3.0
+	 */
+	public static ClassLoader getClassLoader(){
+		final ClassLoader reply=Thread.currentThread().getContextClassLoader();
+		return (reply!=null)? reply : LoggerFactoryReflectionImpl.class.getClassLoader();
+	}
 	public static Function<String,LoggerAdapter> consoleLogger(){
 		System.out.println("[WARNING] FluentLogger: No logging API present in classpath: Log4j, Log4j2 or Logging api not found, all logging INFO or greater priority will be printed into console\n"
 							+ "\tIf you want to remove this message or print into file, please import into your classpath  Log4j, Log4j2 or Logging api");
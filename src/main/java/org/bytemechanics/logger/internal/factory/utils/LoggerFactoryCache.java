@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.internal.factory.utils;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ * Cache of the logger adapter factories of each logger api provider. Each provider is resolved only once (even if it can not be resolved), 
+ * the cache is an immutable EnumMap replaced on each new resolution, so the lookups are a volatile read and an array access without locking.
+ * <br>
+ * The embedded adapters are registered by implementation class name and never referenced statically, each one is only loaded when its provider is requested, 
+ * so it's safe to use even if the other logging APIs are not in classpath. Native images keep only the adapters whose logging API is reachable.
+ * @author afarre
+ * @since 2.3.0
+ * @see LoggerReflectionUtils#getLoggerFactory(org.bytemechanics.logger.adapters.LoggerAPIProvider) 
+ */
+public final class LoggerFactoryCache {
+
+	private static final Object LOCK=new Object();
+	private static volatile Map<LoggerAPIProvider,Optional<Function<String,LoggerAdapter>>> factories=new EnumMap<>(LoggerAPIProvider.class);
+	
+	private LoggerFactoryCache(){}
+	
+	
+	/**
+	 * Returns if the adapter of the given embedded _provider is packaged and visible. The SYSTEM adapter only exists at the Java 9 section of the multi-release jar, 
+	 * so it's not registered on Java 8 or when the classes are not loaded from the multi-release jar
+	 * @param _provider logger api provider
+	 * @return true if the adapter implementation class exists, false otherwise or if the provider is null
+	 */
+	public static boolean isRegistered(final LoggerAPIProvider _provider){
+		
+		boolean reply=false;
+		
+		if(_provider!=null){
+			try{
+				reply=(Class.forName(_provider.implementationClassName,false,LoggerFactoryCache.class.getClassLoader())!=null);
+			}catch(ClassNotFoundException|LinkageError e){
+				//We do nothing because we are detecting if the class exist
+			}
+		}
+		
+		return reply;
+	}
+	/**
+	 * Return the logger adapter factory of the given _provider resolving it the first time
+	 * @param _provider logger api provider
+	 * @return optional with the function to generate loggerAdapter from the logger name or empty if the provider is null, its adapter is not registered or can not be resolved
+	 * @see LoggerFactoryCache#isRegistered(org.bytemechanics.logger.adapters.LoggerAPIProvider) 
+	 */
+	public static Optional<Function<String,LoggerAdapter>> getLoggerFactory(final LoggerAPIProvider _provider){
+		
+		if(_provider==null)
+			return Optional.empty();
+		
+		Optional<Function<String,LoggerAdapter>> reply=factories.get(_provider);
+		if(reply==null){
+			synchronized(LOCK){
+				reply=factories.get(_provider);
+				if(reply==null){
+					reply=(isRegistered(_provider))? new LoggerReflectionUtils().getLoggerFactory(_provider) : Optional.empty();
+					final Map<LoggerAPIProvider,Optional<Function<String,LoggerAdapter>>> updated=new EnumMap<>(factories);
+					updated.put(_provider,reply);
+					factories=updated;
+				}
+			}
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Discard all the resolved factories
+	 */
+	public static void clear(){
+		synchronized(LOCK){
+			factories=new EnumMap<>(LoggerAPIProvider.class);
+		}
+	}
+}
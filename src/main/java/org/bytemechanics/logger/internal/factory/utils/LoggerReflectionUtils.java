@@ -15,9 +15,16 @@
  */
 package org.bytemechanics.logger.internal.factory.utils;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -25,6 +32,8 @@ import java.util.logging.Logger;
 import java.util.stream.Stream;
 import org.bytemechanics.logger.adapters.LoggerAPIProvider;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.factory.LoggerAdapterFactory;
+import org.bytemechanics.logger.factory.LoggerProviderConfiguration;
 import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
 import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
 
@@ -91,13 +100,33 @@ public class LoggerReflectionUtils{
 		return reply;
 	}
 	/**
-	 * Get a LoggerAdapter lambda provider from string unchecking any possible checked exception
+	 * Get a LoggerAdapter lambda provider from string. The lambda is generated with LambdaMetafactory to call directly the constructor without reflection, 
+	 * if it can not be generated falls back to the reflective constructor call unchecking any possible checked exception
 	 * @param _constructor constructor to use
 	 * @return Function to retrieve LoggerAdapter from a given string logger name
 	 * @see LoggerAdapter
+	 * @see LambdaMetafactory
 	 */
+	@SuppressWarnings("unchecked")
 	protected Function<String,LoggerAdapter> buildFactory(final Constructor<? extends LoggerAdapter> _constructor){
-		return LambdaUnchecker.uncheckedFunction(_constructor::newInstance);
+		
+		Function<String,LoggerAdapter> reply;
+		
+		try{
+			final MethodHandles.Lookup lookup=MethodHandles.lookup();
+			final CallSite callSite=LambdaMetafactory.metafactory(lookup
+																,"apply"
+																,MethodType.methodType(Function.class)
+																,MethodType.methodType(Object.class,Object.class)
+																,lookup.unreflectConstructor(_constructor)
+																,MethodType.methodType(_constructor.getDeclaringClass(),String.class));
+			reply=(Function<String,LoggerAdapter>)callSite.getTarget().invoke();
+		}catch(Throwable e){
+			Logger.getLogger(LoggerReflectionUtils.class.getName()).log(Level.FINEST,e, () -> SimpleFormat.format("Unable to generate factory lambda for {}, using reflection",_constructor));
+			reply=LambdaUnchecker.uncheckedFunction(_constructor::newInstance);
+		}
+		
+		return reply;
 	}
 
 	/**
@@ -133,6 +162,86 @@ public class LoggerReflectionUtils{
 							.orElseGet(_defaultLoggerSupplier);
 	}
 
+	/**
+	 * Find the first available LoggerAPIProvider from the given stream
+	 * @param _loggerAPIProviders stream of logger api providers
+	 * @return optional with the first logger api provider whose API exist in classpath
+	 * @since 2.3.0
+	 */
+	public Optional<LoggerAPIProvider> findAvailableProvider(final Stream<LoggerAPIProvider> _loggerAPIProviders){
+		return _loggerAPIProviders
+						.sequential()
+						.filter(this::existAPI)
+						.findFirst();
+	}
+	/**
+	 * Get the LoggerAdapter lambda provider of the precomputed provider recorded at the given _classLoader if its API exist, the adapter is instantiated without reflection
+	 * @param _classLoader class loader where look for the precomputed provider
+	 * @return optional with the function to generate loggerAdapter from the logger name or empty if there are no precomputed provider or its API does not exist
+	 * @see LoggerProviderConfiguration
+	 * @see LoggerFactoryCache
+	 * @since 2.3.0
+	 */
+	public Optional<Function<String,LoggerAdapter>> findPrecomputedLoggerFactory(final ClassLoader _classLoader){
+		return LoggerProviderConfiguration.read(_classLoader)
+						.filter(this::existAPI)
+						.flatMap(LoggerFactoryCache::getLoggerFactory);
+	}
+	/**
+	 * Find the available logger adapter factory with highest priority registered as service at the given _classLoader, including the embedded providers services. 
+	 * The availability is only checked for the candidates with higher priority than the current one. Broken service registrations are reported and skipped
+	 * @param _classLoader class loader where look for the service registrations
+	 * @return optional with the available logger adapter factory with highest priority or empty if none
+	 * @see LoggerAdapterFactory
+	 * @since 2.3.0
+	 */
+	public Optional<LoggerAdapterFactory> findServiceFactory(final ClassLoader _classLoader){
+		
+		LoggerAdapterFactory reply=null;
+		
+		final Iterator<LoggerAdapterFactory> services=ServiceLoader.load(LoggerAdapterFactory.class,_classLoader).iterator();
+		boolean pending=true;
+		while(pending){
+			try {
+				pending=services.hasNext();
+			} catch (ServiceConfigurationError e) {
+				System.err.println(SimpleFormat.format("[WARNING] Unable to read {} service registrations: {}",LoggerAdapterFactory.class.getName(),e.getMessage()));
+				pending=false;
+			}
+			if(pending){
+				try {
+					final LoggerAdapterFactory candidate=services.next();
+					if(((reply==null)||(candidate.getPriority()>reply.getPriority()))&&(candidate.isAvailable())){
+						reply=candidate;
+					}
+				} catch (ServiceConfigurationError|LinkageError e) {
+					Logger.getLogger(LoggerReflectionUtils.class.getName()).log(Level.SEVERE, null, e);
+					System.err.println(SimpleFormat.format("[WARNING] Registered {} service can not be loaded: {}",LoggerAdapterFactory.class.getName(),e.getMessage()));
+				}
+			}
+		}
+		
+		return Optional.ofNullable(reply);
+	}
+	/**
+	 * Get the LoggerAdapter lambda provider from the precomputed provider if exist, otherwise from the available logger adapter factory service with highest priority 
+	 * (the embedded providers are registered as services too) or as last fallback the first available from LoggerAPIProvider enum values if no service is available
+	 * @param _classLoader class loader where look for the precomputed provider and the service registrations
+	 * @param _loggerAPIProviders stream of logger api providers
+	 * @param _defaultLoggerSupplier default lambda if no service neither API provider found
+	 * @return Function to retrieve LoggerAdapter from a given string logger name
+	 * @see LoggerProviderConfiguration
+	 * @see LoggerAdapterFactory
+	 * @see LoggerAPIProvider
+	 * @since 2.3.0
+	 */
+	public Function<String,LoggerAdapter> findLoggerFactory(final ClassLoader _classLoader,final Stream<LoggerAPIProvider> _loggerAPIProviders,final Supplier<Function<String,LoggerAdapter>> _defaultLoggerSupplier){
+		return findPrecomputedLoggerFactory(_classLoader)
+						.orElseGet(() -> findServiceFactory(_classLoader)
+												.<Function<String,LoggerAdapter>>map(service -> service::getLogger)
+												.orElseGet(() -> findLoggerFactory(_loggerAPIProviders,_defaultLoggerSupplier)));
+	}
+
 	/**
 	 * Determine if the object is a Throwable instance
 	 * @param _object object to check
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.layouts;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.bytemechanics.logger.adapters.Log;
+
+/**
+ * JSON lines layout, encodes each log as a single line JSON object directly into the buffer with hand-written escaping and number encoding
+ * <br>
+ * Example:
+ * <code>
+ * {"time":"2019-01-01T01:01:01.000","level":"INFO","logger":"my-logger","message":"my message","fields":{"key":"value"},"context":{"requestId":"1234"},"throwable":{"class":"java.io.IOException","message":"error","stacktrace":["my.Class.method(Class.java:1)"]}}
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ */
+public class JsonLayout implements Layout{
+
+	/** Default maximum number of stacktrace frames written per throwable */
+	public static final int DEFAULT_MAX_FRAMES=64;
+	/** Maximum number of nested causes written */
+	public static final int MAX_CAUSES=8;
+
+	private static final byte[] HEX={'0','1','2','3','4','5','6','7','8','9','a','b','c','d','e','f'};
+
+	private final int maxFrames;
+	private final BiConsumer<LayoutBuffer,CharSequence> escapedText;
+
+
+	public JsonLayout(){
+		this(DEFAULT_MAX_FRAMES);
+	}
+	/**
+	 * Constructor with custom stacktrace depth
+	 * @param _maxFrames maximum number of stacktrace frames written per throwable
+	 */
+	public JsonLayout(final int _maxFrames){
+		this.maxFrames=_maxFrames;
+		this.escapedText=this::appendEscaped;
+	}
+
+
+	/**
+	 * Append the given _text escaped as JSON string content (without quotes)
+	 * @param _buffer buffer where append
+	 * @param _text text to escape
+	 */
+	protected void appendEscaped(final LayoutBuffer _buffer,final CharSequence _text){
+		final int length=_text.length();
+		for(int ic1=0;ic1<length;ic1++){
+			final char current=_text.charAt(ic1);
+			switch(current){
+				case '"':	_buffer.appendAscii('\\').appendAscii('"');
+							break;
+				case '\\':	_buffer.appendAscii('\\').appendAscii('\\');
+							break;
+				case '\n':	_buffer.appendAscii('\\').appendAscii('n');
+							break;
+				case '\r':	_buffer.appendAscii('\\').appendAscii('r');
+							break;
+				case '\t':	_buffer.appendAscii('\\').appendAscii('t');
+							break;
+				case '\b':	_buffer.appendAscii('\\').appendAscii('b');
+							break;
+				case '\f':	_buffer.appendAscii('\\').appendAscii('f');
+							break;
+				default:
+					if(current<0x20){
+						_buffer.appendAscii("\\u00")
+								.append(HEX[current>>4])
+								.append(HEX[current&0xF]);
+					}else if(current<0x80){
+						_buffer.appendAscii(current);
+					}else if(Character.isHighSurrogate(current)&&(ic1+1<length)&&Character.isLowSurrogate(_text.charAt(ic1+1))){
+						_buffer.appendCodePoint(Character.toCodePoint(current,_text.charAt(++ic1)));
+					}else if(Character.isSurrogate(current)){
+						_buffer.appendAscii('?');
+					}else{
+						_buffer.appendCodePoint(current);
+					}
+			}
+		}
+	}
+	/**
+	 * Append the given _text as quoted JSON string or null
+	 * @param _buffer buffer where append
+	 * @param _text text to append
+	 */
+	protected void appendString(final LayoutBuffer _buffer,final CharSequence _text){
+		if(_text==null){
+			_buffer.appendAscii("null");
+		}else{
+			_buffer.appendAscii('"');
+			appendEscaped(_buffer,_text);
+			_buffer.appendAscii('"');
+		}
+	}
+	/**
+	 * Append the given _time as ISO-8601 local date time with milliseconds
+	 * @param _buffer buffer where append
+	 * @param _time time to append
+	 */
+	protected void appendTime(final LayoutBuffer _buffer,final LocalDateTime _time){
+		_buffer.appendAscii('"')
+				.appendPadded(_time.getYear(),4).appendAscii('-')
+				.appendPadded(_time.getMonthValue(),2).appendAscii('-')
+				.appendPadded(_time.getDayOfMonth(),2).appendAscii('T')
+				.appendPadded(_time.getHour(),2).appendAscii(':')
+				.appendPadded(_time.getMinute(),2).appendAscii(':')
+				.appendPadded(_time.getSecond(),2).appendAscii('.')
+				.appendPadded(_time.getNano()/1_000_000,3)
+				.appendAscii('"');
+	}
+	/**
+	 * Append the given field _value as JSON value. Integral numbers and booleans are written without conversion, floating numbers use its java representation and any other object its toString() as string
+	 * @param _buffer buffer where append
+	 * @param _value value to append
+	 */
+	protected void appendValue(final LayoutBuffer _buffer,final Object _value){
+		if(_value==null){
+			_buffer.appendAscii("null");
+		}else if((_value instanceof Long)||(_value instanceof Integer)||(_value instanceof Short)||(_value instanceof Byte)){
+			_buffer.appendLong(((Number)_value).longValue());
+		}else if(_value instanceof Boolean){
+			_buffer.appendAscii(((Boolean)_value)? "true" : "false");
+		}else if((_value instanceof Double)||(_value instanceof Float)){
+			final double value=((Number)_value).doubleValue();
+			if(Double.isNaN(value)||Double.isInfinite(value)){
+				appendString(_buffer,_value.toString());
+			}else{
+				_buffer.appendAscii(_value.toString());
+			}
+		}else if(_value instanceof CharSequence){
+			appendString(_buffer,(CharSequence)_value);
+		}else{
+			appendString(_buffer,String.valueOf(_value));
+		}
+	}
+	/**
+	 * Append a stacktrace element as JSON string with the same format as StackTraceElement#toString()
+	 * @param _buffer buffer where append
+	 * @param _element stacktrace element to append
+	 * @see ThrowableRenderer#appendFrame(LayoutBuffer, StackTraceElement, BiConsumer) 
+	 */
+	protected void appendStackTraceElement(final LayoutBuffer _buffer,final StackTraceElement _element){
+		_buffer.appendAscii('"');
+		ThrowableRenderer.appendFrame(_buffer,_element,this.escapedText);
+		_buffer.appendAscii('"');
+	}
+	/**
+	 * Append the given _throwable as JSON object including its causes
+	 * @param _buffer buffer where append
+	 * @param _throwable throwable to append
+	 */
+	protected void appendThrowable(final LayoutBuffer _buffer,final Throwable _throwable){
+		Throwable current=_throwable;
+		int opened=0;
+		while(current!=null){
+			opened++;
+			_buffer.appendAscii("{\"class\":");
+			appendString(_buffer,current.getClass().getName());
+			_buffer.appendAscii(",\"message\":");
+			appendString(_buffer,current.getMessage());
+			_buffer.appendAscii(",\"stacktrace\":[");
+			final StackTraceElement[] stacktrace=current.getStackTrace();
+			final int frames=Math.min(stacktrace.length,this.maxFrames);
+			for(int ic1=0;ic1<frames;ic1++){
+				if(ic1>0){
+					_buffer.appendAscii(',');
+				}
+				appendStackTraceElement(_buffer,stacktrace[ic1]);
+			}
+			_buffer.appendAscii(']');
+			final Throwable cause=current.getCause();
+			if((cause!=null)&&(cause!=current)&&(opened<MAX_CAUSES)){
+				_buffer.appendAscii(",\"cause\":");
+				current=cause;
+			}else{
+				current=null;
+			}
+		}
+		for(int ic1=0;ic1<opened;ic1++){
+			_buffer.appendAscii('}');
+		}
+	}
+
+	/** @see Layout#encode(java.lang.String, org.bytemechanics.logger.adapters.Log, org.bytemechanics.logger.layouts.LayoutBuffer) */
+	@Override
+	public void encode(final String _loggerName,final Log _log,final LayoutBuffer _buffer) {
+
+		_buffer.appendAscii("{\"time\":");
+		appendTime(_buffer,_log.getTime());
+		_buffer.appendAscii(",\"level\":\"").appendAscii(_log.getLevel().name()).appendAscii('"');
+		_buffer.appendAscii(",\"logger\":");
+		appendString(_buffer,_loggerName);
+		_buffer.appendAscii(",\"message\":");
+		appendString(_buffer,_log.getMessage().get());
+		final Map<String,Object> fields=_log.getFields();
+		if(!fields.isEmpty()){
+			_buffer.appendAscii(",\"fields\":{");
+			boolean first=true;
+			for(Map.Entry<String,Object> field:fields.entrySet()){
+				if(!first){
+					_buffer.appendAscii(',');
+				}
+				appendString(_buffer,field.getKey());
+				_buffer.appendAscii(':');
+				appendValue(_buffer,field.getValue());
+				first=false;
+			}
+			_buffer.appendAscii('}');
+		}
+		final Map<String,String> context=_log.getContext();
+		if(!context.isEmpty()){
+			_buffer.appendAscii(",\"context\":{");
+			boolean first=true;
+			for(Map.Entry<String,String> entry:context.entrySet()){
+				if(!first){
+					_buffer.appendAscii(',');
+				}
+				appendString(_buffer,entry.getKey());
+				_buffer.appendAscii(':');
+				appendString(_buffer,entry.getValue());
+				first=false;
+			}
+			_buffer.appendAscii('}');
+		}
+		final Throwable throwable=_log.getThrowable()
+										.orElse(null);
+		if(throwable!=null){
+			_buffer.appendAscii(",\"throwable\":");
+			appendThrowable(_buffer,throwable);
+		}
+		_buffer.appendAscii('}').appendAscii('\n');
+	}
+}
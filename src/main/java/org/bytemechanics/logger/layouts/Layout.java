@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.layouts;
+
+import org.bytemechanics.logger.adapters.Log;
+
+/**
+ * Log layout to encode a log into a reusable byte buffer
+ * @author afarre
+ * @since 2.3.0
+ */
+public interface Layout {
+
+	/**
+	 * Encode the given _log into the _buffer appending to any existing content
+	 * @param _loggerName name of the logger that emits the log
+	 * @param _log log to encode
+	 * @param _buffer buffer where the encoded log must be appended
+	 * @see LayoutBuffer
+	 */
+	public void encode(final String _loggerName,final Log _log,final LayoutBuffer _buffer);
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.layouts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reusable growable byte buffer where layouts encode their output as UTF-8 without intermediate strings.
+ * <br>
+ * Instances are not thread safe, the intended usage is one buffer per writer thread reseted before each encoding
+ * @author afarre
+ * @since 2.3.0
+ */
+public class LayoutBuffer {
+
+	/** Default initial capacity */
+	public static final int DEFAULT_CAPACITY=512;
+	/** Maximum capacity retained between uses, bigger buffers are released at reset */
+	public static final int MAX_RETAINED_CAPACITY=64*1024;
+
+	private static final byte[] LONG_MIN_VALUE="-9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+
+	private final int initialCapacity;
+	private byte[] buffer;
+	private int size;
+
+
+	public LayoutBuffer(){
+		this(DEFAULT_CAPACITY);
+	}
+	public LayoutBuffer(final int _initialCapacity){
+		this.initialCapacity=Math.max(16,_initialCapacity);
+		this.buffer=new byte[this.initialCapacity];
+		this.size=0;
+	}
+
+
+	private void ensureCapacity(final int _extra){
+		final int required=this.size+_extra;
+		if(required>this.buffer.length){
+			this.buffer=Arrays.copyOf(this.buffer,Math.max(required,this.buffer.length<<1));
+		}
+	}
+
+	/**
+	 * Discard the current content, releasing the internal array if it grown over MAX_RETAINED_CAPACITY
+	 * @return this buffer
+	 * @see LayoutBuffer#MAX_RETAINED_CAPACITY
+	 */
+	public LayoutBuffer reset(){
+		if(this.buffer.length>MAX_RETAINED_CAPACITY){
+			this.buffer=new byte[this.initialCapacity];
+		}
+		this.size=0;
+		return this;
+	}
+	/**
+	 * Current written bytes
+	 * @return number of bytes written since last reset
+	 */
+	public int size(){
+		return this.size;
+	}
+
+	/**
+	 * Append a raw byte
+	 * @param _byte byte to append
+	 * @return this buffer
+	 */
+	public LayoutBuffer append(final byte _byte){
+		ensureCapacity(1);
+		this.buffer[this.size++]=_byte;
+		return this;
+	}
+	/**
+	 * Append an ASCII character (only intended for chars lower than 0x80)
+	 * @param _char ascii character to append
+	 * @return this buffer
+	 */
+	public LayoutBuffer appendAscii(final char _char){
+		return append((byte)_char);
+	}
+	/**
+	 * Append an ASCII char sequence without any encoding (only intended for constants as keys or separators)
+	 * @param _ascii ascii char sequence
+	 * @return this buffer
+	 */
+	public LayoutBuffer appendAscii(final CharSequence _ascii){
+		final int length=_ascii.length();
+		ensureCapacity(length);
+		for(int ic1=0;ic1<length;ic1++){
+			this.buffer[this.size++]=(byte)_ascii.charAt(ic1);
+		}
+		return this;
+	}
+	/**
+	 * Append the given unicode code point encoded as UTF-8
+	 * @param _codePoint code point to append
+	 * @return this buffer
+	 */
+	public LayoutBuffer appendCodePoint(final int _codePoint){
+		if(_codePoint<0x80){
+			append((byte)_codePoint);
+		}else if(_codePoint<0x800){
+			ensureCapacity(2);
+			this.buffer[this.size++]=(byte)(0xC0|(_codePoint>>6));
+			this.buffer[this.size++]=(byte)(0x80|(_codePoint&0x3F));
+		}else if(_codePoint<0x10000){
+			ensureCapacity(3);
+			this.buffer[this.size++]=(byte)(0xE0|(_codePoint>>12));
+			this.buffer[this.size++]=(byte)(0x80|((_codePoint>>6)&0x3F));
+			this.buffer[this.size++]=(byte)(0x80|(_codePoint&0x3F));
+		}else{
+			ensureCapacity(4);
+			this.buffer[this.size++]=(byte)(0xF0|(_codePoint>>18));
+			this.buffer[this.size++]=(byte)(0x80|((_codePoint>>12)&0x3F));
+			this.buffer[this.size++]=(byte)(0x80|((_codePoint>>6)&0x3F));
+			this.buffer[this.size++]=(byte)(0x80|(_codePoint&0x3F));
+		}
+		return this;
+	}
+	/**
+	 * Append the given char sequence encoded as UTF-8, unpaired surrogates are replaced by '?'
+	 * @param _text char sequence to append
+	 * @return this buffer
+	 */
+	public LayoutBuffer appendUtf8(final CharSequence _text){
+		final int length=_text.length();
+		for(int ic1=0;ic1<length;ic1++){
+			final char current=_text.charAt(ic1);
+			if(current<0x80){
+				append((byte)current);
+			}else if(Character.isHighSurrogate(current)&&(ic1+1<length)&&Character.isLowSurrogate(_text.charAt(ic1+1))){
+				appendCodePoint(Character.toCodePoint(current,_text.charAt(++ic1)));
+			}else if(Character.isSurrogate(current)){
+				append((byte)'?');
+			}else{
+				appendCodePoint(current);
+			}
+		}
+		return this;
+	}
+	/**
+	 * Append the decimal representation of the given number
+	 * @param _value number to append
+	 * @return this buffer
+	 */
+	public LayoutBuffer appendLong(final long _value){
+		if(_value==Long.MIN_VALUE){
+			ensureCapacity(LONG_MIN_VALUE.length);
+			System.arraycopy(LONG_MIN_VALUE,0,this.buffer,this.size,LONG_MIN_VALUE.length);
+			this.size+=LONG_MIN_VALUE.length;
+			return this;
+		}
+		long value=_value;
+		if(value<0){
+			append((byte)'-');
+			value=-value;
+		}
+		int digits=1;
+		for(long limit=10;(digits<19)&&(value>=limit);limit*=10){
+			digits++;
+		}
+		ensureCapacity(digits);
+		for(int ic1=this.size+digits-1;ic1>=this.size;ic1--){
+			this.buffer[ic1]=(byte)('0'+(value%10));
+			value/=10;
+		}
+		this.size+=digits;
+		return this;
+	}
+	/**
+	 * Append the decimal representation of the given non negative number left padded with zeros until reach the given width
+	 * @param _value non negative number to append
+	 * @param _width minimum number of digits
+	 * @return this buffer
+	 */
+	public LayoutBuffer appendPadded(final int _value,final int _width){
+		int digits=1;
+		for(int limit=10;(digits<10)&&(_value>=limit);limit*=10){
+			digits++;
+		}
+		for(int ic1=digits;ic1<_width;ic1++){
+			append((byte)'0');
+		}
+		return appendLong(_value);
+	}
+
+	/**
+	 * Write the current content to the given _stream
+	 * @param _stream output stream where write
+	 * @throws IOException if the underlying stream fails
+	 */
+	public void writeTo(final OutputStream _stream) throws IOException{
+		_stream.write(this.buffer,0,this.size);
+	}
+	/**
+	 * Write the current content to the given _stream
+	 * @param _stream print stream where write
+	 * @see PrintStream#write(byte[], int, int) 
+	 */
+	public void writeTo(final PrintStream _stream){
+		_stream.write(this.buffer,0,this.size);
+	}
+	/**
+	 * Copy of the current content
+	 * @return new byte array with the current content
+	 */
+	public byte[] toByteArray(){
+		return Arrays.copyOf(this.buffer,this.size);
+	}
+
+	/** @see Object#toString() */
+	@Override
+	public String toString() {
+		return new String(this.buffer,0,this.size,StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.layouts;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.bytemechanics.logger.internal.cache.OccurrenceTable;
+
+/**
+ * Throwable text renderer with stack-trace deduplication. The first occurrence of each exception class and stack fingerprint is rendered completely once per window, any other occurrence in the same window is rendered as a single line reference.
+ * <br>
+ * Example:
+ * <code>
+ * java.lang.IllegalStateException: message [#12]
+ *	at my.Class.method(Class.java:1)
+ *	... 40 more frames
+ * Caused by: java.io.IOException: cause
+ *	at my.Other.method(Other.java:2)
+ *	... 3 common frames omitted
+ * java.lang.IllegalStateException: message [same as #12, repeated 1 times]
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ */
+public class ThrowableRenderer {
+
+	/** Default deduplication window in milliseconds */
+	public static final long DEFAULT_WINDOW_MILLIS=60_000;
+	/** Default maximum number of stacktrace frames rendered per throwable */
+	public static final int DEFAULT_MAX_FRAMES=64;
+	/** Default number of distinct stack fingerprints tracked */
+	public static final int DEFAULT_CACHE_SIZE=256;
+	/** Maximum number of nested causes rendered */
+	public static final int MAX_CAUSES=8;
+
+	private final OccurrenceTable<Class<?>> occurrences;
+	private final int maxFrames;
+
+
+	public ThrowableRenderer(){
+		this(DEFAULT_WINDOW_MILLIS,DEFAULT_MAX_FRAMES,DEFAULT_CACHE_SIZE);
+	}
+	/**
+	 * Constructor with custom configuration
+	 * @param _windowMillis deduplication window in milliseconds, zero or negative disables the deduplication
+	 * @param _maxFrames maximum number of stacktrace frames rendered per throwable
+	 * @param _cacheSize maximum number of distinct stack fingerprints tracked
+	 */
+	public ThrowableRenderer(final long _windowMillis,final int _maxFrames,final int _cacheSize){
+		this.occurrences=(_windowMillis>0)? new OccurrenceTable<>(_cacheSize,TimeUnit.MILLISECONDS.toNanos(_windowMillis)) : null;
+		this.maxFrames=_maxFrames;
+	}
+
+
+	/**
+	 * Compute the stack fingerprint of the given throwable including its causes
+	 * @param _throwable throwable to fingerprint
+	 * @return 64 bits fingerprint
+	 */
+	protected long fingerprint(final Throwable _throwable){
+
+		long reply=1125899906842597L;
+		Throwable current=_throwable;
+		int causes=0;
+
+		while((current!=null)&&(causes++<MAX_CAUSES)){
+			reply=31*reply+current.getClass().getName().hashCode();
+			for(StackTraceElement element:current.getStackTrace()){
+				reply=31*reply+element.hashCode();
+			}
+			current=(current.getCause()==current)? null : current.getCause();
+		}
+		reply^=(reply>>>33);
+		reply*=0xff51afd7ed558ccdL;
+		reply^=(reply>>>33);
+
+		return reply;
+	}
+
+	protected void appendHeader(final LayoutBuffer _buffer,final Throwable _throwable){
+		_buffer.appendUtf8(_throwable.getClass().getName());
+		final String message=_throwable.getLocalizedMessage();
+		if(message!=null){
+			_buffer.appendAscii(": ").appendUtf8(message);
+		}
+	}
+	/**
+	 * Append a stacktrace element with the same format as StackTraceElement#toString(), shared by all the layouts
+	 * @param _buffer buffer where append
+	 * @param _element stacktrace element to append
+	 * @param _text appender of the class, method and file names (to apply any layout encoding)
+	 */
+	static void appendFrame(final LayoutBuffer _buffer,final StackTraceElement _element,final BiConsumer<LayoutBuffer,CharSequence> _text){
+		_text.accept(_buffer,_element.getClassName());
+		_buffer.appendAscii('.');
+		_text.accept(_buffer,_element.getMethodName());
+		_buffer.appendAscii('(');
+		if(_element.isNativeMethod()){
+			_buffer.appendAscii("Native Method");
+		}else if(_element.getFileName()==null){
+			_buffer.appendAscii("Unknown Source");
+		}else{
+			_text.accept(_buffer,_element.getFileName());
+			if(_element.getLineNumber()>=0){
+				_buffer.appendAscii(':').appendLong(_element.getLineNumber());
+			}
+		}
+		_buffer.appendAscii(')');
+	}
+	protected void appendStackTraceElement(final LayoutBuffer _buffer,final StackTraceElement _element){
+		_buffer.appendAscii("\tat ");
+		appendFrame(_buffer,_element,LayoutBuffer::appendUtf8);
+		_buffer.appendAscii('\n');
+	}
+	/**
+	 * Render the complete stacktrace limiting the frames per throwable and omitting the frames in common with the enclosing trace
+	 * @param _buffer buffer where append
+	 * @param _throwable throwable to render
+	 * @param _id occurrence identifier or zero if none
+	 */
+	protected void appendFull(final LayoutBuffer _buffer,final Throwable _throwable,final long _id){
+
+		Throwable current=_throwable;
+		StackTraceElement[] enclosing=null;
+		int causes=0;
+
+		while((current!=null)&&(causes++<MAX_CAUSES)){
+			if(enclosing!=null){
+				_buffer.appendAscii("Caused by: ");
+			}
+			appendHeader(_buffer,current);
+			if((enclosing==null)&&(_id>0)){
+				_buffer.appendAscii(" [#").appendLong(_id).appendAscii(']');
+			}
+			_buffer.appendAscii('\n');
+			final StackTraceElement[] trace=current.getStackTrace();
+			int unique=trace.length;
+			if(enclosing!=null){
+				for(int ic1=enclosing.length-1;(unique>0)&&(ic1>=0)&&(trace[unique-1].equals(enclosing[ic1]));ic1--){
+					unique--;
+				}
+			}
+			final int rendered=Math.min(unique,this.maxFrames);
+			for(int ic1=0;ic1<rendered;ic1++){
+				appendStackTraceElement(_buffer,trace[ic1]);
+			}
+			if(rendered<unique){
+				_buffer.appendAscii("\t... ").appendLong(unique-rendered).appendAscii(" more frames\n");
+			}
+			if(unique<trace.length){
+				_buffer.appendAscii("\t... ").appendLong(trace.length-unique).appendAscii(" common frames omitted\n");
+			}
+			enclosing=trace;
+			current=(current.getCause()==current)? null : current.getCause();
+		}
+	}
+
+	/**
+	 * Render the given _throwable into the _buffer, complete if is the first occurrence in the window or as a single line reference otherwise
+	 * @param _throwable throwable to render
+	 * @param _buffer buffer where append
+	 */
+	public void render(final Throwable _throwable,final LayoutBuffer _buffer){
+
+		if(this.occurrences==null){
+			appendFull(_buffer,_throwable,0);
+		}else{
+			final OccurrenceTable.Occurrence<Class<?>> occurrence=this.occurrences.register(fingerprint(_throwable),_throwable.getClass(),System.nanoTime(),null);
+			final long hits=occurrence.hit();
+			if(hits==1){
+				appendFull(_buffer,_throwable,occurrence.getId());
+			}else{
+				appendHeader(_buffer,_throwable);
+				_buffer.appendAscii(" [same as #").appendLong(occurrence.getId())
+						.appendAscii(", repeated ").appendLong(hits-1).appendAscii(" times]\n");
+			}
+		}
+	}
+}
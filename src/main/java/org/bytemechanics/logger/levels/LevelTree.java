@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.levels;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
+
+/**
+ * Hierarchical level configuration keyed on the dot-separated logger names (as the ones produced by FluentLogger.of(Class) and FluentLogger.child()).
+ * Each logger resolves its node once when created and keeps it, the effective threshold of every node is precomputed and propagated to the descendants when 
+ * any level is updated, so the per-call cost is a single volatile read.
+ * <br>
+ * The default tree is used by the built-in console and maven plugin adapters and is initialized from the system properties:
+ * <code>
+ *	-Dfluent.logger.level=WARNING
+ *	-Dfluent.logger.level.org.my.noisy.package=OFF
+ *	-Dfluent.logger.level.org.my.package.MyClass=DEBUG
+ * </code>
+ * Example of runtime update:
+ * <code>
+ *	LevelTree.getDefault().setLevel("org.my.package",Level.TRACE);
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ * @see LevelTree#LEVEL_KEY
+ */
+public final class LevelTree {
+
+	/** System property key for the root level, and prefix (followed by a dot and the logger name) for any other logger name */
+	public static final String LEVEL_KEY="fluent.logger.level";
+	/** Level value to disable all levels */
+	public static final String OFF="OFF";
+
+	/** Threshold of the nodes without configured level nor configured ancestor */
+	static final int UNSET=-1;
+	/** Threshold of the disabled nodes */
+	static final int DISABLED=Integer.MAX_VALUE;
+
+	private static final class Holder{
+		private static final LevelTree INSTANCE=LevelTree.from(System.getProperties());
+	}
+	
+	/**
+	 * Node of the level tree
+	 */
+	public static final class Node{
+		
+		private final String name;
+		private final Node parent;
+		private final ConcurrentMap<String,Node> children;
+		private volatile int configured;
+		private volatile int threshold;
+
+		Node(final String _name,final Node _parent){
+			this.name=_name;
+			this.parent=_parent;
+			this.children=new ConcurrentHashMap<>();
+			this.configured=UNSET;
+			this.threshold=(_parent!=null)? _parent.threshold : UNSET;
+		}
+
+		/**
+		 * Returns the full logger name of this node
+		 * @return logger name, empty for the root node
+		 */
+		public String getName() {
+			return name;
+		}
+		/**
+		 * Returns if this node or any ancestor has a configured level
+		 * @return true if any level applies to this node
+		 */
+		public boolean isConfigured(){
+			return this.threshold!=UNSET;
+		}
+		/**
+		 * Check if the given level is enabled by the effective threshold of this node
+		 * @param _level level to check
+		 * @param _default value to return if this node has no configured level neither any ancestor
+		 * @return true if enabled
+		 */
+		public boolean isEnabled(final Level _level,final boolean _default){
+			final int current=this.threshold;
+			return (current==UNSET)? _default : current<=_level.index;
+		}
+		
+		private void propagate(){
+			this.threshold=(this.configured!=UNSET)? this.configured : (this.parent!=null)? this.parent.threshold : UNSET;
+			for(Node child:this.children.values()){
+				child.propagate();
+			}
+		}
+	}
+
+	private final Node root;
+
+	
+	public LevelTree(){
+		this.root=new Node("",null);
+	}
+
+	
+	/**
+	 * Returns the default level tree, initialized from the system properties the first time is used
+	 * @return default level tree
+	 * @see LevelTree#LEVEL_KEY
+	 */
+	public static LevelTree getDefault(){
+		return Holder.INSTANCE;
+	}
+	/**
+	 * Create a new level tree from the given properties, keys must be LEVEL_KEY for the root or start with LEVEL_KEY followed by a dot for any other logger name 
+	 * and the values must be a Level name or OFF. Invalid values are reported to the standard error and ignored
+	 * @param _properties properties to read
+	 * @return new level tree
+	 */
+	public static LevelTree from(final Properties _properties){
+		
+		final LevelTree reply=new LevelTree();
+		
+		for(Map.Entry<Object,Object> entry:_properties.entrySet()){
+			final String key=String.valueOf(entry.getKey());
+			if(key.equals(LEVEL_KEY)||key.startsWith(LEVEL_KEY+'.')){
+				final String name=(key.length()>LEVEL_KEY.length())? key.substring(LEVEL_KEY.length()+1) : "";
+				final String value=String.valueOf(entry.getValue()).trim().toUpperCase();
+				try{
+					reply.setThreshold(name,OFF.equals(value)? DISABLED : Level.valueOf(value).index);
+				}catch(IllegalArgumentException e){
+					System.err.println(SimpleFormat.format("WARNING: Invalid level {} for {}, must be one of {} or {}",value,key,Arrays.toString(Level.values()),OFF));
+				}
+			}
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Return the node of the given logger name, creating it (and its ancestors) if not exist. Cost is O(depth), so the node must be resolved once per logger and kept
+	 * @param _name dot-separated logger name, null or empty for the root
+	 * @return node of the logger name
+	 */
+	public Node node(final String _name){
+		
+		Node reply=this.root;
+		
+		if((_name!=null)&&(!_name.isEmpty())){
+			int start=0;
+			while(start<=_name.length()){
+				int end=_name.indexOf('.',start);
+				if(end<0){
+					end=_name.length();
+				}
+				if(end>start){
+					final String name=_name.substring(0,end);
+					final Node current=reply;
+					Node child=current.children.get(name);
+					if(child==null){
+						synchronized(this){
+							child=current.children.computeIfAbsent(name,key -> new Node(key,current));
+						}
+					}
+					reply=child;
+				}
+				start=end+1;
+			}
+		}
+		
+		return reply;
+	}
+	
+	private synchronized void setThreshold(final String _name,final int _threshold){
+		final Node node=node(_name);
+		node.configured=_threshold;
+		node.propagate();
+	}
+	/**
+	 * Configure the level of the given logger name and propagate it to all descendants without its own configured level
+	 * @param _name dot-separated logger name, null or empty for the root
+	 * @param _level minimum enabled level or null to inherit it from the parent
+	 */
+	public void setLevel(final String _name,final Level _level){
+		setThreshold(_name,(_level!=null)? _level.index : UNSET);
+	}
+	/**
+	 * Disable all levels of the given logger name and propagate it to all descendants without its own configured level
+	 * @param _name dot-separated logger name, null or empty for the root
+	 */
+	public void disable(final String _name){
+		setThreshold(_name,DISABLED);
+	}
+	/**
+	 * Remove all the configured levels
+	 */
+	public synchronized void clear(){
+		clear(this.root);
+		this.root.propagate();
+	}
+	private void clear(final Node _node){
+		_node.configured=UNSET;
+		for(Node child:_node.children.values()){
+			clear(child);
+		}
+	}
+}
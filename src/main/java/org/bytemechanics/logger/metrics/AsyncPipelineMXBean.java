@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+/**
+ * Asynchronous logging pipeline health management interface
+ * @author afarre
+ * @since 2.3.0
+ */
+public interface AsyncPipelineMXBean {
+	
+	/**
+	 * Returns the current number of queued events
+	 * @return queued events
+	 */
+	public int getQueueSize();
+	/**
+	 * Returns the maximum number of queued events reached since start or last reset
+	 * @return high-water mark
+	 */
+	public int getHighWaterMark();
+	/**
+	 * Returns the number of events dropped of all levels
+	 * @return dropped events
+	 */
+	public long getTotalDropped();
+	/**
+	 * Returns the snapshot of all the pipeline metrics
+	 * @return pipeline snapshot
+	 */
+	public AsyncPipelineSnapshot getSnapshot();
+	/**
+	 * Reset the high-water mark to the current queue size
+	 */
+	public void resetHighWaterMark();
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.bytemechanics.logger.Level;
+
+/**
+ * Immutable snapshot of an asynchronous logging pipeline metrics, all latencies in nanoseconds
+ * @author afarre
+ * @since 2.3.0
+ */
+public class AsyncPipelineSnapshot {
+
+	private final String name;
+	private final int capacity;
+	private final int queueSize;
+	private final int highWaterMark;
+	private final long enqueued;
+	private final long written;
+	private final long failed;
+	private final long[] dropped;
+	private final LatencySnapshot enqueueWait;
+	private final LatencySnapshot batchSize;
+	private final LatencySnapshot enqueueToWrite;
+
+	
+	/**
+	 * Constructor
+	 * @param _name pipeline name
+	 * @param _capacity queue capacity
+	 * @param _queueSize current queued events
+	 * @param _highWaterMark maximum queued events reached
+	 * @param _enqueued enqueued events
+	 * @param _written written events
+	 * @param _failed events where the underlying adapter failed
+	 * @param _dropped dropped events per level ordinal
+	 * @param _enqueueWait enqueue wait time distribution
+	 * @param _batchSize consumer batch size distribution (in number of events)
+	 * @param _enqueueToWrite time between enqueue and write end distribution
+	 */
+	public AsyncPipelineSnapshot(final String _name,final int _capacity,final int _queueSize,final int _highWaterMark,final long _enqueued,final long _written,final long _failed,final long[] _dropped,final LatencySnapshot _enqueueWait,final LatencySnapshot _batchSize,final LatencySnapshot _enqueueToWrite){
+		this.name=_name;
+		this.capacity=_capacity;
+		this.queueSize=_queueSize;
+		this.highWaterMark=_highWaterMark;
+		this.enqueued=_enqueued;
+		this.written=_written;
+		this.failed=_failed;
+		this.dropped=_dropped;
+		this.enqueueWait=_enqueueWait;
+		this.batchSize=_batchSize;
+		this.enqueueToWrite=_enqueueToWrite;
+	}
+
+	
+	public String getName() {
+		return name;
+	}
+	public int getCapacity() {
+		return capacity;
+	}
+	public int getQueueSize() {
+		return queueSize;
+	}
+	/**
+	 * Returns the queue occupancy
+	 * @return ratio between the queued events and the capacity
+	 */
+	public double getOccupancy() {
+		return (double)queueSize/capacity;
+	}
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+	public long getEnqueued() {
+		return enqueued;
+	}
+	public long getWritten() {
+		return written;
+	}
+	public long getFailed() {
+		return failed;
+	}
+	/**
+	 * Returns the number of dropped events of the given _level
+	 * @param _level level
+	 * @return dropped events
+	 */
+	public long getDropped(final Level _level) {
+		return this.dropped[_level.ordinal()];
+	}
+	/**
+	 * Returns the number of dropped events per level name
+	 * @return dropped events per level name
+	 */
+	public Map<String,Long> getDropped() {
+		final Map<String,Long> reply=new LinkedHashMap<>();
+		for(Level level:Level.values()){
+			reply.put(level.name(),this.dropped[level.ordinal()]);
+		}
+		return reply;
+	}
+	/**
+	 * Returns the number of dropped events of all levels
+	 * @return total dropped events
+	 */
+	public long getTotalDropped() {
+		long reply=0;
+		for(long value:this.dropped){
+			reply+=value;
+		}
+		return reply;
+	}
+	public LatencySnapshot getEnqueueWait() {
+		return enqueueWait;
+	}
+	public LatencySnapshot getBatchSize() {
+		return batchSize;
+	}
+	public LatencySnapshot getEnqueueToWrite() {
+		return enqueueToWrite;
+	}
+
+	/** @see Object#toString() */
+	@Override
+	public String toString() {
+		return "AsyncPipelineSnapshot{" + "name=" + name + ", capacity=" + capacity + ", queueSize=" + queueSize + ", highWaterMark=" + highWaterMark + ", enqueued=" + enqueued + ", written=" + written + ", failed=" + failed + ", dropped=" + getDropped() + ", enqueueWait=" + enqueueWait + ", batchSize=" + batchSize + ", enqueueToWrite=" + enqueueToWrite + '}';
+	}
+}
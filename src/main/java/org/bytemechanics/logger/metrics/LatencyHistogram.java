@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram in nanoseconds. Each power of two range is split in 32 linear sub-buckets, 
+ * so any recorded value is reported with a relative error lower than 3.2% using a fixed memory footprint.
+ * Values from 0 to 2^40 nanoseconds (about 18 minutes) are tracked, bigger values are recorded in the last bucket.
+ * @author afarre
+ * @since 2.3.0
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS=5;
+	private static final int SUB_BUCKETS=1<<SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT=40;
+	/** Number of buckets */
+	static final int BUCKETS=SUB_BUCKETS+(MAX_EXPONENT-SUB_BUCKET_BITS+1)*SUB_BUCKETS;
+
+	private final AtomicLongArray buckets;
+	private final AtomicLong max;
+
+	
+	public LatencyHistogram(){
+		this.buckets=new AtomicLongArray(BUCKETS);
+		this.max=new AtomicLong(0);
+	}
+
+	
+	/**
+	 * Compute the bucket index of the given value
+	 * @param _value non negative value
+	 * @return bucket index
+	 */
+	static int index(final long _value){
+		if(_value<SUB_BUCKETS){
+			return (int)_value;
+		}
+		final int exponent=63-Long.numberOfLeadingZeros(_value);
+		if(exponent>MAX_EXPONENT){
+			return BUCKETS-1;
+		}
+		final int subBucket=(int)(_value>>>(exponent-SUB_BUCKET_BITS))&(SUB_BUCKETS-1);
+		return SUB_BUCKETS+(exponent-SUB_BUCKET_BITS)*SUB_BUCKETS+subBucket;
+	}
+	/**
+	 * Compute the highest value equivalent to the given bucket index
+	 * @param _index bucket index
+	 * @return highest value tracked by the bucket
+	 */
+	static long highestValue(final int _index){
+		if(_index<SUB_BUCKETS){
+			return _index;
+		}
+		final int exponent=(_index-SUB_BUCKETS)/SUB_BUCKETS+SUB_BUCKET_BITS;
+		final long subBucket=(_index-SUB_BUCKETS)%SUB_BUCKETS;
+		final long lowest=(1l<<exponent)|(subBucket<<(exponent-SUB_BUCKET_BITS));
+		return lowest+(1l<<(exponent-SUB_BUCKET_BITS))-1;
+	}
+	
+	/**
+	 * Record the given latency, negative values are recorded as zero
+	 * @param _nanos latency in nanoseconds
+	 */
+	public void record(final long _nanos){
+		final long value=Math.max(0,_nanos);
+		this.buckets.incrementAndGet(index(value));
+		long current=this.max.get();
+		while((value>current)&&(!this.max.compareAndSet(current,value))){
+			current=this.max.get();
+		}
+	}
+	
+	/**
+	 * Reset all the recorded values, values recorded concurrently can be lost
+	 */
+	public void reset(){
+		for(int ic1=0;ic1<BUCKETS;ic1++){
+			this.buckets.set(ic1,0);
+		}
+		this.max.set(0);
+	}
+	
+	/**
+	 * Take a snapshot of the recorded values, the snapshot is not atomic under concurrent updates
+	 * @param _name name of the snapshot
+	 * @return latency snapshot
+	 */
+	public LatencySnapshot snapshot(final String _name){
+		
+		final long[] counts=new long[BUCKETS];
+		long count=0;
+		double sum=0;
+		for(int ic1=0;ic1<BUCKETS;ic1++){
+			counts[ic1]=this.buckets.get(ic1);
+			count+=counts[ic1];
+			sum+=counts[ic1]*(double)highestValue(ic1);
+		}
+		final long maximum=this.max.get();
+		
+		return new LatencySnapshot(_name,count,(count>0)? sum/count : 0d,maximum
+										,percentile(counts,count,0.5d,maximum)
+										,percentile(counts,count,0.9d,maximum)
+										,percentile(counts,count,0.99d,maximum)
+										,percentile(counts,count,0.999d,maximum));
+	}
+	private static long percentile(final long[] _counts,final long _total,final double _percentile,final long _max){
+		
+		if(_total==0){
+			return 0;
+		}
+		final long target=Math.max(1,(long)Math.ceil(_total*_percentile));
+		long accumulated=0;
+		for(int ic1=0;ic1<_counts.length;ic1++){
+			accumulated+=_counts[ic1];
+			if(accumulated>=target){
+				return Math.min(highestValue(ic1),_max);
+			}
+		}
+		return _max;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
+
+/**
+ * Latency histograms registry, keeps the histograms per name and exposes them programmatically and as MXBean with the object name org.bytemechanics.logger:type=LatencyMetrics
+ * @author afarre
+ * @since 2.3.0
+ */
+public final class LatencyMetrics implements LatencyMetricsMXBean{
+
+	/** MXBean object name */
+	public static final String OBJECT_NAME="org.bytemechanics.logger:type=LatencyMetrics";
+
+	private static final class Holder{
+		private static final LatencyMetrics INSTANCE=new LatencyMetrics();
+		static{
+			INSTANCE.register();
+		}
+	}
+	
+	private final ConcurrentMap<String,LatencyHistogram> histograms;
+
+	
+	LatencyMetrics(){
+		this.histograms=new ConcurrentHashMap<>();
+	}
+	
+	
+	/**
+	 * Register this instance at the platform MBean server, any failure is reported to the standard error without interrupting the execution
+	 */
+	void register(){
+		try{
+			final MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+			final ObjectName objectName=new ObjectName(OBJECT_NAME);
+			if(!server.isRegistered(objectName)){
+				server.registerMBean(this,objectName);
+			}
+		}catch(JMException|SecurityException e){
+			System.err.println(SimpleFormat.format("WARNING: Unable to register latency metrics MXBean {}. Error message: {}",OBJECT_NAME,e.getMessage()));
+		}
+	}
+	
+	/**
+	 * Return the histogram with the given name, creating it if not exist
+	 * @param _name histogram name
+	 * @return latency histogram
+	 */
+	public LatencyHistogram histogram(final String _name){
+		return this.histograms.computeIfAbsent(_name,name -> new LatencyHistogram());
+	}
+	/**
+	 * Return the snapshot of the given histogram name
+	 * @param _name histogram name
+	 * @return optional with the snapshot of the histogram or empty if not exist
+	 */
+	public Optional<LatencySnapshot> snapshot(final String _name){
+		return Optional.ofNullable(this.histograms.get(_name))
+						.map(histogram -> histogram.snapshot(_name));
+	}
+	
+	/** @see LatencyMetricsMXBean#getLatencies() */
+	@Override
+	public List<LatencySnapshot> getLatencies() {
+		return this.histograms.entrySet()
+								.stream()
+									.map(entry -> entry.getValue().snapshot(entry.getKey()))
+									.sorted(Comparator.comparing(LatencySnapshot::getName))
+									.collect(Collectors.toList());
+	}
+	/** @see LatencyMetricsMXBean#reset() */
+	@Override
+	public void reset() {
+		this.histograms.values()
+						.forEach(LatencyHistogram::reset);
+	}
+	
+	
+	/**
+	 * Returns the latency metrics registry instance, registering it as MXBean at first call
+	 * @return latency metrics registry instance
+	 */
+	public static LatencyMetrics getInstance(){
+		return Holder.INSTANCE;
+	}
+}
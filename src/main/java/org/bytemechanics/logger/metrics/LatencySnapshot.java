@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+/**
+ * Immutable snapshot of a latency histogram, all latencies in nanoseconds
+ * @author afarre
+ * @since 2.3.0
+ * @see LatencyHistogram#snapshot(java.lang.String) 
+ */
+public class LatencySnapshot {
+
+	private final String name;
+	private final long count;
+	private final double mean;
+	private final long max;
+	private final long p50;
+	private final long p90;
+	private final long p99;
+	private final long p999;
+
+	
+	LatencySnapshot(final String _name,final long _count,final double _mean,final long _max,final long _p50,final long _p90,final long _p99,final long _p999){
+		this.name=_name;
+		this.count=_count;
+		this.mean=_mean;
+		this.max=_max;
+		this.p50=_p50;
+		this.p90=_p90;
+		this.p99=_p99;
+		this.p999=_p999;
+	}
+
+	
+	public String getName() {
+		return name;
+	}
+	public long getCount() {
+		return count;
+	}
+	public double getMean() {
+		return mean;
+	}
+	public long getMax() {
+		return max;
+	}
+	public long getP50() {
+		return p50;
+	}
+	public long getP90() {
+		return p90;
+	}
+	public long getP99() {
+		return p99;
+	}
+	public long getP999() {
+		return p999;
+	}
+
+	/** @see Object#toString() */
+	@Override
+	public String toString() {
+		return "LatencySnapshot{" + "name=" + name + ", count=" + count + ", mean=" + mean + ", max=" + max + ", p50=" + p50 + ", p90=" + p90 + ", p99=" + p99 + ", p999=" + p999 + '}';
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.bytemechanics.logger.Level;
+
+/**
+ * Striped per-level event counters of a logger name. Counts how many events were checked (isXEnabled guards are not counted), how many of them were enabled and how many events were finally admitted and emitted to the underlying adapter
+ * @author afarre
+ * @since 2.3.0
+ */
+public class LoggerCounters {
+
+	private final String name;
+	private final LongAdder[] checked;
+	private final LongAdder[] enabled;
+	private final LongAdder[] emitted;
+
+	
+	/**
+	 * Constructor
+	 * @param _name logger name
+	 */
+	public LoggerCounters(final String _name){
+		this.name=_name;
+		this.checked=newAdders();
+		this.enabled=newAdders();
+		this.emitted=newAdders();
+	}
+	
+	
+	private static LongAdder[] newAdders(){
+		final LongAdder[] reply=new LongAdder[Level.values().length];
+		for(int ic1=0;ic1<reply.length;ic1++){
+			reply[ic1]=new LongAdder();
+		}
+		return reply;
+	}
+	private static long[] sum(final LongAdder[] _adders){
+		final long[] reply=new long[_adders.length];
+		for(int ic1=0;ic1<reply.length;ic1++){
+			reply[ic1]=_adders[ic1].sum();
+		}
+		return reply;
+	}
+
+	/**
+	 * Returns the logger name
+	 * @return logger name
+	 */
+	public String getName() {
+		return name;
+	}
+	
+	/**
+	 * Count a level check of an event and if _enabled also as enabled
+	 * @param _level event level
+	 * @param _enabled true if the level was enabled
+	 */
+	public void checked(final Level _level,final boolean _enabled){
+		this.checked[_level.ordinal()].increment();
+		if(_enabled){
+			this.enabled[_level.ordinal()].increment();
+		}
+	}
+	/**
+	 * Count an emitted event, already admitted by the adapter
+	 * @param _level event level
+	 */
+	public void emitted(final Level _level){
+		this.emitted[_level.ordinal()].increment();
+	}
+	
+	/**
+	 * Reset all counters to zero
+	 */
+	public void reset(){
+		for(int ic1=0;ic1<this.checked.length;ic1++){
+			this.checked[ic1].reset();
+			this.enabled[ic1].reset();
+			this.emitted[ic1].reset();
+		}
+	}
+	
+	/**
+	 * Take a snapshot of the current counters values, the snapshot is not atomic between counters under concurrent updates
+	 * @return counters snapshot
+	 */
+	public LoggerCountersSnapshot snapshot(){
+		return new LoggerCountersSnapshot(this.name,sum(this.checked),sum(this.enabled),sum(this.emitted));
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.bytemechanics.logger.Level;
+
+/**
+ * Immutable snapshot of a logger name counters
+ * @author afarre
+ * @since 2.3.0
+ * @see LoggerCounters#snapshot() 
+ */
+public class LoggerCountersSnapshot {
+
+	private final String name;
+	private final long[] checked;
+	private final long[] enabled;
+	private final long[] emitted;
+
+	
+	LoggerCountersSnapshot(final String _name,final long[] _checked,final long[] _enabled,final long[] _emitted){
+		this.name=_name;
+		this.checked=_checked;
+		this.enabled=_enabled;
+		this.emitted=_emitted;
+	}
+
+	
+	private static Map<String,Long> toMap(final long[] _values){
+		final Map<String,Long> reply=new LinkedHashMap<>();
+		for(Level level:Level.values()){
+			reply.put(level.name(),_values[level.ordinal()]);
+		}
+		return reply;
+	}
+	private static long total(final long[] _values){
+		long reply=0;
+		for(long value:_values){
+			reply+=value;
+		}
+		return reply;
+	}
+	
+	/**
+	 * Returns the logger name
+	 * @return logger name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of checked events of the given _level
+	 * @param _level level
+	 * @return checked events
+	 */
+	public long getChecked(final Level _level) {
+		return this.checked[_level.ordinal()];
+	}
+	/**
+	 * Returns the number of enabled events of the given _level
+	 * @param _level level
+	 * @return enabled events
+	 */
+	public long getEnabled(final Level _level) {
+		return this.enabled[_level.ordinal()];
+	}
+	/**
+	 * Returns the number of emitted events of the given _level
+	 * @param _level level
+	 * @return emitted events
+	 */
+	public long getEmitted(final Level _level) {
+		return this.emitted[_level.ordinal()];
+	}
+
+	/**
+	 * Returns the number of checked events per level name
+	 * @return checked events per level name
+	 */
+	public Map<String,Long> getChecked() {
+		return toMap(this.checked);
+	}
+	/**
+	 * Returns the number of enabled events per level name
+	 * @return enabled events per level name
+	 */
+	public Map<String,Long> getEnabled() {
+		return toMap(this.enabled);
+	}
+	/**
+	 * Returns the number of emitted events per level name
+	 * @return emitted events per level name
+	 */
+	public Map<String,Long> getEmitted() {
+		return toMap(this.emitted);
+	}
+	
+	/**
+	 * Returns the number of checked events of all levels
+	 * @return total checked events
+	 */
+	public long getTotalChecked() {
+		return total(this.checked);
+	}
+	/**
+	 * Returns the number of enabled events of all levels
+	 * @return total enabled events
+	 */
+	public long getTotalEnabled() {
+		return total(this.enabled);
+	}
+	/**
+	 * Returns the number of emitted events of all levels
+	 * @return total emitted events
+	 */
+	public long getTotalEmitted() {
+		return total(this.emitted);
+	}
+
+	/** @see Object#toString() */
+	@Override
+	public String toString() {
+		return "LoggerCountersSnapshot{" + "name=" + name + ", checked=" + getChecked() + ", enabled=" + getEnabled() + ", emitted=" + getEmitted() + '}';
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.bytemechanics.logger.internal.commons.string.SimpleFormat;
+
+/**
+ * Logger metrics registry, keeps the counters per logger name and exposes them programmatically and as MXBean with the object name org.bytemechanics.logger:type=LoggerMetrics
+ * <br>
+ * Metrics are opt-in, enabled with the system property fluent.logger.metrics=true or with setEnabled(true), and only the loggers created while enabled are tracked. 
+ * Counters are resolved once per FluentLogger instance, so the cost per event is a level check and one or two striped counter increments. 
+ * The MXBean is registered when the first counters are created, never at class initialization, and the tracked logger names are bounded by fluent.logger.metrics.max-loggers, 
+ * the exceeding names are aggregated under the OVERFLOW_NAME counters.
+ * @author afarre
+ * @since 2.3.0
+ * @see LoggerMetrics#METRICS_ENABLED_KEY
+ * @see LoggerMetrics#MAX_LOGGERS_KEY
+ */
+public final class LoggerMetrics implements LoggerMetricsMXBean{
+
+	/** System property key to enable the logger metrics (disabled by default) */
+	public static final String METRICS_ENABLED_KEY="fluent.logger.metrics";
+	/** System property key with the maximum number of tracked logger names (1024 by default) */
+	public static final String MAX_LOGGERS_KEY="fluent.logger.metrics.max-loggers";
+	/** Counters name where the logger names exceeding the maximum are aggregated */
+	public static final String OVERFLOW_NAME="<overflow>";
+	/** MXBean object name */
+	public static final String OBJECT_NAME="org.bytemechanics.logger:type=LoggerMetrics";
+
+	private static final class Holder{
+		private static final LoggerMetrics INSTANCE=new LoggerMetrics("true".equalsIgnoreCase(System.getProperty(METRICS_ENABLED_KEY,"false").trim())
+																		,Integer.getInteger(MAX_LOGGERS_KEY,1024));
+	}
+	
+	private volatile boolean enabled;
+	private final int maxLoggers;
+	private final ConcurrentMap<String,LoggerCounters> counters;
+	private final AtomicBoolean registered;
+
+	
+	LoggerMetrics(final boolean _enabled,final int _maxLoggers){
+		this.enabled=_enabled;
+		this.maxLoggers=_maxLoggers;
+		this.counters=new ConcurrentHashMap<>();
+		this.registered=new AtomicBoolean(false);
+	}
+	
+	
+	/**
+	 * Register this instance at the platform MBean server, any failure is reported to the standard error without interrupting the execution
+	 */
+	void register(){
+		try{
+			final MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+			final ObjectName objectName=new ObjectName(OBJECT_NAME);
+			if(!server.isRegistered(objectName)){
+				server.registerMBean(this,objectName);
+			}
+		}catch(JMException|SecurityException e){
+			System.err.println(SimpleFormat.format("WARNING: Unable to register logger metrics MXBean {}. Error message: {}",OBJECT_NAME,e.getMessage()));
+		}
+	}
+	
+	/**
+	 * Returns if the metrics are enabled
+	 * @return true if the metrics are enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	/**
+	 * Enable or disable the metrics, only affects the loggers created afterwards
+	 * @param _enabled true to enable the metrics
+	 */
+	public void setEnabled(final boolean _enabled) {
+		this.enabled=_enabled;
+	}
+	/**
+	 * Returns the maximum number of tracked logger names
+	 * @return maximum number of tracked logger names
+	 */
+	public int getMaxLoggers() {
+		return maxLoggers;
+	}
+	
+	/**
+	 * Return the counters of the given logger name, creating them if not exist. 
+	 * When the maximum of tracked logger names is reached the overflow counters are returned instead. 
+	 * The MXBean registration happens at the first call and out of any map update, so it's safe to create loggers while registering.
+	 * @param _name logger name
+	 * @return counters of the logger name or null if the metrics are disabled
+	 * @see #OVERFLOW_NAME
+	 */
+	public LoggerCounters counters(final String _name){
+		
+		LoggerCounters reply=null;
+		
+		if(this.enabled){
+			if(this.registered.compareAndSet(false,true)){
+				register();
+			}
+			reply=this.counters.get(_name);
+			if(reply==null){
+				final String name=(this.counters.size()<this.maxLoggers)? _name : OVERFLOW_NAME;
+				reply=this.counters.computeIfAbsent(name,LoggerCounters::new);
+			}
+		}
+		
+		return reply;
+	}
+	/**
+	 * Return the snapshot of the given logger name counters
+	 * @param _name logger name
+	 * @return optional with the snapshot of the logger counters or empty if this logger name has not been tracked
+	 */
+	public Optional<LoggerCountersSnapshot> snapshot(final String _name){
+		return Optional.ofNullable(this.counters.get(_name))
+						.map(LoggerCounters::snapshot);
+	}
+	
+	/** @see LoggerMetricsMXBean#getCounters() */
+	@Override
+	public List<LoggerCountersSnapshot> getCounters() {
+		return this.counters.values()
+							.stream()
+								.map(LoggerCounters::snapshot)
+								.sorted(Comparator.comparing(LoggerCountersSnapshot::getName))
+								.collect(Collectors.toList());
+	}
+	/** @see LoggerMetricsMXBean#getLoggers() */
+	@Override
+	public int getLoggers() {
+		return this.counters.size();
+	}
+	/** @see LoggerMetricsMXBean#reset() */
+	@Override
+	public void reset() {
+		this.counters.values()
+						.forEach(LoggerCounters::reset);
+	}
+	
+	
+	/**
+	 * Returns the logger metrics registry instance, the MXBean is registered later when the first counters are created
+	 * @return logger metrics registry instance
+	 */
+	public static LoggerMetrics getInstance(){
+		return Holder.INSTANCE;
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+import java.util.List;
+
+/**
+ * Logger metrics management interface
+ * @author afarre
+ * @since 2.3.0
+ */
+public interface LoggerMetricsMXBean {
+	
+	/**
+	 * Returns the snapshot of all the logger names counters
+	 * @return list of counters snapshots
+	 */
+	public List<LoggerCountersSnapshot> getCounters();
+	/**
+	 * Returns the number of tracked logger names
+	 * @return number of tracked logger names
+	 */
+	public int getLoggers();
+	/**
+	 * Reset all the counters to zero
+	 */
+	public void reset();
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.lang.System.Logger.Level;
+import java.util.Optional;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.system.FluentLoggerFinder;
+
+/**
+ * Logger adapter System.Logger implementation (only available on Java 9 or later). 
+ * The message is given to System.Logger as supplier, so it's formatted only if the log is written.
+ * <br>
+ * This provider is never probed, it must be selected explicitly and can not be used while FluentLoggerFinder is the installed System.LoggerFinder.
+ * The log source is inferred by the System.Logger backend itself, that can report this adapter as source.
+ * <code>
+ *	final FluentLogger logger=FluentLogger.of(MyClass.class,LoggerAPIProvider.SYSTEM);
+ * </code>
+ * @see <a href="https://docs.oracle.com/javase/9/docs/api/java/lang/System.Logger.html">https://docs.oracle.com/javase/9/docs/api/java/lang/System.Logger.html</a>
+ * @author afarre
+ * @since 2.3.0
+ */
+public class LoggerSystemImpl implements LoggerAdapter {
+
+	private static final Level[] LEVEL_TRANSLATION = {Level.TRACE, Level.TRACE, Level.DEBUG, Level.INFO, Level.WARNING, Level.ERROR, Level.ERROR};
+
+	
+	private final System.Logger internalLogger;
+
+	
+	/**
+	 * Constructor
+	 * @param _logName logger name
+	 * @throws IllegalStateException if FluentLoggerFinder is the installed System.LoggerFinder, as the logs would come back to FluentLogger
+	 */
+	public LoggerSystemImpl(final String _logName) {
+		this(System.getLogger(_logName));
+	}
+	LoggerSystemImpl(final System.Logger _logger) {
+		if(System.LoggerFinder.getLoggerFinder() instanceof FluentLoggerFinder)
+			throw new IllegalStateException("Can not write to System.Logger while FluentLoggerFinder is the installed System.LoggerFinder");
+		this.internalLogger = _logger;
+	}
+
+	Level translateLevel(final org.bytemechanics.logger.Level _level){
+		return LEVEL_TRANSLATION[_level.index];
+	}
+
+	@Override
+	public String getName() {
+		return this.internalLogger.getName();
+	}
+
+	@Override
+	public boolean isEnabled(final org.bytemechanics.logger.Level _level) {
+		return Optional.of(_level)
+						.map(this::translateLevel)
+						.map(this.internalLogger::isLoggable)
+						.orElse(false);
+	}
+	@Override
+	public void log(final Log _log) {
+		final Level level=translateLevel(_log.getLevel());
+		final Throwable throwable=_log.getThrowable().orElse(null);
+		if(throwable!=null){
+			this.internalLogger.log(level,_log.getMessage(),throwable);
+		}else{
+			this.internalLogger.log(level,_log.getMessage());
+		}
+	}
+}
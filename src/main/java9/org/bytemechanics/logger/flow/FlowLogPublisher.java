@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.flow;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.bytemechanics.logger.adapters.Log;
+
+/**
+ * java.util.concurrent.Flow bridge of LogPublisher (only available on Java 9 or later). 
+ * Each requested item is a batch of logs, so the subscribers receive chunks of logs bounded by the publisher batch size.
+ * <br>
+ * Example:
+ * <code>
+ *	final LogPublisher publisher=new LogPublisher("my-publisher");
+ *	new FlowLogPublisher(publisher).subscribe(myFlowSubscriber);
+ *	final FluentLogger logger=FluentLogger.of("my-logger",PublisherLoggerAdapter.factory(publisher));
+ * </code>
+ * @author afarre
+ * @since 2.3.0
+ * @see LogPublisher
+ */
+public class FlowLogPublisher implements Flow.Publisher<List<Log>>{
+
+	private final LogPublisher publisher;
+
+	
+	/**
+	 * Constructor
+	 * @param _publisher publisher to bridge
+	 */
+	public FlowLogPublisher(final LogPublisher _publisher){
+		if(_publisher==null)
+			throw new NullPointerException("Can not bridge null publisher");
+		this.publisher=_publisher;
+	}
+
+	
+	/**
+	 * Returns the bridged publisher
+	 * @return log publisher
+	 */
+	public LogPublisher getPublisher() {
+		return publisher;
+	}
+
+	/** @see Flow.Publisher#subscribe(java.util.concurrent.Flow.Subscriber) */
+	@Override
+	public void subscribe(final Flow.Subscriber<? super List<Log>> _subscriber) {
+		if(_subscriber==null)
+			throw new NullPointerException("Can not subscribe null subscriber");
+		this.publisher.subscribe(new LogBatchSubscriber() {
+			@Override
+			public void onSubscribe(final LogSubscription _subscription) {
+				_subscriber.onSubscribe(new Flow.Subscription() {
+					@Override
+					public void request(final long _batches) {
+						_subscription.request(_batches);
+					}
+					@Override
+					public void cancel() {
+						_subscription.cancel();
+					}
+				});
+			}
+			@Override
+			public void onNext(final List<Log> _batch) {
+				_subscriber.onNext(_batch);
+			}
+			@Override
+			public void onError(final Throwable _error) {
+				_subscriber.onError(_error);
+			}
+			@Override
+			public void onComplete() {
+				_subscriber.onComplete();
+			}
+		});
+	}
+}
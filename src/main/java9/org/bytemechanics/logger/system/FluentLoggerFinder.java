@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.system;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.bytemechanics.logger.FluentLogger;
+
+/**
+ * System.LoggerFinder that writes the System.Logger logs (as the ones of the JDK modules) through FluentLogger (only available on Java 9 or later).
+ * Each System.Logger is bound to the FluentLogger with the same name, created with the default provider resolution and cached by name.
+ * The FluentLogger is created outside the cache, as its creation can log through System.Logger and come back to this finder.
+ * <br>
+ * It's not registered by default, to install it add the file META-INF/services/java.lang.System$LoggerFinder to the application classpath with the content:
+ * <code>
+ * org.bytemechanics.logger.system.FluentLoggerFinder
+ * </code>
+ * While installed the SYSTEM provider can not be used, as its logs would come back to FluentLogger.
+ * @author afarre
+ * @since 2.3.0
+ */
+public class FluentLoggerFinder extends System.LoggerFinder{
+
+	private final Function<String,FluentLogger> factory;
+	private final Map<String,System.Logger> loggers;
+
+	
+	/**
+	 * Constructor
+	 * @throws SecurityException if a security manager is present and the caller has no RuntimePermission("loggerFinder")
+	 */
+	public FluentLoggerFinder(){
+		this(FluentLogger::of);
+	}
+	FluentLoggerFinder(final Function<String,FluentLogger> _factory){
+		this.factory=_factory;
+		this.loggers=new ConcurrentHashMap<>();
+	}
+
+	
+	/** @see System.LoggerFinder#getLogger(java.lang.String, java.lang.Module) */
+	@Override
+	public System.Logger getLogger(final String _name,final Module _module) {
+		
+		System.Logger reply=this.loggers.get(_name);
+		
+		if(reply==null){
+			final System.Logger created=new FluentSystemLogger(this.factory.apply(_name));
+			reply=this.loggers.putIfAbsent(_name,created);
+			if(reply==null){
+				reply=created;
+			}
+		}
+		
+		return reply;
+	}
+}
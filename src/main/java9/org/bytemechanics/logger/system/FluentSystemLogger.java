@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.system;
+
+import java.text.MessageFormat;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+import org.bytemechanics.logger.FluentLogger;
+
+/**
+ * System.Logger bound to a FluentLogger. Every message is given to FluentLogger as supplier, so the localization and MessageFormat formatting 
+ * of the System.Logger API are only done if the log is written.
+ * @author afarre
+ * @since 2.3.0
+ * @see FluentLoggerFinder
+ */
+final class FluentSystemLogger implements System.Logger{
+
+	/** Level translation indexed by System.Logger.Level ordinal, null for OFF */
+	private static final org.bytemechanics.logger.Level[] LEVEL_TRANSLATION = {org.bytemechanics.logger.Level.FINEST, org.bytemechanics.logger.Level.TRACE, org.bytemechanics.logger.Level.DEBUG, org.bytemechanics.logger.Level.INFO, org.bytemechanics.logger.Level.WARNING, org.bytemechanics.logger.Level.ERROR, null};
+
+	private final FluentLogger logger;
+
+	
+	FluentSystemLogger(final FluentLogger _logger){
+		this.logger=_logger;
+	}
+
+	
+	static org.bytemechanics.logger.Level translateLevel(final System.Logger.Level _level){
+		return LEVEL_TRANSLATION[_level.ordinal()];
+	}
+	static String localize(final ResourceBundle _bundle,final String _message){
+		
+		String reply=_message;
+		
+		if((_bundle!=null)&&(_message!=null)){
+			try{
+				reply=_bundle.getString(_message);
+			}catch(MissingResourceException e){
+				reply=_message;
+			}
+		}
+		
+		return reply;
+	}
+	static String format(final ResourceBundle _bundle,final String _format,final Object... _params){
+		
+		final String reply=localize(_bundle,_format);
+		
+		return ((_params==null)||(_params.length==0)||(reply==null))? reply : MessageFormat.format(reply,_params);
+	}
+	/** @see System.Logger#getName() */
+	@Override
+	public String getName() {
+		return this.logger.getName();
+	}
+	/** @see System.Logger#isLoggable(java.lang.System.Logger.Level) */
+	@Override
+	public boolean isLoggable(final System.Logger.Level _level) {
+		final org.bytemechanics.logger.Level level=translateLevel(_level);
+		return (level!=null)&&(this.logger.isEnabled(level));
+	}
+	/** @see System.Logger#log(java.lang.System.Logger.Level, java.lang.String) */
+	@Override
+	public void log(final System.Logger.Level _level,final String _message) {
+		log(_level,() -> _message,null);
+	}
+	/** @see System.Logger#log(java.lang.System.Logger.Level, java.util.function.Supplier) */
+	@Override
+	public void log(final System.Logger.Level _level,final Supplier<String> _messageSupplier) {
+		log(_level,_messageSupplier,null);
+	}
+	/** @see System.Logger#log(java.lang.System.Logger.Level, java.lang.Object) */
+	@Override
+	public void log(final System.Logger.Level _level,final Object _object) {
+		log(_level,() -> String.valueOf(_object),null);
+	}
+	/** @see System.Logger#log(java.lang.System.Logger.Level, java.lang.String, java.lang.Throwable) */
+	@Override
+	public void log(final System.Logger.Level _level,final String _message,final Throwable _thrown) {
+		log(_level,() -> _message,_thrown);
+	}
+	/** @see System.Logger#log(java.lang.System.Logger.Level, java.util.function.Supplier, java.lang.Throwable) */
+	@Override
+	public void log(final System.Logger.Level _level,final Supplier<String> _messageSupplier,final Throwable _thrown) {
+		final org.bytemechanics.logger.Level level=translateLevel(_level);
+		if(level!=null){
+			this.logger.log(level,_messageSupplier,_thrown);
+		}
+	}
+	/** @see System.Logger#log(java.lang.System.Logger.Level, java.lang.String, java.lang.Object...) */
+	@Override
+	public void log(final System.Logger.Level _level,final String _format,final Object... _params) {
+		log(_level,() -> format(null,_format,_params),null);
+	}
+	/** @see System.Logger#log(java.lang.System.Logger.Level, java.util.ResourceBundle, java.lang.String, java.lang.Throwable) */
+	@Override
+	public void log(final System.Logger.Level _level,final ResourceBundle _bundle,final String _message,final Throwable _thrown) {
+		log(_level,() -> localize(_bundle,_message),_thrown);
+	}
+	/** @see System.Logger#log(java.lang.System.Logger.Level, java.util.ResourceBundle, java.lang.String, java.lang.Object...) */
+	@Override
+	public void log(final System.Logger.Level _level,final ResourceBundle _bundle,final String _format,final Object... _params) {
+		log(_level,() -> format(_bundle,_format,_params),null);
+	}
+}
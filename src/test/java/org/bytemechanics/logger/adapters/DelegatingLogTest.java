@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.function.Supplier;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.beans.LogBean;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class DelegatingLogTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> DelegatingLogTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@Test
+	@DisplayName("Delegating log should delegate all the methods to the decorated log")
+	public void testDelegation(){
+		final Exception exception=new Exception("my-exception");
+		final LogBean log=LogBean.of(Level.WARNING)
+									.message("message {} {}")
+									.args("arg1",exception)
+									.field("field","value");
+		final DelegatingLog delegating=new DelegatingLog(log){};
+		Assertions.assertSame(log,delegating.getDelegate());
+		Assertions.assertEquals(log.getLevel(),delegating.getLevel());
+		Assertions.assertEquals(log.getTime(),delegating.getTime());
+		Assertions.assertSame(log.getMessage(),delegating.getMessage());
+		Assertions.assertEquals(log.getPattern(),delegating.getPattern());
+		Assertions.assertArrayEquals(log.getArgs(),delegating.getArgs());
+		final StringBuilder buffer=new StringBuilder();
+		delegating.formatTo(buffer);
+		Assertions.assertEquals(log.getMessage().get(),buffer.toString());
+		Assertions.assertSame(exception,delegating.getThrowable().get());
+		Assertions.assertEquals(log.getFields(),delegating.getFields());
+		Assertions.assertEquals(log.getContext(),delegating.getContext());
+		Assertions.assertFalse(delegating.isSourceResolved());
+		Assertions.assertEquals(this.getClass().getName(),delegating.getSource(Collections.emptySet()).getClassName());
+	}
+
+	@Test
+	@DisplayName("Delegating log should allow override only the decorated method")
+	public void testOverride(){
+		final LogBean log=LogBean.of(Level.INFO)
+									.message("message {}")
+									.args("arg1");
+		final DelegatingLog delegating=new DelegatingLog(log){
+			@Override
+			public Supplier<String> getMessage() {
+				return () -> "decorated "+this.log.getMessage().get();
+			}
+		};
+		Assertions.assertEquals("decorated message arg1",delegating.getMessage().get());
+		Assertions.assertEquals("message {}",delegating.getPattern());
+	}
+
+	@Test
+	@DisplayName("Delegating null log should raise NullPointerException")
+	public void testNullLog(){
+		Assertions.assertThrows(NullPointerException.class,() -> new DelegatingLog(null){});
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.metrics.AsyncPipelineSnapshot;
+import org.bytemechanics.logger.mocks.RecordingLoggerAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class AsyncLogPipelineTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> AsyncLogPipelineTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	public static class BlockingLoggerAdapter extends RecordingLoggerAdapter{
+
+		private final CountDownLatch started;
+		private final CountDownLatch release;
+		
+		public BlockingLoggerAdapter(final String _name,final CountDownLatch _started,final CountDownLatch _release) {
+			super(_name);
+			this.started=_started;
+			this.release=_release;
+		}
+		@Override
+		public void log(final Log _log) {
+			this.started.countDown();
+			try {
+				this.release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			super.log(_log);
+		}
+	}
+
+	@Test
+	@DisplayName("Pipeline should write asynchronously all the logs and report its metrics")
+	public void testSubmit(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final AsyncPipelineSnapshot snapshot;
+		try(AsyncLogPipeline pipeline=new AsyncLogPipeline("test-submit")){
+			final FluentLogger logger=FluentLogger.of("my-logger",AsyncLoggerAdapter.decorate(name -> adapter,pipeline));
+			for(int ic1=0;ic1<100;ic1++){
+				logger.info("message {}",ic1);
+			}
+			pipeline.close();
+			snapshot=pipeline.snapshot();
+		}
+		Assertions.assertEquals(100,adapter.getLogs().size());
+		Assertions.assertEquals("message 99",adapter.getLogs().get(99).getMessage().get());
+		Assertions.assertTrue(adapter.getLogs().get(99).isSourceResolved());
+		Assertions.assertEquals("test-submit",snapshot.getName());
+		Assertions.assertEquals(100,snapshot.getEnqueued());
+		Assertions.assertEquals(100,snapshot.getWritten());
+		Assertions.assertEquals(0,snapshot.getTotalDropped());
+		Assertions.assertEquals(0,snapshot.getQueueSize());
+		Assertions.assertTrue(snapshot.getHighWaterMark()>0);
+		Assertions.assertEquals(100,snapshot.getEnqueueWait().getCount());
+		Assertions.assertEquals(100,snapshot.getEnqueueToWrite().getCount());
+		Assertions.assertTrue(snapshot.getBatchSize().getCount()>0);
+		Assertions.assertTrue(snapshot.getBatchSize().getMax()<=AsyncLogPipeline.DEFAULT_MAX_BATCH);
+	}
+
+	@Test
+	@DisplayName("Pipeline should drop and count per level the logs when the queue is full")
+	public void testSubmit_full() throws InterruptedException{
+		final CountDownLatch started=new CountDownLatch(1);
+		final CountDownLatch release=new CountDownLatch(1);
+		final BlockingLoggerAdapter adapter=new BlockingLoggerAdapter("my-logger",started,release);
+		try(AsyncLogPipeline pipeline=new AsyncLogPipeline("test-full",2,Duration.ZERO,16)){
+			final FluentLogger logger=FluentLogger.of("my-logger",AsyncLoggerAdapter.decorate(name -> adapter,pipeline));
+			logger.info("blocking");
+			Assertions.assertTrue(started.await(5,TimeUnit.SECONDS));
+			logger.info("queued 1");
+			logger.info("queued 2");
+			logger.warning("dropped 1");
+			logger.error("dropped 2");
+			final AsyncPipelineSnapshot snapshot=pipeline.snapshot();
+			Assertions.assertEquals(2,snapshot.getQueueSize());
+			Assertions.assertEquals(1d,snapshot.getOccupancy());
+			Assertions.assertEquals(2,snapshot.getHighWaterMark());
+			Assertions.assertEquals(1,snapshot.getDropped(Level.WARNING));
+			Assertions.assertEquals(1,snapshot.getDropped(Level.ERROR));
+			Assertions.assertEquals(2,pipeline.getTotalDropped());
+			release.countDown();
+		}
+		Assertions.assertEquals(3,adapter.getLogs().size());
+	}
+
+	@Test
+	@DisplayName("Closed pipeline should write synchronously")
+	public void testSubmit_closed(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final AsyncLogPipeline pipeline=new AsyncLogPipeline("test-closed");
+		pipeline.close();
+		FluentLogger.of("my-logger",name -> new AsyncLoggerAdapter(adapter,pipeline)).info("message");
+		Assertions.assertEquals(1,adapter.getLogs().size());
+	}
+
+	@Test
+	@DisplayName("Interrupted consumer should stop and the pipeline write synchronously")
+	public void testConsumer_interrupted() throws InterruptedException{
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		try(AsyncLogPipeline pipeline=new AsyncLogPipeline("test-interrupted")){
+			final Thread consumer=Thread.getAllStackTraces()
+											.keySet()
+											.stream()
+												.filter(thread -> "fluent-logger-async-test-interrupted".equals(thread.getName()))
+												.findFirst()
+												.get();
+			consumer.interrupt();
+			consumer.join(5000);
+			Assertions.assertFalse(consumer.isAlive());
+			FluentLogger.of("my-logger",name -> new AsyncLoggerAdapter(adapter,pipeline)).info("message");
+			Assertions.assertEquals(1,adapter.getLogs().size());
+		}
+	}
+
+	@Test
+	@DisplayName("Pipeline closed while producers are submitting should write all the logs")
+	public void testSubmit_concurrentClose() throws InterruptedException{
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final AsyncLogPipeline pipeline=new AsyncLogPipeline("test-concurrent-close");
+		final FluentLogger logger=FluentLogger.of("my-logger",AsyncLoggerAdapter.decorate(name -> adapter,pipeline));
+		final CountDownLatch start=new CountDownLatch(1);
+		final Thread[] producers=new Thread[4];
+		for(int ic1=0;ic1<producers.length;ic1++){
+			producers[ic1]=new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				for(int ic2=0;ic2<1000;ic2++){
+					logger.info("message {}",ic2);
+				}
+			});
+			producers[ic1].start();
+		}
+		start.countDown();
+		pipeline.close();
+		for(Thread producer:producers){
+			producer.join(5000);
+		}
+		Assertions.assertEquals(4000,adapter.getLogs().size());
+		Assertions.assertEquals(0,pipeline.getQueueSize());
+	}
+
+	@Test
+	@DisplayName("Pipeline closed from its own consumer thread should not wait for itself")
+	public void testClose_fromConsumer() throws InterruptedException{
+		final AsyncLogPipeline[] pipeline=new AsyncLogPipeline[1];
+		final CountDownLatch closed=new CountDownLatch(1);
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger"){
+														@Override
+														public void log(final Log _log) {
+															super.log(_log);
+															pipeline[0].close();
+															closed.countDown();
+														}
+													};
+		pipeline[0]=new AsyncLogPipeline("test-close-consumer");
+		final FluentLogger logger=FluentLogger.of("my-logger",AsyncLoggerAdapter.decorate(name -> adapter,pipeline[0]));
+		logger.info("closing");
+		Assertions.assertTrue(closed.await(5,TimeUnit.SECONDS));
+		logger.info("synchronous");
+		Assertions.assertEquals(2,adapter.getLogs().size());
+	}
+
+	@Test
+	@DisplayName("Pipeline should be exposed as MXBean while open")
+	public void testMXBean() throws JMException{
+		final ObjectName objectName=new ObjectName("org.bytemechanics.logger:type=AsyncLogPipeline,name="+ObjectName.quote("test-mxbean"));
+		try(AsyncLogPipeline pipeline=new AsyncLogPipeline("test-mxbean")){
+			Assertions.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+			Assertions.assertEquals(0,ManagementFactory.getPlatformMBeanServer().getAttribute(objectName,"QueueSize"));
+			Assertions.assertNotNull(ManagementFactory.getPlatformMBeanServer().getAttribute(objectName,"Snapshot"));
+		}
+		Assertions.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+	}
+
+	@Test
+	@DisplayName("Async adapter should delegate name and enabled levels")
+	public void testDelegation(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger",Level.INFO);
+		try(AsyncLogPipeline pipeline=new AsyncLogPipeline("test-delegation")){
+			final AsyncLoggerAdapter async=new AsyncLoggerAdapter(adapter,pipeline);
+			Assertions.assertEquals("my-logger",async.getName());
+			Assertions.assertSame(adapter,async.getDelegate());
+			Assertions.assertSame(pipeline,async.getPipeline());
+			Assertions.assertFalse(async.isEnabled(Level.DEBUG));
+			Assertions.assertTrue(async.isEnabled(Level.INFO));
+		}
+	}
+}
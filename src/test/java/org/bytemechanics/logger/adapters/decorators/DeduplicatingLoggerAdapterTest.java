@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.mocks.RecordingLoggerAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class DeduplicatingLoggerAdapterTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> DeduplicatingLoggerAdapterTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@Test
+	@DisplayName("Duplicated messages should be logged only once and summarized at flush")
+	public void testLog_duplicates(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final DeduplicatingLoggerAdapter deduplicating=new DeduplicatingLoggerAdapter(adapter,Duration.ofMinutes(1),16);
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> deduplicating);
+		for(int ic1=0;ic1<10;ic1++){
+			logger.info("message {}",ic1);
+		}
+		Assertions.assertEquals(1,adapter.getLogs().size());
+		Assertions.assertEquals("message 0",adapter.getLogs().get(0).getMessage().get());
+		deduplicating.flush();
+		Assertions.assertEquals(2,adapter.getLogs().size());
+		Assertions.assertEquals(Level.INFO,adapter.getLogs().get(1).getLevel());
+		Assertions.assertTrue(adapter.getLogs().get(1).getMessage().get().startsWith("Suppressed 9 duplicates in the last "));
+		Assertions.assertTrue(adapter.getLogs().get(1).getMessage().get().endsWith(" ms of: message {}"));
+		deduplicating.flush();
+		Assertions.assertEquals(2,adapter.getLogs().size());
+	}
+
+	@Test
+	@DisplayName("Distinct patterns or levels should not be deduplicated")
+	public void testLog_distinct(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final DeduplicatingLoggerAdapter deduplicating=new DeduplicatingLoggerAdapter(adapter,Duration.ofMinutes(1),16);
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> deduplicating);
+		logger.info("message {}",1);
+		logger.warning("message {}",1);
+		logger.info("other {}",1);
+		Assertions.assertEquals(3,adapter.getLogs().size());
+		deduplicating.flush();
+		Assertions.assertEquals(3,adapter.getLogs().size());
+	}
+
+	@Test
+	@DisplayName("Duplicated messages should be logged again and summarized when the window expires")
+	public void testLog_windowExpired() throws InterruptedException{
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final FluentLogger logger=FluentLogger.of("my-logger",DeduplicatingLoggerAdapter.decorate(name -> adapter,Duration.ofMillis(100),16));
+		logger.error("message {}",1);
+		logger.error("message {}",2);
+		Assertions.assertEquals(1,adapter.getLogs().size());
+		Thread.sleep(150);
+		logger.error("message {}",3);
+		Assertions.assertEquals(3,adapter.getLogs().size());
+		Assertions.assertTrue(adapter.getLogs().get(1).getMessage().get().startsWith("Suppressed 1 duplicates"));
+		Assertions.assertEquals("message 3",adapter.getLogs().get(2).getMessage().get());
+	}
+
+	@Test
+	@DisplayName("Summary should be forwarded by any log of the adapter once the window expires")
+	public void testLog_windowExpiredOtherMessage() throws InterruptedException{
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final FluentLogger logger=FluentLogger.of("my-logger",DeduplicatingLoggerAdapter.decorate(name -> adapter,Duration.ofMillis(100),16));
+		logger.error("storm {}",1);
+		logger.error("storm {}",2);
+		logger.error("storm {}",3);
+		Assertions.assertEquals(1,adapter.getLogs().size());
+		Thread.sleep(150);
+		logger.info("other {}",1);
+		Assertions.assertEquals(3,adapter.getLogs().size());
+		Assertions.assertTrue(adapter.getLogs().get(1).getMessage().get().startsWith("Suppressed 2 duplicates"));
+		Assertions.assertEquals("other 1",adapter.getLogs().get(2).getMessage().get());
+	}
+
+	@Test
+	@DisplayName("Close should forward the pending summaries")
+	public void testClose(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		try(DeduplicatingLoggerAdapter deduplicating=new DeduplicatingLoggerAdapter(adapter,Duration.ofMinutes(1),16)){
+			final FluentLogger logger=FluentLogger.of("my-logger",name -> deduplicating);
+			logger.info("message {}",1);
+			logger.info("message {}",2);
+			Assertions.assertEquals(1,adapter.getLogs().size());
+		}
+		Assertions.assertEquals(2,adapter.getLogs().size());
+		Assertions.assertTrue(adapter.getLogs().get(1).getMessage().get().startsWith("Suppressed 1 duplicates"));
+	}
+
+	@Test
+	@DisplayName("Concurrent logs and flushes should not lose any duplicate")
+	public void testFlush_concurrent() throws InterruptedException{
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final DeduplicatingLoggerAdapter deduplicating=new DeduplicatingLoggerAdapter(adapter,Duration.ofMinutes(1),16);
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> deduplicating);
+		final Thread[] producers=new Thread[4];
+		for(int ic1=0;ic1<producers.length;ic1++){
+			producers[ic1]=new Thread(() -> {
+				for(int ic2=0;ic2<5000;ic2++){
+					logger.info("storm {}",ic2);
+				}
+			});
+			producers[ic1].start();
+		}
+		for(int ic1=0;ic1<50;ic1++){
+			deduplicating.flush();
+			Thread.sleep(1);
+		}
+		for(Thread producer:producers){
+			producer.join();
+		}
+		deduplicating.flush();
+		long total=0;
+		for(Log log:adapter.getLogs()){
+			total+=(DeduplicatingLoggerAdapter.SUMMARY_PATTERN.equals(log.getPattern()))? ((Number)log.getArgs()[0]).longValue() : 1;
+		}
+		Assertions.assertEquals(20000,total);
+	}
+
+	@Test
+	@DisplayName("Deduplicating should delegate name and enabled levels")
+	public void testDelegation(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger",Level.INFO);
+		final DeduplicatingLoggerAdapter deduplicating=new DeduplicatingLoggerAdapter(adapter,Duration.ofMinutes(1),16);
+		Assertions.assertEquals("my-logger",deduplicating.getName());
+		Assertions.assertSame(adapter,deduplicating.getDelegate());
+		Assertions.assertFalse(deduplicating.isEnabled(Level.DEBUG));
+		Assertions.assertTrue(deduplicating.isEnabled(Level.INFO));
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.metrics.LatencyMetrics;
+import org.bytemechanics.logger.metrics.LatencySnapshot;
+import org.bytemechanics.logger.mocks.RecordingLoggerAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class InstrumentedLoggerAdapterTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> InstrumentedLoggerAdapterTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	public static class FormattingLoggerAdapter extends RecordingLoggerAdapter{
+
+		public FormattingLoggerAdapter(final String _name) {
+			super(_name);
+		}
+		@Override
+		public void log(final Log _log) {
+			super.log(_log);
+			_log.getMessage().get();
+		}
+	}
+
+	@Test
+	@DisplayName("Instrumented adapter should record log and format latencies per adapter type and level")
+	public void testLog(){
+		final String type=FormattingLoggerAdapter.class.getName();
+		final long logs=LatencyMetrics.getInstance().snapshot(type+".INFO.log").map(LatencySnapshot::getCount).orElse(0l);
+		final long formats=LatencyMetrics.getInstance().snapshot(type+".INFO.format").map(LatencySnapshot::getCount).orElse(0l);
+		final FluentLogger logger=FluentLogger.of("my-logger",InstrumentedLoggerAdapter.decorate(FormattingLoggerAdapter::new));
+		for(int ic1=0;ic1<10;ic1++){
+			logger.info("message {}",ic1);
+		}
+		Assertions.assertEquals(logs+10,LatencyMetrics.getInstance().snapshot(type+".INFO.log").get().getCount());
+		Assertions.assertEquals(formats+10,LatencyMetrics.getInstance().snapshot(type+".INFO.format").get().getCount());
+		Assertions.assertTrue(LatencyMetrics.getInstance().snapshot(type+".INFO.log").get().getMax()>0);
+	}
+
+	@Test
+	@DisplayName("Instrumented adapter should record only the format that renders the message")
+	public void testLog_renderedOnce(){
+		final String type=MultipleFormattingLoggerAdapter.class.getName();
+		final long formats=LatencyMetrics.getInstance().snapshot(type+".INFO.format").map(LatencySnapshot::getCount).orElse(0l);
+		final FluentLogger logger=FluentLogger.of("my-logger",InstrumentedLoggerAdapter.decorate(MultipleFormattingLoggerAdapter::new));
+		for(int ic1=0;ic1<10;ic1++){
+			logger.info("message {}",ic1);
+		}
+		Assertions.assertEquals(formats+10,LatencyMetrics.getInstance().snapshot(type+".INFO.format").get().getCount());
+	}
+	public static class MultipleFormattingLoggerAdapter extends FormattingLoggerAdapter{
+
+		public MultipleFormattingLoggerAdapter(final String _name) {
+			super(_name);
+		}
+		@Override
+		public void log(final Log _log) {
+			super.log(_log);
+			_log.getMessage().get();
+			_log.formatTo(new StringBuilder());
+		}
+	}
+
+	@Test
+	@DisplayName("Instrumented adapter should keep the log content")
+	public void testLog_content(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> new InstrumentedLoggerAdapter(adapter));
+		final Exception exception=new Exception("my-exception");
+		logger.error(exception,() -> "message");
+		logger.warning("pattern {}",1);
+		Assertions.assertEquals(2,adapter.getLogs().size());
+		Assertions.assertEquals("message",adapter.getLogs().get(0).getMessage().get());
+		Assertions.assertSame(exception,adapter.getLogs().get(0).getThrowable().get());
+		Assertions.assertEquals(Level.WARNING,adapter.getLogs().get(1).getLevel());
+		Assertions.assertEquals("pattern {}",adapter.getLogs().get(1).getPattern());
+		Assertions.assertEquals("pattern 1",adapter.getLogs().get(1).getMessage().get());
+	}
+
+	@Test
+	@DisplayName("Instrumented adapter should delegate name and enabled levels")
+	public void testDelegation(){
+		final LoggerAdapter adapter=new RecordingLoggerAdapter("my-logger",Level.INFO);
+		final InstrumentedLoggerAdapter instrumented=new InstrumentedLoggerAdapter(adapter);
+		Assertions.assertEquals("my-logger",instrumented.getName());
+		Assertions.assertSame(adapter,instrumented.getDelegate());
+		Assertions.assertFalse(instrumented.isEnabled(Level.DEBUG));
+		Assertions.assertTrue(instrumented.isEnabled(Level.INFO));
+	}
+
+	@Test
+	@DisplayName("Latencies should be exposed as MXBean")
+	public void testMXBean() throws JMException{
+		new InstrumentedLoggerAdapter(new RecordingLoggerAdapter("my-logger"));
+		Assertions.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(LatencyMetrics.OBJECT_NAME)));
+		Assertions.assertNotNull(ManagementFactory.getPlatformMBeanServer().getAttribute(new ObjectName(LatencyMetrics.OBJECT_NAME),"Latencies"));
+	}
+}
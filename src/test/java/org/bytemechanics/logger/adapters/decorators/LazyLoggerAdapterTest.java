@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.mocks.RecordingLoggerAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LazyLoggerAdapterTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LazyLoggerAdapterTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	@Test
+	@DisplayName("Underlaying adapter should only be created once on first usage")
+	public void testLazyResolution(){
+		
+		final AtomicInteger created=new AtomicInteger();
+		final RecordingLoggerAdapter recorder=new RecordingLoggerAdapter("my-logger",Level.INFO);
+		final LazyLoggerAdapter adapter=new LazyLoggerAdapter(name -> {
+																	created.incrementAndGet();
+																	return recorder;
+																},"my-logger");
+		Assertions.assertEquals("my-logger",adapter.getName());
+		Assertions.assertFalse(adapter.isResolved());
+		Assertions.assertEquals(0,created.get());
+		Assertions.assertFalse(adapter.isEnabled(Level.DEBUG));
+		Assertions.assertTrue(adapter.isResolved());
+		Assertions.assertTrue(adapter.isEnabled(Level.INFO));
+		Assertions.assertSame(recorder,adapter.getDelegate());
+		Assertions.assertEquals(1,created.get());
+	}
+	@Test
+	@DisplayName("Decorated factory should defer the creation until the logger is used")
+	public void testDecorate(){
+		
+		final AtomicInteger created=new AtomicInteger();
+		final Function<String,LoggerAdapter> factory=LazyLoggerAdapter.decorate(name -> {
+																					created.incrementAndGet();
+																					return new RecordingLoggerAdapter(name);
+																				});
+		final FluentLogger logger=FluentLogger.of("my-logger",factory);
+		Assertions.assertEquals("my-logger",logger.getName());
+		Assertions.assertEquals(0,created.get());
+		logger.info("message {}",1);
+		Assertions.assertEquals(1,created.get());
+	}
+	@Test
+	@DisplayName("Lazy system property should defer the creation of all FluentLogger instances")
+	public void testLazyProperty(){
+		
+		final AtomicInteger created=new AtomicInteger();
+		System.setProperty(LazyLoggerAdapter.LAZY_KEY,"true");
+		try{
+			final FluentLogger logger=FluentLogger.of("my-logger",name -> {
+																	created.incrementAndGet();
+																	return new RecordingLoggerAdapter(name);
+																});
+			Assertions.assertTrue(LazyLoggerAdapter.isLazyEnabled());
+			Assertions.assertEquals(0,created.get());
+			Assertions.assertTrue(logger.isEnabled(Level.INFO));
+			Assertions.assertEquals(1,created.get());
+		}finally{
+			System.clearProperty(LazyLoggerAdapter.LAZY_KEY);
+		}
+		Assertions.assertFalse(LazyLoggerAdapter.isLazyEnabled());
+	}
+}
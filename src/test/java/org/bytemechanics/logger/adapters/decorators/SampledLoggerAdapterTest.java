@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.decorators;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.mocks.RecordingLoggerAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class SampledLoggerAdapterTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> SampledLoggerAdapterTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@Test
+	@DisplayName("EveryN should log the first and then one of each N events counting the suppressed")
+	public void testEveryN(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> adapter)
+												.everyN(3);
+		for(int ic1=0;ic1<10;ic1++){
+			logger.info("message {}",ic1);
+		}
+		Assertions.assertEquals(4,adapter.getLogs().size());
+		Assertions.assertEquals("message 0",adapter.getLogs().get(0).getMessage().get());
+		Assertions.assertEquals("message 3",adapter.getLogs().get(1).getMessage().get());
+		Assertions.assertEquals(6,logger.getSuppressed());
+	}
+
+	@Test
+	@DisplayName("Sampled should not build the log neither touch the supplier or arguments of the suppressed events")
+	public void testEveryN_notBuilt(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final LongAdder built=new LongAdder();
+		final LongAdder supplied=new LongAdder();
+		final LongAdder rendered=new LongAdder();
+		final Object argument=new Object(){
+									@Override
+									public String toString() {
+										rendered.increment();
+										return "arg";
+									}
+								};
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> new EveryNSampledLoggerAdapter(adapter,2){
+																			@Override
+																			public void log(final Log _log) {
+																				built.increment();
+																				super.log(_log);
+																			}
+																		});
+		for(int ic1=0;ic1<10;ic1++){
+			logger.info("message {}",argument);
+		}
+		for(int ic1=0;ic1<10;ic1++){
+			logger.info(() -> {
+							supplied.increment();
+							return "supplied";
+						});
+		}
+		Assertions.assertEquals(10,built.sum());
+		Assertions.assertEquals(10,adapter.getLogs().size());
+		Assertions.assertEquals(0,supplied.sum());
+		Assertions.assertEquals(0,rendered.sum());
+		adapter.getLogs()
+				.forEach(log -> log.getMessage().get());
+		Assertions.assertEquals(5,supplied.sum());
+		Assertions.assertEquals(5,rendered.sum());
+	}
+
+	@Test
+	@DisplayName("EveryN should not consume sampling decisions on level guards")
+	public void testEveryN_guarded(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> adapter)
+												.everyN(2);
+		for(int ic1=0;ic1<10;ic1++){
+			if(logger.isInfoEnabled()){
+				logger.info("message {}",ic1);
+			}
+		}
+		Assertions.assertEquals(5,adapter.getLogs().size());
+		Assertions.assertEquals("message 0",adapter.getLogs().get(0).getMessage().get());
+		Assertions.assertEquals(5,logger.getSuppressed());
+	}
+
+	@Test
+	@DisplayName("AtMostEvery should log the guarded event")
+	public void testAtMostEvery_guarded(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> adapter)
+												.atMostEvery(Duration.ofMinutes(1));
+		Assertions.assertTrue(logger.isInfoEnabled());
+		Assertions.assertTrue(logger.isInfoEnabled());
+		logger.info("message guarded");
+		Assertions.assertEquals(1,adapter.getLogs().size());
+		Assertions.assertEquals(0,logger.getSuppressed());
+	}
+
+	@Test
+	@DisplayName("Sampled should not count as suppressed the disabled levels")
+	public void testEveryN_disabled(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger",Level.INFO);
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> adapter)
+												.everyN(2);
+		for(int ic1=0;ic1<10;ic1++){
+			logger.debug("message {}",ic1);
+		}
+		Assertions.assertEquals(0,adapter.getLogs().size());
+		Assertions.assertEquals(0,logger.getSuppressed());
+	}
+
+	@Test
+	@DisplayName("Sampled with ratio 0 should suppress all events and ratio 1 should log all events")
+	public void testSampled_limits(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final FluentLogger none=FluentLogger.of("my-logger",name -> adapter)
+												.sampled(0d);
+		final FluentLogger all=FluentLogger.of("my-logger",name -> adapter)
+												.sampled(1d);
+		for(int ic1=0;ic1<100;ic1++){
+			none.info("none {}",ic1);
+			all.info(() -> "all");
+		}
+		Assertions.assertEquals(100,adapter.getLogs().size());
+		Assertions.assertEquals(100,none.getSuppressed());
+		Assertions.assertEquals(0,all.getSuppressed());
+	}
+
+	@Test
+	@DisplayName("Sampled with ratio should log approximately the ratio of events")
+	public void testSampled_ratio(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> adapter)
+												.sampled(0.5d);
+		for(int ic1=0;ic1<10000;ic1++){
+			logger.info("message {}",ic1);
+		}
+		Assertions.assertTrue(adapter.getLogs().size()>4000&&adapter.getLogs().size()<6000);
+		Assertions.assertEquals(10000,adapter.getLogs().size()+logger.getSuppressed());
+	}
+
+	@Test
+	@DisplayName("Sampled with invalid ratio should raise IllegalArgumentException")
+	public void testSampled_invalid(){
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> new RecordingLoggerAdapter(name));
+		Assertions.assertThrows(IllegalArgumentException.class,() -> logger.sampled(1.5d));
+		Assertions.assertThrows(IllegalArgumentException.class,() -> logger.sampled(-0.1d));
+		Assertions.assertThrows(IllegalArgumentException.class,() -> logger.everyN(0));
+		Assertions.assertThrows(IllegalArgumentException.class,() -> logger.atMostEvery(Duration.ZERO));
+	}
+
+	@Test
+	@DisplayName("AtMostEvery should log only one event per period")
+	public void testAtMostEvery() throws InterruptedException{
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("my-logger");
+		final FluentLogger logger=FluentLogger.of("my-logger",name -> adapter)
+												.atMostEvery(Duration.ofMillis(200));
+		for(int ic1=0;ic1<10;ic1++){
+			logger.info("message {}",ic1);
+		}
+		Assertions.assertEquals(1,adapter.getLogs().size());
+		Assertions.assertEquals(9,logger.getSuppressed());
+		Thread.sleep(250);
+		logger.info("message after");
+		Assertions.assertEquals(2,adapter.getLogs().size());
+	}
+
+	@Test
+	@DisplayName("Non sampled logger should not have suppressed events")
+	public void testGetSuppressed_notSampled(){
+		Assertions.assertEquals(0,FluentLogger.of("my-logger",name -> new RecordingLoggerAdapter(name)).getSuppressed());
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.beans.LogBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class FluentLogRecordTest {
+
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	private static final Set<String> ADAPTER_CLASSES=new HashSet<>(Arrays.asList(LoggerJSRLoggingImpl.class.getName(),FluentLogRecord.class.getName()));
+
+	private final List<LogRecord> records=new ArrayList<>();
+	private final List<String> sources=new ArrayList<>();
+	private Logger underlyingLogger;
+	private Handler handler;
+
+	@BeforeEach
+	void setupLogger(){
+		this.underlyingLogger=Logger.getLogger("fluent-log-record-test");
+		this.underlyingLogger.setUseParentHandlers(false);
+		this.underlyingLogger.setLevel(java.util.logging.Level.ALL);
+		this.handler=new Handler() {
+			@Override
+			public void publish(final LogRecord _record) {
+				records.add(_record);
+				sources.add(_record.getSourceClassName()+"#"+_record.getSourceMethodName());
+			}
+			@Override
+			public void flush() {
+			}
+			@Override
+			public void close() {
+			}
+		};
+		this.underlyingLogger.addHandler(this.handler);
+	}
+	@AfterEach
+	void teardownLogger(){
+		this.underlyingLogger.removeHandler(this.handler);
+	}
+	
+	
+	@Test
+	@DisplayName("Record should keep the pattern arguments as parameters and format the message lazily")
+	public void testMessage(){
+		
+		final LogBean log=LogBean.of(Level.INFO).message("my-message {} {}").args("hallo",1);
+		final LogRecord record=new FluentLogRecord(java.util.logging.Level.INFO,log,ADAPTER_CLASSES);
+		
+		Assertions.assertArrayEquals(new Object[]{"hallo",1},record.getParameters());
+		Assertions.assertEquals("my-message hallo 1",record.getMessage());
+		Assertions.assertEquals("my-message hallo 1",new SimpleFormatter().formatMessage(record));
+	}
+
+	@Test
+	@DisplayName("Formatted message that looks like a MessageFormat pattern should not be formatted again by the java logging formatters")
+	public void testMessage_messageFormatLike(){
+		
+		final LogBean log=LogBean.of(Level.INFO).message("my-message {}").args("{0}");
+		final LogRecord record=new FluentLogRecord(java.util.logging.Level.INFO,log,ADAPTER_CLASSES);
+		
+		Assertions.assertEquals("my-message {0}",new SimpleFormatter().formatMessage(record));
+	}
+
+	@Test
+	@DisplayName("Explicit message should replace the lazy message")
+	public void testSetMessage(){
+		
+		final LogRecord record=new FluentLogRecord(java.util.logging.Level.INFO,LogBean.of(Level.INFO).message("my-message"),ADAPTER_CLASSES);
+		record.setMessage("other-message");
+		
+		Assertions.assertEquals("other-message",record.getMessage());
+	}
+
+	@Test
+	@DisplayName("Source should be inferred lazily as the caller of the adapter")
+	public void testSource(){
+		
+		new LoggerJSRLoggingImpl(this.underlyingLogger).log(LogBean.of(Level.INFO).message("my-message"));
+		
+		Assertions.assertEquals(1,this.records.size());
+		Assertions.assertEquals(FluentLogRecordTest.class.getName()+"#testSource",this.sources.get(0));
+		Assertions.assertEquals("fluent-log-record-test",this.records.get(0).getLoggerName());
+	}
+
+	@Test
+	@DisplayName("Source already resolved by the log should be used without walking the stack")
+	public void testSource_resolved(){
+		
+		final StackTraceElement resolved=new StackTraceElement("my.Class","myMethod","MyClass.java",1);
+		final Log log=new Log(){
+							@Override
+							public Level getLevel() {
+								return Level.INFO;
+							}
+							@Override
+							public LocalDateTime getTime() {
+								return LocalDateTime.now();
+							}
+							@Override
+							public Supplier<String> getMessage() {
+								return () -> "my-message";
+							}
+							@Override
+							public Optional<Throwable> getThrowable() {
+								return Optional.empty();
+							}
+							@Override
+							public boolean isSourceResolved() {
+								return true;
+							}
+							@Override
+							public StackTraceElement getSource(final Set<String> _classesToSkip) {
+								return resolved;
+							}
+						};
+		new LoggerJSRLoggingImpl(this.underlyingLogger).log(log);
+		
+		Assertions.assertEquals("my.Class#myMethod",this.sources.get(0));
+	}
+
+	@Test
+	@DisplayName("Explicit source should not be inferred")
+	public void testSetSource(){
+		
+		final LogRecord record=new FluentLogRecord(java.util.logging.Level.INFO,LogBean.of(Level.INFO).message("my-message"),ADAPTER_CLASSES);
+		record.setSourceClassName("my.Class");
+		record.setSourceMethodName("myMethod");
+		
+		Assertions.assertEquals("my.Class",record.getSourceClassName());
+		Assertions.assertEquals("myMethod",record.getSourceMethodName());
+	}
+
+	@Test
+	@DisplayName("Source of a record read outside the adapter should be taken from the log")
+	public void testSource_otherThread() throws InterruptedException{
+		
+		final LogRecord record=new FluentLogRecord(java.util.logging.Level.INFO,LogBean.of(Level.INFO).message("my-message"),ADAPTER_CLASSES);
+		final AtomicReference<String> source=new AtomicReference<>();
+		final Thread thread=new Thread(() -> source.set(record.getSourceClassName()));
+		thread.start();
+		thread.join();
+		
+		Assertions.assertNotNull(source.get());
+		Assertions.assertNotEquals(FluentLogRecord.class.getName(),source.get());
+	}
+
+	@Test
+	@DisplayName("Record should be serialized as a plain log record with the formatted message and source")
+	public void testSerialization() throws IOException, ClassNotFoundException{
+		
+		new LoggerJSRLoggingImpl(this.underlyingLogger).log(LogBean.of(Level.INFO).message("my-message {}").args("hallo"));
+		final ByteArrayOutputStream output=new ByteArrayOutputStream();
+		try(ObjectOutputStream stream=new ObjectOutputStream(output)){
+			stream.writeObject(this.records.get(0));
+		}
+		try(ObjectInputStream stream=new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))){
+			final LogRecord record=(LogRecord)stream.readObject();
+			Assertions.assertEquals(LogRecord.class,record.getClass());
+			Assertions.assertEquals("my-message hallo",record.getMessage());
+			Assertions.assertEquals(FluentLogRecordTest.class.getName(),record.getSourceClassName());
+			Assertions.assertEquals("testSerialization",record.getSourceMethodName());
+			Assertions.assertEquals("fluent-log-record-test",record.getLoggerName());
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class Log4j2ContextBridgeTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> Log4j2ContextBridgeTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@Test
+	@DisplayName("Push should put the context into ThreadContext and pop should restore the previous values")
+	public void testPushPop(){
+		ThreadContext.put("key1","previous");
+		final Map<String,String> context=new LinkedHashMap<>();
+		context.put("key1","value1");
+		context.put("key2","value2");
+		final Map<String,String> previous=Log4j2ContextBridge.push(context);
+		Assertions.assertEquals("value1",ThreadContext.get("key1"));
+		Assertions.assertEquals("value2",ThreadContext.get("key2"));
+		Log4j2ContextBridge.pop(previous);
+		Assertions.assertEquals("previous",ThreadContext.get("key1"));
+		Assertions.assertFalse(ThreadContext.containsKey("key2"));
+		ThreadContext.remove("key1");
+	}
+
+	@Test
+	@DisplayName("Push of an empty context should not touch ThreadContext")
+	public void testPush_empty(){
+		Assertions.assertNull(Log4j2ContextBridge.push(Collections.emptyMap()));
+		Log4j2ContextBridge.pop(null);
+	}
+}
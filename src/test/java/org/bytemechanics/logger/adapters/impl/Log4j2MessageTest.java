@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.apache.logging.log4j.message.Message;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.beans.LogBean;
+import org.bytemechanics.logger.beans.LogSupplierBean;
+import org.bytemechanics.logger.beans.MemoizedMessage;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class Log4j2MessageTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> Log4j2MessageTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	@Test
+	@DisplayName("Message should carry the pattern and arguments and format them into the given buffer")
+	public void testFormatTo(){
+		
+		final IOException exception=new IOException("my-exception");
+		final LogBean log=LogBean.of(Level.INFO).message("my-message {} {} {}").args("hallo",1).args(exception);
+		final Log4j2Message message=Log4j2Message.acquire(log);
+		try{
+			Assertions.assertEquals("my-message {} {} {}",message.getFormat());
+			Assertions.assertArrayEquals(new Object[]{"hallo",1,exception},message.getParameters());
+			Assertions.assertEquals(3,message.getParameterCount());
+			Assertions.assertSame(exception,message.getThrowable());
+			final StringBuilder buffer=new StringBuilder("prefix:");
+			message.formatTo(buffer);
+			Assertions.assertEquals("prefix:"+log.getMessage().get(),buffer.toString());
+			Assertions.assertEquals(log.getMessage().get(),message.getFormattedMessage());
+		}finally{
+			message.release();
+		}
+	}
+	@Test
+	@DisplayName("Format should append the message directly to the buffer without rendering it")
+	public void testFormatTo_direct(){
+		
+		final LogBean log=LogBean.of(Level.INFO).message("{}-{}.{}").args("a",2);
+		final Log4j2Message message=Log4j2Message.acquire(log);
+		try{
+			final StringBuilder buffer=new StringBuilder();
+			message.formatTo(buffer);
+			Assertions.assertEquals("a-2.null",buffer.toString());
+			Assertions.assertFalse(((MemoizedMessage)log.getMessage()).isRendered());
+			Assertions.assertEquals(log.getMessage().get(),buffer.toString());
+		}finally{
+			message.release();
+		}
+	}
+	@Test
+	@DisplayName("Format should reuse the message already rendered by the log")
+	public void testFormatTo_shared(){
+		
+		final int[] rendered=new int[1];
+		final Object argument=new Object(){
+									@Override
+									public String toString() {
+										rendered[0]++;
+										return "a";
+									}
+								};
+		final LogBean log=LogBean.of(Level.INFO).message("{}-{}.").args(argument,2);
+		final Log4j2Message message=Log4j2Message.acquire(log);
+		try{
+			Assertions.assertEquals("a-2.",log.getMessage().get());
+			final StringBuilder buffer=new StringBuilder();
+			message.formatTo(buffer);
+			Assertions.assertEquals("a-2.",buffer.toString());
+			Assertions.assertEquals(1,rendered[0]);
+		}finally{
+			message.release();
+		}
+	}
+	@Test
+	@DisplayName("Supplier logs should be bridged with their supplied message")
+	public void testFormatTo_supplier(){
+		
+		final Supplier<String> supplier=() -> "my-message {}";
+		final Log4j2Message message=Log4j2Message.acquire(LogSupplierBean.of(Level.INFO,supplier,null));
+		try{
+			final StringBuilder buffer=new StringBuilder();
+			message.formatTo(buffer);
+			Assertions.assertEquals("my-message {}",buffer.toString());
+			Assertions.assertEquals(0,message.getParameterCount());
+			Assertions.assertNull(message.getThrowable());
+		}finally{
+			message.release();
+		}
+	}
+	@Test
+	@DisplayName("Message should be reused per thread unless it's already in use")
+	public void testAcquire(){
+		
+		final Log4j2Message message=Log4j2Message.acquire(LogBean.of(Level.INFO).message("first"));
+		final Log4j2Message nested=Log4j2Message.acquire(LogBean.of(Level.INFO).message("nested"));
+		Assertions.assertTrue(message.isReusable());
+		Assertions.assertNotSame(message,nested);
+		Assertions.assertFalse(nested.isReusable());
+		Assertions.assertEquals("nested",nested.getFormattedMessage());
+		Assertions.assertEquals("first",message.getFormattedMessage());
+		nested.release();
+		message.release();
+		Assertions.assertNull(message.getFormat());
+		Assertions.assertSame(message,Log4j2Message.acquire(LogBean.of(Level.INFO).message("second")));
+		message.release();
+	}
+	@Test
+	@DisplayName("Swap parameters and memento should copy the arguments")
+	public void testSwapParameters_memento(){
+		
+		final Object[] args=new Object[]{"hallo",1};
+		final Log4j2Message message=Log4j2Message.acquire(LogBean.of(Level.INFO).message("my-message {} {}").args(args));
+		try{
+			final Object[] replacement=new Object[10];
+			Assertions.assertSame(replacement,message.swapParameters(replacement));
+			Assertions.assertEquals("hallo",replacement[0]);
+			Assertions.assertEquals(1,replacement[1]);
+			Assertions.assertArrayEquals(args,message.swapParameters(new Object[1]));
+			final Message memento=message.memento();
+			message.release();
+			Assertions.assertEquals("my-message hallo 1",memento.getFormattedMessage());
+		}finally{
+			message.release();
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.beans.LogBean;
+import org.bytemechanics.logger.beans.LogSupplierBean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class Log4jMessageTest {
+
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	@Test
+	@DisplayName("Message should not be formatted until rendered and only once")
+	public void testOf(){
+		
+		final AtomicInteger counter=new AtomicInteger();
+		final Log4jMessage message=Log4jMessage.of(LogSupplierBean.of(Level.INFO,() -> "my-message "+counter.incrementAndGet(),null));
+		
+		Assertions.assertFalse(message.isRendered());
+		Assertions.assertEquals(0,counter.get());
+		Assertions.assertEquals("my-message 1",message.toString());
+		Assertions.assertTrue(message.isRendered());
+		Assertions.assertEquals("my-message 1",message.toString());
+		Assertions.assertEquals(1,counter.get());
+	}
+
+	@Test
+	@DisplayName("Message should share the rendered message with the log")
+	public void testOf_shared(){
+		
+		final LogBean log=LogBean.of(Level.INFO).message("my-message {} {}").args("hallo",1);
+		final Log4jMessage message=Log4jMessage.of(log);
+		
+		Assertions.assertEquals("my-message hallo 1",message.toString());
+		Assertions.assertSame(log.getMessage().get(),message.toString());
+	}
+}
@@ -15,10 +15,12 @@
  */
 package org.bytemechanics.logger.adapters.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.logging.LogManager;
@@ -31,6 +33,7 @@ import mockit.Tested;
 import org.bytemechanics.logger.Level;
 import org.bytemechanics.logger.beans.LogBean;
 import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.layouts.JsonLayout;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -139,4 +142,40 @@ public class LoggerConsoleImplTest {
 			System.setErr(originalStandardErr);
 		}
 	}
+
+	@Test
+	@DisplayName("Log with layout should write the encoded log into the console stream")
+	public void testLog_layout() throws IOException{
+
+		final LoggerConsoleImpl jsonLogger=new LoggerConsoleImpl(logName,new JsonLayout());
+		final ByteArrayOutputStream output=new ByteArrayOutputStream();
+		final PrintStream originalStandardOut=System.out;
+		System.setOut(new PrintStream(output,true,"UTF-8"));
+		try{
+			jsonLogger.log(LogBean.of(Level.INFO).time(LocalDateTime.of(2019, Month.JANUARY, 1, 1, 1, 1)).message("my-message {}").args("hallo"));
+		}finally{
+			System.setOut(originalStandardOut);
+		}
+		Assertions.assertEquals("{\"time\":\"2019-01-01T01:01:01.000\",\"level\":\"INFO\",\"logger\":\"my-log-name\",\"message\":\"my-message hallo\"}\n",new String(output.toByteArray(),StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("Log with throwable should write the rendered stacktrace after the message")
+	@SuppressWarnings({"ThrowableInstanceNotThrown", "ThrowableInstanceNeverThrown"})
+	public void testLog_throwable() throws IOException{
+
+		final IOException exception=new IOException("my-exception");
+		final LogBean log=LogBean.of(Level.ERROR).time(LocalDateTime.of(2019, Month.JANUARY, 1, 1, 1, 1)).message("my-message").args(exception);
+		final ByteArrayOutputStream output=new ByteArrayOutputStream();
+		final PrintStream originalStandardErr=System.err;
+		System.setErr(new PrintStream(output,true,"UTF-8"));
+		try{
+			logger.log(log);
+		}finally{
+			System.setErr(originalStandardErr);
+		}
+		final String written=new String(output.toByteArray(),StandardCharsets.UTF_8);
+		Assertions.assertTrue(written.startsWith("2019-01-01T01:01:01 [ERROR] (my-log-name): my-message"+System.lineSeparator()+"java.io.IOException: my-exception"));
+		Assertions.assertTrue(written.contains("\tat org.bytemechanics.logger.adapters.impl.LoggerConsoleImplTest.testLog_throwable("));
+	}
 }
@@ -18,8 +18,8 @@ package org.bytemechanics.logger.adapters.impl;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
-import java.util.function.Supplier;
 import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 import mockit.Delegate;
@@ -141,17 +141,19 @@ public class LoggerJSRLoggingImplTest {
 	public void testLog(final Log _log){
 
 		final java.util.logging.Level translatedLevel=logger.translateLevel(_log.getLevel());
-		if(_log.getThrowable().isPresent()){
-			new Expectations() {{
-				underlayingLogger.logp(translatedLevel,"org.bytemechanics.logger.adapters.impl.LoggerJSRLoggingImplTest","testLog", withInstanceOf(Throwable.class),(Supplier<String>)any); 
-					times=1;
-			}};
-		}else{
-			new Expectations() {{
-				underlayingLogger.logp(translatedLevel,"org.bytemechanics.logger.adapters.impl.LoggerJSRLoggingImplTest","testLog",(Throwable) withNull(),(Supplier<String>)any); 
-					times=1;
-			}};
-		}
+		new Expectations() {{
+			underlayingLogger.log((LogRecord)any); 
+				result=new Delegate<LogRecord>() {
+							public void delegate(LogRecord _record) throws Exception {
+								Assertions.assertEquals(translatedLevel,_record.getLevel());
+								Assertions.assertEquals(_log.getMessage().get(),_record.getMessage());
+								Assertions.assertEquals(_log.getThrowable().orElse(null),_record.getThrown());
+								Assertions.assertEquals("org.bytemechanics.logger.adapters.impl.LoggerJSRLoggingImplTest",_record.getSourceClassName());
+								Assertions.assertEquals("testLog",_record.getSourceMethodName());
+							}
+						};
+				times=1;
+		}};
 		logger.log(_log);
 	}
 }
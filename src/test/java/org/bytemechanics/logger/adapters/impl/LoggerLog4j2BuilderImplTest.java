@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.stream.Stream;
+import mockit.Expectations;
+import mockit.Injectable;
+import mockit.Mocked;
+import mockit.Tested;
+import org.apache.logging.log4j.LogBuilder;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.message.Message;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.DelegatingLog;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.beans.LogBean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author afarre
+ */
+public class LoggerLog4j2BuilderImplTest {
+
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	@Mocked 
+	@Injectable
+	@SuppressWarnings("NonConstantLogger")
+	private org.apache.logging.log4j.spi.ExtendedLogger underlyingLogger;
+	@Mocked
+	private LogBuilder logBuilder;
+	@Tested
+	private LoggerLog4j2BuilderImpl logger;
+	
+
+	@Test
+	@DisplayName("LOG4J2B provider should not be probed")
+	public void testProvider(){
+		Assertions.assertFalse(LoggerAPIProvider.LOG4J2B.isProbed());
+	}
+	
+	@Test
+	@DisplayName("GetName should call to underlaying logger getName")
+	public void testGetName(){
+		
+		new Expectations() {{
+			underlyingLogger.getName(); result="my-log-name"; times=1;
+		}};
+		
+		Assertions.assertEquals("my-log-name",logger.getName());
+	}
+
+	static Stream<Arguments> logDatapack() {
+	    return Stream.of(
+			Arguments.of(LogBean.of(Level.FINEST).message("my-message {} {}").args("hallo",1).args(new RuntimeException("myRuntimeException"))),		
+			Arguments.of(LogBean.of(Level.TRACE).message("my-message {} {}")),		
+			Arguments.of(LogBean.of(Level.INFO).message("my-message {} {}").args("hallo",1)),		
+			Arguments.of(LogBean.of(Level.CRITICAL).message("my-message 4{} {}").args("hallo").args(new IOException("myIOException2")))	
+		);
+	}
+	@ParameterizedTest(name ="Log logBean={0} without resolved source should be written with FluentLogger FQCN")
+	@MethodSource("logDatapack")
+	public void testLog(final LogBean _log){
+
+		final org.apache.logging.log4j.Level translatedLevel=logger.translateLevel(_log.getLevel());
+		new Expectations() {{
+			underlyingLogger.logIfEnabled(FluentLogger.class.getName(),translatedLevel,(Marker)null,(Message)any,_log.getThrowable().orElse(null)); times=1;
+			underlyingLogger.atLevel((org.apache.logging.log4j.Level)any); times=0;
+		}};
+		logger.log(_log);
+	}
+	@ParameterizedTest(name ="Log logBean={0} with resolved source should be written through log builder with its location")
+	@MethodSource("logDatapack")
+	public void testLog_resolvedSource(final LogBean _log){
+
+		final StackTraceElement source=new StackTraceElement("my-class","my-method","my-file",1);
+		final Log resolved=new DelegatingLog(_log){
+									@Override
+									public boolean isSourceResolved() {
+										return true;
+									}
+									@Override
+									public StackTraceElement getSource(final java.util.Set<String> _classesToSkip) {
+										return source;
+									}
+								};
+		final org.apache.logging.log4j.Level translatedLevel=logger.translateLevel(_log.getLevel());
+		new Expectations() {{
+			underlyingLogger.atLevel(translatedLevel); result=logBuilder; times=1;
+			logBuilder.withLocation(source); result=logBuilder; times=1;
+			logBuilder.withThrowable(_log.getThrowable().orElse(null)); result=logBuilder; times=1;
+			logBuilder.log((Message)any); times=1;
+		}};
+		logger.log(resolved);
+	}
+}
@@ -27,7 +27,7 @@ import mockit.Injectable;
 import mockit.Mocked;
 import mockit.Tested;
 import org.apache.logging.log4j.Marker;
-import org.apache.logging.log4j.util.MessageSupplier;
+import org.apache.logging.log4j.message.Message;
 import org.bytemechanics.logger.FluentLogger;
 import org.bytemechanics.logger.Level;
 import org.bytemechanics.logger.beans.LogBean;
@@ -134,7 +134,7 @@ public class LoggerLog4j2ExtensionTest {
 	public void testLog(final LogBean _log){
 		final org.apache.logging.log4j.Level translatedLevel=logger.translateLevel(_log.getLevel());
 		new Expectations() {{
-			logger.logIfEnabled(FluentLogger.class.getName(),(org.apache.logging.log4j.Level)translatedLevel,(Marker)null,(MessageSupplier)any,(Throwable)_log.getThrowable().orElse(null)); 
+			logger.logIfEnabled(FluentLogger.class.getName(),(org.apache.logging.log4j.Level)translatedLevel,(Marker)null,(Message)any,(Throwable)_log.getThrowable().orElse(null)); 
 				times=1;
 		}};
 		logger.log(_log);
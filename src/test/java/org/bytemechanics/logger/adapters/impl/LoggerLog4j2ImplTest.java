@@ -18,7 +18,6 @@ package org.bytemechanics.logger.adapters.impl;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
-import java.util.function.Supplier;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -27,6 +26,9 @@ import mockit.Expectations;
 import mockit.Injectable;
 import mockit.Mocked;
 import mockit.Tested;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.message.Message;
+import org.bytemechanics.logger.FluentLogger;
 import org.bytemechanics.logger.Level;
 import org.bytemechanics.logger.beans.LogBean;
 import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
@@ -63,7 +65,7 @@ public class LoggerLog4j2ImplTest {
 	@Mocked 
 	@Injectable
 	@SuppressWarnings("NonConstantLogger")
-	private org.apache.logging.log4j.Logger underlyingLogger;
+	private org.apache.logging.log4j.spi.ExtendedLogger underlyingLogger;
 	@Tested
 	private LoggerLog4j2Impl logger;
 	
@@ -137,15 +139,17 @@ public class LoggerLog4j2ImplTest {
 			Arguments.of(LogBean.of(Level.CRITICAL).message("my-message 4{} {}").args("hallo").args(new IOException("myIOException2")))	
 		);
 	}
-	@ParameterizedTest(name ="Log logBean={0} should write log={1}")
+	@ParameterizedTest(name ="Log logBean={0} should write log={1} with FluentLogger FQCN")
 	@MethodSource("logDatapack")
 	@SuppressWarnings("unchecked")
 	public void testLog(final LogBean _log){
 
 		final org.apache.logging.log4j.Level translatedLevel=logger.translateLevel(_log.getLevel());
 		new Expectations() {{
-			underlyingLogger.log(translatedLevel,(Supplier<String>)any,_log.getThrowable().orElse(null)); 
+			underlyingLogger.logIfEnabled(FluentLogger.class.getName(),translatedLevel,(Marker)null,(Message)any,_log.getThrowable().orElse(null)); 
 				times=1;
+			underlyingLogger.log(translatedLevel,(Message)any,(Throwable)any); 
+				times=0;
 		}};
 		logger.log(_log);
 	}
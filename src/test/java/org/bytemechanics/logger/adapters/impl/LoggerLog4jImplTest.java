@@ -26,6 +26,7 @@ import mockit.Expectations;
 import mockit.Injectable;
 import mockit.Mocked;
 import mockit.Tested;
+import mockit.Verifications;
 import org.bytemechanics.logger.Level;
 import org.bytemechanics.logger.beans.LogBean;
 import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
@@ -142,10 +143,13 @@ public class LoggerLog4jImplTest {
 
 		final org.apache.log4j.Level translatedLevel=logger.translateLevel(_log.getLevel());
 		final String message=_log.getMessage().get();
-		new Expectations() {{
-			underlayingLogger.log("org.bytemechanics.logger.FluentLogger",translatedLevel,message,_log.getThrowable().orElse(null)); 
+		logger.log(_log);
+		new Verifications() {{
+			Object rendered;
+			underlayingLogger.log("org.bytemechanics.logger.FluentLogger",translatedLevel,rendered=withCapture(),_log.getThrowable().orElse(null)); 
 				times=1;
+			Assertions.assertEquals(Log4jMessage.class,rendered.getClass());
+			Assertions.assertEquals(message,rendered.toString());
 		}};
-		logger.log(_log);
 	}
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.stream.Stream;
+import mockit.Expectations;
+import mockit.Injectable;
+import mockit.Mocked;
+import mockit.Tested;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.beans.LogBean;
+import org.bytemechanics.logger.beans.LogSupplierBean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.spi.LocationAwareLogger;
+
+/**
+ * @author afarre
+ */
+public class LoggerSlf4jImplTest {
+
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	@Mocked 
+	@Injectable
+	@SuppressWarnings("NonConstantLogger")
+	private org.slf4j.Logger underlyingLogger;
+	@Tested
+	private LoggerSlf4jImpl logger;
+	
+
+	@Test
+	@DisplayName("LOGBACK provider should be probed before any other and SLF4J only used if explicitly selected")
+	public void testProviders(){
+		Assertions.assertEquals(LoggerAPIProvider.LOGBACK,LoggerAPIProvider.values()[0]);
+		Assertions.assertTrue(LoggerAPIProvider.LOGBACK.isProbed());
+		Assertions.assertFalse(LoggerAPIProvider.SLF4J.isProbed());
+	}
+	
+	@Test
+	@DisplayName("GetName should call to underlaying logger getName")
+	public void testGetName(){
+		
+		new Expectations() {{
+			underlyingLogger.getName(); result="my-log-name"; times=1;
+		}};
+		
+		Assertions.assertEquals("my-log-name",logger.getName());
+	}
+
+	static Stream<Arguments> translateLevelDatapack() {
+	    return Stream.of(
+			Arguments.of(Level.FINEST,org.slf4j.event.Level.TRACE),		
+			Arguments.of(Level.TRACE,org.slf4j.event.Level.DEBUG),		
+			Arguments.of(Level.DEBUG,org.slf4j.event.Level.DEBUG),		
+			Arguments.of(Level.INFO,org.slf4j.event.Level.INFO),		
+			Arguments.of(Level.WARNING,org.slf4j.event.Level.WARN),		
+			Arguments.of(Level.ERROR,org.slf4j.event.Level.ERROR),		
+			Arguments.of(Level.CRITICAL,org.slf4j.event.Level.ERROR)	
+		);
+	}
+	@ParameterizedTest(name ="Log level={0} translation should be equal to level={1}")
+	@MethodSource("translateLevelDatapack")
+	public void testTranslateLevel(final Level _level,final org.slf4j.event.Level _levelTranslated){
+		Assertions.assertEquals(_levelTranslated,logger.translateLevel(_level));
+	}
+
+	@Test
+	@DisplayName("IsEnabled should ask to the underlaying logger for the translated level")
+	public void testIsEnabled(){
+		
+		new Expectations() {{
+			underlyingLogger.isDebugEnabled(); result=false; times=2;
+			underlyingLogger.isWarnEnabled(); result=true; times=1;
+		}};
+		
+		Assertions.assertFalse(logger.isEnabled(Level.TRACE));
+		Assertions.assertFalse(logger.isEnabled(Level.DEBUG));
+		Assertions.assertTrue(logger.isEnabled(Level.WARNING));
+	}
+	
+	@Test
+	@DisplayName("Log with arguments should pass the pattern and arguments without formatting")
+	public void testLog_args(){
+
+		new Expectations() {{
+			underlyingLogger.info("my-message {} {}",new Object[]{"hallo",1}); times=1;
+		}};
+		logger.log(LogBean.of(Level.INFO).message("my-message {} {}").args("hallo",1));
+	}
+	@Test
+	@DisplayName("Log with arguments and throwable should pass the throwable as last argument")
+	public void testLog_argsThrowable(){
+
+		final IOException exception=new IOException("myIOException");
+		new Expectations() {{
+			underlyingLogger.error("my-message {}",new Object[]{"hallo",exception}); times=1;
+		}};
+		logger.log(LogBean.of(Level.CRITICAL).message("my-message {}").args("hallo").args(exception));
+	}
+	@Test
+	@DisplayName("Log without arguments should pass the formatted message and throwable")
+	public void testLog_supplier(){
+
+		final IOException exception=new IOException("myIOException");
+		new Expectations() {{
+			underlyingLogger.warn("my-message {}",exception); times=1;
+		}};
+		logger.log(LogSupplierBean.of(Level.WARNING,() -> "my-message {}",exception));
+	}
+	@Test
+	@DisplayName("Log to a location aware logger should use FluentLogger as boundary")
+	public void testLog_locationAware(@Mocked final LocationAwareLogger _locationAwareLogger){
+
+		final LoggerSlf4jImpl locationAwareAdapter=new LoggerSlf4jImpl(_locationAwareLogger);
+		new Expectations() {{
+			_locationAwareLogger.log(null,"org.bytemechanics.logger.FluentLogger",LocationAwareLogger.INFO_INT,"my-message {} {}",new Object[]{"hallo",1},null); times=1;
+		}};
+		locationAwareAdapter.log(LogBean.of(Level.INFO).message("my-message {} {}").args("hallo",1));
+	}
+}
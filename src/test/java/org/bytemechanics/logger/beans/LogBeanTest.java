@@ -263,4 +263,63 @@ public class LogBeanTest {
 		bean2=LogBean.of(Level.ERROR).message("myMessage").args("arg1",2).args(throwable).args("arg3").time(LocalDateTime.now());
 		Assertions.assertNotEquals(bean1.hashCode(),bean2.hashCode());
 	}
+
+	@Test
+	public void testFields(){
+		final LocalDateTime time=LocalDateTime.now();
+		final LogBean bean1=LogBean.of(Level.INFO).message("myMessage").field("key1","value1").field("key2",2).time(time);
+		final LogBean bean2=LogBean.of(Level.INFO).message("myMessage").field("key1","value1").field("key2",2).time(time);
+		final LogBean bean3=LogBean.of(Level.INFO).message("myMessage").field("key1","value1").time(time);
+		Assertions.assertEquals("value1",bean1.getFields().get("key1"));
+		Assertions.assertEquals(2,bean1.getFields().get("key2"));
+		Assertions.assertEquals(bean1,bean2);
+		Assertions.assertEquals(bean1.hashCode(),bean2.hashCode());
+		Assertions.assertNotEquals(bean1,bean3);
+		Assertions.assertTrue(LogBean.of(Level.INFO).getFields().isEmpty());
+	}
+
+	@Test
+	public void testGetPattern(){
+		Assertions.assertEquals("my {} message",LogBean.of(Level.INFO).message("my {} message").args("replaced").getPattern());
+		Assertions.assertEquals("my {} message",LogBean.of(Level.INFO).message("my ").message("{} message").args("replaced").getPattern());
+		Assertions.assertEquals("",LogBean.of(Level.INFO).getPattern());
+	}
+	@Test
+	public void testGetPattern_cached(){
+		final LogBean bean=LogBean.of(Level.INFO).message("my ");
+		final String pattern=bean.getPattern();
+		Assertions.assertSame(pattern,bean.getPattern());
+		Assertions.assertEquals("my {} message",bean.message("{} message").getPattern());
+	}
+
+	@Test
+	public void testGetArgs(){
+		Assertions.assertArrayEquals(new Object[]{"replaced",1,null},LogBean.of(Level.INFO).message("my {} message {} {}").args("replaced",1).args((Object[])null).getArgs());
+		Assertions.assertArrayEquals(new Object[0],LogBean.of(Level.INFO).message("my message").getArgs());
+	}
+	@Test
+	public void testGetArgs_cached(){
+		final LogBean bean=LogBean.of(Level.INFO).message("my {} message {}").args("replaced").args(1);
+		final Object[] args=bean.getArgs();
+		Assertions.assertSame(args,bean.getArgs());
+		Assertions.assertEquals("my replaced message 1",bean.getMessage().get());
+		Assertions.assertArrayEquals(new Object[]{"replaced",1,"other"},bean.message(" {}").args("other").getArgs());
+		Assertions.assertEquals("my replaced message 1 other",bean.getMessage().get());
+	}
+
+	@Test
+	public void testFormatTo(){
+		final LogBean bean=LogBean.of(Level.INFO).message("my {} message {} {}").args("replaced").args(null,1,2);
+		final StringBuilder buffer=new StringBuilder("prefix:");
+		bean.formatTo(buffer);
+		Assertions.assertEquals("prefix:my replaced message null 1",buffer.toString());
+		Assertions.assertFalse(((MemoizedMessage)bean.getMessage()).isRendered());
+		Assertions.assertEquals("my replaced message null 1",bean.getMessage().get());
+		final StringBuilder rendered=new StringBuilder();
+		bean.formatTo(rendered);
+		Assertions.assertEquals(bean.getMessage().get(),rendered.toString());
+		final StringBuilder missing=new StringBuilder();
+		LogBean.of(Level.INFO).message("{} and {}").args("one").formatTo(missing);
+		Assertions.assertEquals("one and null",missing.toString());
+	}
 }
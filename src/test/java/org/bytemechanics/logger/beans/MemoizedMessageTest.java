@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class MemoizedMessageTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> MemoizedMessageTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	@Test
+	@DisplayName("Message should be rendered only on the first get")
+	public void testGet(){
+		
+		final AtomicInteger rendered=new AtomicInteger();
+		final MemoizedMessage message=new MemoizedMessage(() -> "message-"+rendered.incrementAndGet());
+		Assertions.assertFalse(message.isRendered());
+		Assertions.assertEquals("message-1",message.get());
+		Assertions.assertTrue(message.isRendered());
+		Assertions.assertEquals("message-1",message.get());
+		message.reset();
+		Assertions.assertEquals("message-2",message.get());
+	}
+	@Test
+	@DisplayName("Null messages should also be rendered only once")
+	public void testGet_null(){
+		
+		final AtomicInteger rendered=new AtomicInteger();
+		final MemoizedMessage message=new MemoizedMessage(() -> {
+																rendered.incrementAndGet();
+																return null;
+															});
+		Assertions.assertNull(message.get());
+		Assertions.assertNull(message.get());
+		Assertions.assertEquals(1,rendered.get());
+	}
+	@Test
+	@DisplayName("Of should not memoize twice")
+	public void testOf(){
+		
+		final MemoizedMessage message=MemoizedMessage.of(() -> "message");
+		Assertions.assertSame(message,MemoizedMessage.of(message));
+		Assertions.assertNull(MemoizedMessage.of(null));
+	}
+	@Test
+	@DisplayName("Log bean message should be formatted once until modified")
+	public void testLogBean(){
+		
+		final LogBean bean=LogBean.of(Level.INFO).message("message {}").args(1);
+		final Supplier<String> message=bean.getMessage();
+		Assertions.assertSame(message.get(),bean.getMessage().get());
+		bean.message(" and {}").args(2);
+		Assertions.assertEquals("message 1 and 2",message.get());
+		Assertions.assertSame(message.get(),bean.getMessage().get());
+	}
+	@Test
+	@DisplayName("Log supplier bean message should be supplied once even when compared")
+	public void testLogSupplierBean(){
+		
+		final AtomicInteger supplied=new AtomicInteger();
+		final LogSupplierBean bean=LogSupplierBean.of(Level.INFO,() -> "message-"+supplied.incrementAndGet(),null);
+		bean.hashCode();
+		Assertions.assertEquals(bean,bean);
+		Assertions.assertEquals("message-1",bean.getMessage().get());
+		Assertions.assertEquals("message-1",bean.getMessage().get());
+		Assertions.assertEquals(1,supplied.get());
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.context;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class ContextSnapshotTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> ContextSnapshotTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@AfterEach
+	void afterEachTest() {
+		LogContext.clear();
+	}
+
+	static class ThreadCarrier implements ContextCarrier{
+		
+		static final ThreadLocal<Object> STATE=new ThreadLocal<>();
+		
+		@Override
+		public Object capture() {
+			return STATE.get();
+		}
+		@Override
+		public Object restore(final Object _captured) {
+			final Object reply=STATE.get();
+			STATE.set(_captured);
+			return reply;
+		}
+	}
+	
+	@Test
+	@DisplayName("Capture should keep the current context")
+	public void testCapture(){
+		
+		try(LogContext.Scope scope=LogContext.with("key","value")){
+			final ContextSnapshot snapshot=ContextSnapshot.capture();
+			LogContext.put("other","value2");
+			Assertions.assertEquals(1,snapshot.getContext().size());
+			Assertions.assertEquals("value",snapshot.getContext().get("key"));
+		}
+	}
+	@Test
+	@DisplayName("Attach should replace the current context and restore the previous when closed")
+	public void testAttach(){
+		
+		final ContextSnapshot snapshot;
+		try(LogContext.Scope scope=LogContext.with("key","value")){
+			snapshot=ContextSnapshot.capture();
+		}
+		LogContext.put("previous","value");
+		try(LogContext.Scope scope=snapshot.attach()){
+			Assertions.assertEquals("value",LogContext.get("key"));
+			Assertions.assertNull(LogContext.get("previous"));
+		}
+		Assertions.assertNull(LogContext.get("key"));
+		Assertions.assertEquals("value",LogContext.get("previous"));
+	}
+	@Test
+	@DisplayName("Registered carriers should be captured and restored")
+	public void testCarrier(){
+		
+		final ThreadCarrier carrier=new ThreadCarrier();
+		ContextSnapshot.register(carrier);
+		try{
+			ThreadCarrier.STATE.set("captured");
+			final ContextSnapshot snapshot=ContextSnapshot.capture();
+			ThreadCarrier.STATE.set("previous");
+			try(LogContext.Scope scope=snapshot.attach()){
+				Assertions.assertEquals("captured",ThreadCarrier.STATE.get());
+			}
+			Assertions.assertEquals("previous",ThreadCarrier.STATE.get());
+		}finally{
+			ContextSnapshot.unregister(carrier);
+			ThreadCarrier.STATE.remove();
+		}
+	}
+	@Test
+	@DisplayName("Wrapped executor should propagate the submitter context without leaking it to later tasks")
+	public void testWrapExecutorService() throws Exception{
+		
+		final ExecutorService executor=ContextSnapshot.wrap(Executors.newSingleThreadExecutor());
+		try{
+			final Map<String,String> propagated;
+			try(LogContext.Scope scope=LogContext.with("requestId","1234")){
+				propagated=executor.submit(LogContext::current).get(1,TimeUnit.SECONDS);
+			}
+			Assertions.assertEquals("1234",propagated.get("requestId"));
+			final AtomicReference<Map<String,String>> leaked=new AtomicReference<>();
+			executor.submit(() -> leaked.set(LogContext.current())).get(1,TimeUnit.SECONDS);
+			Assertions.assertTrue(leaked.get().isEmpty());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	@Test
+	@DisplayName("Wrapped executor should propagate the submitter context to invokeAll tasks")
+	public void testWrapExecutorService_invokeAll() throws Exception{
+		
+		final ExecutorService executor=ContextSnapshot.wrap(Executors.newFixedThreadPool(2));
+		try(LogContext.Scope scope=LogContext.with("requestId","1234")){
+			final List<Future<String>> results=executor.invokeAll(Arrays.asList(() -> LogContext.get("requestId"),() -> LogContext.get("requestId")));
+			for(Future<String> result:results){
+				Assertions.assertEquals("1234",result.get());
+			}
+		}finally{
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.context;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.beans.LogBean;
+import org.bytemechanics.logger.beans.LogSupplierBean;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LogContextTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LogContextTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@AfterEach
+	void afterEachTest() {
+		LogContext.clear();
+	}
+
+	@Test
+	@DisplayName("Put, get and remove should modify the current thread context")
+	public void testPutGetRemove(){
+		Assertions.assertTrue(LogContext.current().isEmpty());
+		LogContext.put("key1","value1");
+		LogContext.put("key2","value2");
+		Assertions.assertEquals("value1",LogContext.get("key1"));
+		Assertions.assertEquals(2,LogContext.current().size());
+		LogContext.remove("key1");
+		Assertions.assertNull(LogContext.get("key1"));
+		LogContext.put("key2",null);
+		Assertions.assertTrue(LogContext.current().isEmpty());
+		Assertions.assertThrows(NullPointerException.class,() -> LogContext.put(null,"value"));
+	}
+
+	@Test
+	@DisplayName("Snapshots should be immutable and not affected by later changes")
+	public void testSnapshot(){
+		LogContext.put("key1","value1");
+		final Map<String,String> snapshot=LogContext.current();
+		LogContext.put("key1","value2");
+		LogContext.put("key3","value3");
+		Assertions.assertEquals("value1",snapshot.get("key1"));
+		Assertions.assertEquals(1,snapshot.size());
+		Assertions.assertThrows(UnsupportedOperationException.class,() -> snapshot.put("key2","value2"));
+	}
+
+	@Test
+	@DisplayName("Scopes should restore the previous context when closed")
+	public void testScope(){
+		LogContext.put("key1","value1");
+		try(LogContext.Scope scope=LogContext.with("key1","value2")){
+			Assertions.assertEquals("value2",LogContext.get("key1"));
+			try(LogContext.Scope inner=LogContext.with("key2","value3")){
+				Assertions.assertEquals(2,LogContext.current().size());
+			}
+			Assertions.assertNull(LogContext.get("key2"));
+		}
+		Assertions.assertEquals("value1",LogContext.get("key1"));
+	}
+
+	@Test
+	@DisplayName("Context should be thread scoped")
+	public void testThreadScoped() throws InterruptedException{
+		LogContext.put("key1","value1");
+		final String[] reply=new String[]{"not executed"};
+		final Thread thread=new Thread(() -> reply[0]=LogContext.get("key1"));
+		thread.start();
+		thread.join();
+		Assertions.assertNull(reply[0]);
+	}
+
+	@Test
+	@DisplayName("Logs should capture the context snapshot when created")
+	public void testLogSnapshot(){
+		LogContext.put("requestId","1234");
+		final LogBean bean=LogBean.of(Level.INFO).message("message");
+		final LogSupplierBean supplierBean=LogSupplierBean.of(Level.INFO,() -> "message",null);
+		LogContext.clear();
+		Assertions.assertEquals("1234",bean.getContext().get("requestId"));
+		Assertions.assertEquals("1234",bean.time(bean.getTime()).getContext().get("requestId"));
+		Assertions.assertEquals("1234",supplierBean.getContext().get("requestId"));
+		Assertions.assertTrue(LogBean.of(Level.INFO).getContext().isEmpty());
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.factory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.adapters.impl.LoggerConsoleImpl;
+import org.bytemechanics.logger.adapters.impl.LoggerJSRLoggingImpl;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.internal.factory.impl.EmbeddedLoggerAdapterFactory;
+import org.bytemechanics.logger.internal.factory.utils.LoggerReflectionUtils;
+import org.bytemechanics.logger.mocks.FallbackLoggerAdapterFactory;
+import org.bytemechanics.logger.mocks.RecordingLoggerAdapter;
+import org.bytemechanics.logger.mocks.ServiceLoggerAdapterFactory;
+import org.bytemechanics.logger.mocks.UnavailableLoggerAdapterFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LoggerAdapterFactoryTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LoggerAdapterFactoryTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	private static ClassLoader servicesClassLoader(final String... _services) throws IOException{
+		final Path root=Files.createTempDirectory("fluent-logger-services");
+		final Path services=root.resolve("META-INF").resolve("services");
+		Files.createDirectories(services);
+		Files.write(services.resolve(LoggerAdapterFactory.class.getName()),Arrays.asList(_services),StandardCharsets.UTF_8);
+		return new URLClassLoader(new URL[]{root.toUri().toURL()},LoggerAdapterFactoryTest.class.getClassLoader());
+	}
+
+	@Test
+	@DisplayName("Default factory priority should be 0 and be available")
+	public void testDefaults(){
+		final LoggerAdapterFactory factory=name -> new RecordingLoggerAdapter(name);
+		Assertions.assertEquals(0,factory.getPriority());
+		Assertions.assertTrue(factory.isAvailable());
+	}
+
+	@Test
+	@DisplayName("Service discovery should return the available service with highest priority")
+	public void testFindServiceFactory() throws IOException{
+		final ClassLoader classLoader=servicesClassLoader(FallbackLoggerAdapterFactory.class.getName()
+															,UnavailableLoggerAdapterFactory.class.getName()
+															,ServiceLoggerAdapterFactory.class.getName());
+		Assertions.assertEquals(ServiceLoggerAdapterFactory.class,new LoggerReflectionUtils().findServiceFactory(classLoader).get().getClass());
+	}
+
+	@Test
+	@DisplayName("Service discovery should skip broken service registrations")
+	public void testFindServiceFactory_broken() throws IOException{
+		final ClassLoader classLoader=servicesClassLoader("org.bytemechanics.logger.mocks.NonExistentLoggerAdapterFactory"
+															,FallbackLoggerAdapterFactory.class.getName());
+		Assertions.assertEquals(FallbackLoggerAdapterFactory.class,new LoggerReflectionUtils().findServiceFactory(classLoader).get().getClass());
+	}
+
+	@Test
+	@DisplayName("Logger factory should use the service if available")
+	public void testFindLoggerFactory_service() throws IOException{
+		final ClassLoader classLoader=servicesClassLoader(ServiceLoggerAdapterFactory.class.getName());
+		final Function<String,LoggerAdapter> factory=new LoggerReflectionUtils().findLoggerFactory(classLoader,Stream.of(LoggerAPIProvider.JSR),() -> LoggerConsoleImpl::new);
+		final LoggerAdapter adapter=factory.apply("my-logger");
+		Assertions.assertEquals(RecordingLoggerAdapter.class,adapter.getClass());
+		Assertions.assertEquals("my-logger",adapter.getName());
+	}
+
+	@Test
+	@DisplayName("Logger factory should use the embedded provider services if no user service is available")
+	public void testFindLoggerFactory_noService() throws IOException{
+		final ClassLoader classLoader=servicesClassLoader(UnavailableLoggerAdapterFactory.class.getName());
+		final LoggerAdapterFactory service=new LoggerReflectionUtils().findServiceFactory(classLoader).get();
+		Assertions.assertTrue(service instanceof EmbeddedLoggerAdapterFactory);
+		Assertions.assertTrue(service.getPriority()<0);
+		final Function<String,LoggerAdapter> factory=new LoggerReflectionUtils().findLoggerFactory(classLoader,Stream.of(LoggerAPIProvider.JSR),() -> LoggerConsoleImpl::new);
+		Assertions.assertEquals(service.getLogger("my-logger").getClass(),factory.apply("my-logger").getClass());
+	}
+
+	@Test
+	@DisplayName("Logger factory should probe the providers as last fallback if no service is available")
+	public void testFindLoggerFactory_probed(){
+		final Function<String,LoggerAdapter> factory=new LoggerReflectionUtils().findLoggerFactory(Stream.of(LoggerAPIProvider.JSR),() -> LoggerConsoleImpl::new);
+		Assertions.assertEquals(LoggerJSRLoggingImpl.class,factory.apply("my-logger").getClass());
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.factory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.adapters.impl.LoggerConsoleImpl;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.internal.factory.utils.LoggerReflectionUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LoggerProviderConfigurationTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LoggerProviderConfigurationTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	private static ClassLoader classLoader(final Path _root) throws IOException{
+		return new URLClassLoader(new URL[]{_root.toUri().toURL()},LoggerProviderConfigurationTest.class.getClassLoader());
+	}
+
+	@Test
+	@DisplayName("Written precomputed provider should be read back")
+	public void testWriteRead() throws IOException{
+		final Path root=Files.createTempDirectory("fluent-logger-provider");
+		final Path written=LoggerProviderConfiguration.write(LoggerAPIProvider.CONSOLE,root);
+		Assertions.assertEquals(root.resolve(LoggerProviderConfiguration.RESOURCE),written);
+		Assertions.assertEquals(LoggerAPIProvider.CONSOLE,LoggerProviderConfiguration.read(classLoader(root)).get());
+	}
+
+	@Test
+	@DisplayName("Missing or invalid precomputed provider should be empty")
+	public void testRead_invalid() throws IOException{
+		final Path root=Files.createTempDirectory("fluent-logger-provider");
+		Assertions.assertFalse(LoggerProviderConfiguration.read(classLoader(root)).isPresent());
+		final Path resource=root.resolve(LoggerProviderConfiguration.RESOURCE);
+		Files.createDirectories(resource.getParent());
+		Files.write(resource,Arrays.asList(LoggerProviderConfiguration.PROVIDER_KEY+"=UNKNOWN"),StandardCharsets.ISO_8859_1);
+		Assertions.assertFalse(LoggerProviderConfiguration.read(classLoader(root)).isPresent());
+	}
+
+	@Test
+	@DisplayName("Main should record the first available provider")
+	public void testMain() throws IOException{
+		final Path root=Files.createTempDirectory("fluent-logger-provider");
+		LoggerProviderConfiguration.main(root.toString());
+		Assertions.assertEquals(new LoggerReflectionUtils().findAvailableProvider(Stream.of(LoggerAPIProvider.values()).filter(LoggerAPIProvider::isProbed)).get()
+								,LoggerProviderConfiguration.read(classLoader(root)).get());
+	}
+
+	@Test
+	@DisplayName("Logger factory should use the precomputed provider skipping the probing")
+	public void testFindLoggerFactory_precomputed() throws IOException{
+		final Path root=Files.createTempDirectory("fluent-logger-provider");
+		LoggerProviderConfiguration.write(LoggerAPIProvider.CONSOLE,root);
+		final Function<String,LoggerAdapter> factory=new LoggerReflectionUtils().findLoggerFactory(classLoader(root),Stream.of(LoggerAPIProvider.JSR),() -> null);
+		Assertions.assertEquals(LoggerConsoleImpl.class,factory.apply("my-logger").getClass());
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.flow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.beans.LogBean;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.mocks.RecordingLogBatchSubscriber;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LogPublisherTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LogPublisherTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	static final Executor DIRECT=Runnable::run;
+
+	static Log log(final int _index){
+		return LogBean.of(Level.INFO).message("message-{}").args(_index);
+	}
+	
+	@Test
+	@DisplayName("Logs should only be delivered when requested in batches of at most the batch size")
+	public void testDemand(){
+		
+		final LogPublisher publisher=new LogPublisher("demand",DIRECT,16,3,OverflowStrategy.DROP_LATEST);
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		Assertions.assertTrue(publisher.hasSubscribers());
+		for(int ic1=0;ic1<7;ic1++){
+			publisher.publish(log(ic1));
+		}
+		Assertions.assertTrue(subscriber.getBatches().isEmpty());
+		Assertions.assertEquals(7,publisher.getBuffered());
+		subscriber.getSubscription().request(2);
+		Assertions.assertEquals(2,subscriber.getBatches().size());
+		Assertions.assertEquals(3,subscriber.getBatches().get(0).size());
+		Assertions.assertEquals(3,subscriber.getBatches().get(1).size());
+		subscriber.getSubscription().request(5);
+		Assertions.assertEquals(3,subscriber.getBatches().size());
+		Assertions.assertEquals(1,subscriber.getBatches().get(2).size());
+		publisher.publish(log(7));
+		Assertions.assertEquals(4,subscriber.getBatches().size());
+		Assertions.assertEquals("message-7",subscriber.getBatches().get(3).get(0).getMessage().get());
+	}
+	@Test
+	@DisplayName("Drop latest strategy should keep the buffered logs when the buffer is full")
+	public void testOverflow_dropLatest(){
+		
+		final LogPublisher publisher=new LogPublisher("drop-latest",DIRECT,2,10,OverflowStrategy.DROP_LATEST);
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		for(int ic1=0;ic1<5;ic1++){
+			publisher.publish(log(ic1));
+		}
+		Assertions.assertEquals(3,publisher.getDropped());
+		subscriber.getSubscription().request(1);
+		Assertions.assertEquals(Arrays.asList("message-0","message-1"),subscriber.getMessages());
+	}
+	@Test
+	@DisplayName("Drop oldest strategy should keep the newest logs when the buffer is full")
+	public void testOverflow_dropOldest(){
+		
+		final LogPublisher publisher=new LogPublisher("drop-oldest",DIRECT,2,10,OverflowStrategy.DROP_OLDEST);
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		for(int ic1=0;ic1<5;ic1++){
+			publisher.publish(log(ic1));
+		}
+		Assertions.assertEquals(3,publisher.getDropped());
+		subscriber.getSubscription().request(1);
+		Assertions.assertEquals(Arrays.asList("message-3","message-4"),subscriber.getMessages());
+	}
+	@Test
+	@DisplayName("Fail strategy should terminate the subscriber with an error when the buffer is full")
+	public void testOverflow_fail(){
+		
+		final LogPublisher publisher=new LogPublisher("fail",DIRECT,2,10,OverflowStrategy.FAIL);
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		for(int ic1=0;ic1<3;ic1++){
+			publisher.publish(log(ic1));
+		}
+		Assertions.assertTrue(subscriber.getError() instanceof IllegalStateException);
+		Assertions.assertFalse(publisher.hasSubscribers());
+		Assertions.assertEquals(0,publisher.publish(log(4)));
+	}
+	@Test
+	@DisplayName("Non positive request should terminate the subscriber with an error")
+	public void testRequest_invalid(){
+		
+		final LogPublisher publisher=new LogPublisher("invalid",DIRECT,2,10,OverflowStrategy.DROP_LATEST);
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		subscriber.getSubscription().request(0);
+		Assertions.assertTrue(subscriber.getError() instanceof IllegalArgumentException);
+		Assertions.assertFalse(publisher.hasSubscribers());
+	}
+	@Test
+	@DisplayName("Cancelled subscribers should not receive more logs")
+	public void testCancel(){
+		
+		final LogPublisher publisher=new LogPublisher("cancel",DIRECT,16,10,OverflowStrategy.DROP_LATEST);
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		subscriber.getSubscription().request(Long.MAX_VALUE);
+		publisher.publish(log(0));
+		subscriber.getSubscription().cancel();
+		Assertions.assertFalse(publisher.hasSubscribers());
+		Assertions.assertEquals(0,publisher.publish(log(1)));
+		Assertions.assertEquals(Arrays.asList("message-0"),subscriber.getMessages());
+	}
+	@Test
+	@DisplayName("Close should complete the subscribers once the buffered logs are delivered")
+	public void testClose(){
+		
+		final LogPublisher publisher=new LogPublisher("close",DIRECT,16,10,OverflowStrategy.DROP_LATEST);
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		publisher.publish(log(0));
+		publisher.close();
+		Assertions.assertFalse(subscriber.isCompleted());
+		subscriber.getSubscription().request(1);
+		Assertions.assertTrue(subscriber.isCompleted());
+		Assertions.assertEquals(Arrays.asList("message-0"),subscriber.getMessages());
+		final RecordingLogBatchSubscriber late=new RecordingLogBatchSubscriber();
+		publisher.subscribe(late);
+		Assertions.assertTrue(late.isCompleted());
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.flow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.mocks.RecordingLogBatchSubscriber;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class PublisherLoggerAdapterTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> PublisherLoggerAdapterTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	@Test
+	@DisplayName("Levels should only be enabled over the minimum while the publisher has subscribers")
+	public void testIsEnabled(){
+		
+		final LogPublisher publisher=new LogPublisher("enabled",Runnable::run,16,10,OverflowStrategy.DROP_LATEST);
+		final PublisherLoggerAdapter adapter=new PublisherLoggerAdapter("my-logger",publisher,Level.INFO);
+		Assertions.assertFalse(adapter.isEnabled(Level.CRITICAL));
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		Assertions.assertTrue(adapter.isEnabled(Level.INFO));
+		Assertions.assertFalse(adapter.isEnabled(Level.DEBUG));
+		subscriber.getSubscription().cancel();
+		Assertions.assertFalse(adapter.isEnabled(Level.INFO));
+	}
+	@Test
+	@DisplayName("Logs should be published with the call site resolved before publishing")
+	public void testLog(){
+		
+		final LogPublisher publisher=new LogPublisher("log",Runnable::run,16,10,OverflowStrategy.DROP_LATEST);
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		final FluentLogger logger=FluentLogger.of("my-logger",PublisherLoggerAdapter.factory(publisher));
+		logger.info("message {}",1);
+		subscriber.getSubscription().request(1);
+		Assertions.assertEquals(1,subscriber.getBatches().size());
+		final Log log=subscriber.getBatches().get(0).get(0);
+		Assertions.assertEquals("message 1",log.getMessage().get());
+		Assertions.assertTrue(log.isSourceResolved());
+		Assertions.assertEquals(PublisherLoggerAdapterTest.class.getName(),log.getSource().getClassName());
+		Assertions.assertEquals("testLog",log.getSource().getMethodName());
+	}
+	@Test
+	@DisplayName("Logs should be published with unknown call site when the source resolution is disabled")
+	public void testLog_withoutSource(){
+		
+		final LogPublisher publisher=new LogPublisher("log-without-source",Runnable::run,16,10,OverflowStrategy.DROP_LATEST);
+		final RecordingLogBatchSubscriber subscriber=new RecordingLogBatchSubscriber();
+		publisher.subscribe(subscriber);
+		final FluentLogger logger=FluentLogger.of("my-logger",PublisherLoggerAdapter.factory(publisher,Level.FINEST,false));
+		logger.info("message {}",1);
+		subscriber.getSubscription().request(1);
+		final Log log=subscriber.getBatches().get(0).get(0);
+		Assertions.assertEquals("message 1",log.getMessage().get());
+		Assertions.assertTrue(log.isSourceResolved());
+		Assertions.assertEquals(Log.UNKNOWN_STACKTRACE,log.getSource().getClassName());
+	}
+}
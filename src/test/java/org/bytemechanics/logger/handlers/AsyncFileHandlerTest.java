@@ -0,0 +1,297 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.handlers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class AsyncFileHandlerTest {
+
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	private Path folder;
+
+	@BeforeEach
+	void createFolder() throws IOException{
+		this.folder=Files.createTempDirectory("async-file-handler");
+	}
+	@AfterEach
+	void deleteFolder() throws IOException{
+		try(Stream<Path> files=Files.walk(this.folder)){
+			files.sorted(Comparator.reverseOrder())
+					.forEach(path -> path.toFile().delete());
+		}
+	}
+
+	private static Formatter messageFormatter(){
+		return new MessageFormatter();
+	}
+	public static class MessageFormatter extends Formatter{
+		@Override
+		public String format(final LogRecord _record) {
+			return formatMessage(_record)+"\n";
+		}
+	}
+	
+	
+	@Test
+	@DisplayName("Published records should be written in order once the handler is closed")
+	public void testPublish() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		final AsyncFileHandler handler=new AsyncFileHandler(file);
+		handler.setFormatter(messageFormatter());
+		for(int ic1=0;ic1<1000;ic1++){
+			handler.publish(new LogRecord(Level.INFO,"message-"+ic1));
+		}
+		handler.close();
+		
+		final List<String> lines=Files.readAllLines(file,StandardCharsets.UTF_8);
+		Assertions.assertEquals(1000,lines.size());
+		for(int ic1=0;ic1<1000;ic1++){
+			Assertions.assertEquals("message-"+ic1,lines.get(ic1));
+		}
+		Assertions.assertEquals(0,handler.getDropped());
+		Assertions.assertEquals(0,handler.getQueueSize());
+	}
+
+	@Test
+	@DisplayName("Flush should wait until all the previously published records are written")
+	public void testFlush() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		final AsyncFileHandler handler=new AsyncFileHandler(file);
+		try{
+			handler.setFormatter(messageFormatter());
+			for(int ic1=0;ic1<1000;ic1++){
+				handler.publish(new LogRecord(Level.INFO,"message-"+ic1));
+			}
+			handler.flush();
+			
+			final List<String> lines=Files.readAllLines(file,StandardCharsets.UTF_8);
+			Assertions.assertEquals(1000,lines.size());
+			Assertions.assertEquals("message-999",lines.get(999));
+			Assertions.assertEquals(0,handler.getQueueSize());
+		}finally{
+			handler.close();
+		}
+		handler.flush();
+	}
+
+	@Test
+	@DisplayName("Configured formatter should be loaded from the thread context class loader when the system class loader can not find it")
+	public void testConfiguration_contextClassLoader() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		final String prefix=AsyncFileHandler.class.getName();
+		final String properties=prefix+".file="+file.toString().replace('\\','/')+"\n"
+								+prefix+".formatter=context.only.MessageFormatter\n";
+		final ClassLoader previous=Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(new ClassLoader(previous){
+			@Override
+			protected Class<?> loadClass(final String _name,final boolean _resolve) throws ClassNotFoundException {
+				return ("context.only.MessageFormatter".equals(_name))? MessageFormatter.class : super.loadClass(_name,_resolve);
+			}
+		});
+		try{
+			LogManager.getLogManager().readConfiguration(new ByteArrayInputStream(properties.getBytes(StandardCharsets.ISO_8859_1)));
+			final AsyncFileHandler handler=new AsyncFileHandler();
+			handler.close();
+			Assertions.assertEquals(file.toAbsolutePath(),handler.getFile());
+			Assertions.assertEquals(MessageFormatter.class,handler.getFormatter().getClass());
+		}finally{
+			Thread.currentThread().setContextClassLoader(previous);
+			try(InputStream inputStream=AsyncFileHandlerTest.class.getResourceAsStream("/logging.properties")){
+				LogManager.getLogManager().readConfiguration(inputStream);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Not instantiable formatter should be reported to the handler error manager")
+	public void testConfiguration_invalidClass() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		final String prefix=AsyncFileHandler.class.getName();
+		final String properties=prefix+".file="+file.toString().replace('\\','/')+"\n"
+								+prefix+".formatter=not.existent.Formatter\n";
+		final PrintStream previous=System.err;
+		final ByteArrayOutputStream errors=new ByteArrayOutputStream();
+		System.setErr(new PrintStream(errors,true,"UTF-8"));
+		try{
+			LogManager.getLogManager().readConfiguration(new ByteArrayInputStream(properties.getBytes(StandardCharsets.ISO_8859_1)));
+			final AsyncFileHandler handler=new AsyncFileHandler();
+			handler.close();
+			Assertions.assertEquals(SimpleFormatter.class,handler.getFormatter().getClass());
+			Assertions.assertTrue(new String(errors.toByteArray(),StandardCharsets.UTF_8).contains("Unable to instantiate Formatter not.existent.Formatter"));
+		}finally{
+			System.setErr(previous);
+			try(InputStream inputStream=AsyncFileHandlerTest.class.getResourceAsStream("/logging.properties")){
+				LogManager.getLogManager().readConfiguration(inputStream);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Records enqueued once the handler is closed should be dropped and counted")
+	public void testPublish_closing() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		final AsyncFileHandler handler=new AsyncFileHandler(file);
+		handler.setFormatter(messageFormatter());
+		handler.publish(new LogRecord(Level.INFO,"before"));
+		handler.setFilter(record -> {
+			handler.close();
+			return true;
+		});
+		handler.publish(new LogRecord(Level.INFO,"closing"));
+		
+		Assertions.assertEquals(1,handler.getDropped());
+		Assertions.assertEquals(0,handler.getQueueSize());
+		Assertions.assertEquals(1,Files.readAllLines(file,StandardCharsets.UTF_8).size());
+	}
+
+	@Test
+	@DisplayName("Records under the handler level should not be written")
+	public void testPublish_level() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		final AsyncFileHandler handler=new AsyncFileHandler(file);
+		handler.setFormatter(messageFormatter());
+		handler.setLevel(Level.WARNING);
+		handler.publish(new LogRecord(Level.INFO,"info"));
+		handler.publish(new LogRecord(Level.SEVERE,"severe"));
+		handler.close();
+		
+		Assertions.assertEquals(1,Files.readAllLines(file,StandardCharsets.UTF_8).size());
+	}
+
+	@Test
+	@DisplayName("Records published after close should be ignored")
+	public void testPublish_closed() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		final AsyncFileHandler handler=new AsyncFileHandler(file);
+		handler.setFormatter(messageFormatter());
+		handler.close();
+		handler.publish(new LogRecord(Level.INFO,"message"));
+		handler.close();
+		
+		Assertions.assertEquals(0,Files.size(file));
+	}
+
+	@Test
+	@DisplayName("File should be rotated when reaches the limit keeping at most count files")
+	public void testRotate() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		final AsyncFileHandler handler=new AsyncFileHandler(file,100,3,false,AsyncFileHandler.DEFAULT_CAPACITY);
+		handler.setFormatter(messageFormatter());
+		for(int ic1=0;ic1<100;ic1++){
+			handler.publish(new LogRecord(Level.INFO,"message-"+ic1));
+		}
+		handler.close();
+		
+		Assertions.assertTrue(Files.exists(file));
+		Assertions.assertTrue(Files.exists(Paths.get(file+".1")));
+		Assertions.assertTrue(Files.exists(Paths.get(file+".2")));
+		Assertions.assertFalse(Files.exists(Paths.get(file+".3")));
+		Assertions.assertTrue(Files.size(file)<=100);
+		Assertions.assertTrue(Files.size(Paths.get(file+".1"))<=100);
+		final List<String> lines=Files.readAllLines(file,StandardCharsets.UTF_8);
+		Assertions.assertEquals("message-99",lines.get(lines.size()-1));
+	}
+
+	@Test
+	@DisplayName("Existing content should be kept when appending")
+	public void testAppend() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		Files.write(file,"previous\n".getBytes(StandardCharsets.UTF_8));
+		final AsyncFileHandler handler=new AsyncFileHandler(file);
+		handler.setFormatter(messageFormatter());
+		handler.publish(new LogRecord(Level.INFO,"message"));
+		handler.close();
+		
+		final List<String> lines=Files.readAllLines(file,StandardCharsets.UTF_8);
+		Assertions.assertEquals(2,lines.size());
+		Assertions.assertEquals("previous",lines.get(0));
+	}
+
+	@Test
+	@DisplayName("Records should be dropped when the queue is full")
+	public void testDropped() throws IOException{
+		
+		final Path file=this.folder.resolve("test.log");
+		final AsyncFileHandler handler=new AsyncFileHandler(file,0,1,false,1);
+		handler.setFormatter(new Formatter() {
+			@Override
+			public String format(final LogRecord _record) {
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return formatMessage(_record)+"\n";
+			}
+		});
+		for(int ic1=0;ic1<10;ic1++){
+			handler.publish(new LogRecord(Level.INFO,"message-"+ic1));
+		}
+		handler.close();
+		
+		Assertions.assertTrue(handler.getDropped()>0);
+		Assertions.assertEquals(10-handler.getDropped(),Files.readAllLines(file,StandardCharsets.UTF_8).size());
+	}
+
+	@Test
+	@DisplayName("Invalid configuration should fail")
+	public void testInvalidConfiguration(){
+		final Path file=this.folder.resolve("test.log");
+		Assertions.assertThrows(NullPointerException.class,() -> new AsyncFileHandler(null));
+		Assertions.assertThrows(IllegalArgumentException.class,() -> new AsyncFileHandler(file,-1,1,true,1));
+		Assertions.assertThrows(IllegalArgumentException.class,() -> new AsyncFileHandler(file,0,0,true,1));
+		Assertions.assertThrows(IllegalArgumentException.class,() -> new AsyncFileHandler(file,0,1,true,0));
+	}
+}
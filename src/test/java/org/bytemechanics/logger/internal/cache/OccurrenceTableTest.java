@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.internal.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class OccurrenceTableTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> OccurrenceTableTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@Test
+	@DisplayName("Register the same key inside the window should return the same occurrence")
+	public void testRegister_sameWindow(){
+		final OccurrenceTable<String> table=new OccurrenceTable<>(16,1000);
+		final OccurrenceTable.Occurrence<String> occurrence=table.register(1,"key",0,null);
+		Assertions.assertEquals(1,occurrence.hit());
+		Assertions.assertSame(occurrence,table.register(1,"key",999,null));
+		Assertions.assertEquals(2,occurrence.hit());
+	}
+
+	@Test
+	@DisplayName("Register the same key after the window should replace the occurrence")
+	public void testRegister_expired(){
+		final List<OccurrenceTable.Occurrence<String>> replaced=new ArrayList<>();
+		final OccurrenceTable<String> table=new OccurrenceTable<>(16,1000);
+		final OccurrenceTable.Occurrence<String> occurrence=table.register(1,"key",0,replaced::add);
+		occurrence.hit();
+		final OccurrenceTable.Occurrence<String> occurrence2=table.register(1,"key",1000,replaced::add);
+		Assertions.assertNotSame(occurrence,occurrence2);
+		Assertions.assertTrue(occurrence2.getId()>occurrence.getId());
+		Assertions.assertEquals(1,replaced.size());
+		Assertions.assertSame(occurrence,replaced.get(0));
+	}
+
+	@Test
+	@DisplayName("Register a colliding key should use the secondary slot and replace the primary occurrence only when both are live")
+	public void testRegister_collision(){
+		final List<OccurrenceTable.Occurrence<String>> replaced=new ArrayList<>();
+		final OccurrenceTable<String> table=new OccurrenceTable<>(16,1000);
+		final OccurrenceTable.Occurrence<String> occurrence=table.register(1,"key",0,replaced::add);
+		final OccurrenceTable.Occurrence<String> occurrence2=table.register(1,"other",0,replaced::add);
+		Assertions.assertEquals("other",occurrence2.getKey());
+		Assertions.assertTrue(replaced.isEmpty());
+		Assertions.assertSame(occurrence,table.register(1,"key",10,replaced::add));
+		Assertions.assertSame(occurrence2,table.register(1,"other",10,replaced::add));
+		final OccurrenceTable.Occurrence<String> occurrence3=table.register(1,"third",20,replaced::add);
+		Assertions.assertEquals("third",occurrence3.getKey());
+		Assertions.assertEquals(1,replaced.size());
+		Assertions.assertSame(occurrence,replaced.get(0));
+		Assertions.assertSame(occurrence2,table.register(1,"other",30,replaced::add));
+	}
+	@Test
+	@DisplayName("Removed occurrences should be closed keeping their hits and rejecting the new ones")
+	public void testHit_closed(){
+		final List<OccurrenceTable.Occurrence<String>> removed=new ArrayList<>();
+		final OccurrenceTable<String> table=new OccurrenceTable<>(16,1000);
+		final OccurrenceTable.Occurrence<String> occurrence=table.register(1,"key",0,null);
+		Assertions.assertEquals(1,occurrence.hit());
+		Assertions.assertEquals(2,occurrence.hit());
+		Assertions.assertFalse(occurrence.isClosed());
+		table.clear(removed::add);
+		Assertions.assertTrue(occurrence.isClosed());
+		Assertions.assertEquals(0,occurrence.hit());
+		Assertions.assertEquals(2,removed.get(0).getCount());
+		final OccurrenceTable.Occurrence<String> occurrence2=table.register(1,"key",10,null);
+		Assertions.assertNotSame(occurrence,occurrence2);
+		Assertions.assertEquals(1,occurrence2.hit());
+	}
+	@Test
+	@DisplayName("Register by query should create the key only for new occurrences")
+	public void testRegister_query(){
+		final List<String> created=new ArrayList<>();
+		final OccurrenceTable<String> table=new OccurrenceTable<>(16,1000);
+		final OccurrenceTable.Occurrence<String> occurrence=table.register(1,new StringBuilder("key"),(key,query) -> key.contentEquals(query),query -> {
+																	created.add(query.toString());
+																	return query.toString();
+																},0,null);
+		Assertions.assertSame(occurrence,table.register(1,new StringBuilder("key"),(key,query) -> key.contentEquals(query),query -> {
+																	created.add(query.toString());
+																	return query.toString();
+																},10,null));
+		Assertions.assertEquals("key",occurrence.getKey());
+		Assertions.assertEquals(1,created.size());
+	}
+
+	@Test
+	@DisplayName("Expire should remove and notify only the expired occurrences")
+	public void testExpire(){
+		final List<OccurrenceTable.Occurrence<String>> removed=new ArrayList<>();
+		final OccurrenceTable<String> table=new OccurrenceTable<>(16,1000);
+		table.register(1,"key1",0,null);
+		table.register(2,"key2",500,null);
+		table.expire(1200,removed::add);
+		Assertions.assertEquals(1,removed.size());
+		Assertions.assertEquals("key1",removed.get(0).getKey());
+		table.expire(1600,removed::add);
+		Assertions.assertEquals(2,removed.size());
+		Assertions.assertEquals("key2",removed.get(1).getKey());
+	}
+
+	@Test
+	@DisplayName("Clear should remove and notify all occurrences")
+	public void testClear(){
+		final List<OccurrenceTable.Occurrence<String>> removed=new ArrayList<>();
+		final OccurrenceTable<String> table=new OccurrenceTable<>(16,1000);
+		table.register(1,"key1",0,null);
+		table.register(2,"key2",0,null);
+		table.clear(removed::add);
+		Assertions.assertEquals(2,removed.size());
+		table.clear(removed::add);
+		Assertions.assertEquals(2,removed.size());
+	}
+}
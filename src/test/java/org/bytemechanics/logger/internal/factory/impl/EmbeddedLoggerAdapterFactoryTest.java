@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.internal.factory.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.adapters.impl.LoggerJSRLoggingImpl;
+import org.bytemechanics.logger.factory.LoggerAdapterFactory;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class EmbeddedLoggerAdapterFactoryTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> EmbeddedLoggerAdapterFactoryTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	private static List<EmbeddedLoggerAdapterFactory> embedded(){
+		return StreamSupport.stream(ServiceLoader.load(LoggerAdapterFactory.class,EmbeddedLoggerAdapterFactoryTest.class.getClassLoader()).spliterator(),false)
+								.filter(factory -> factory instanceof EmbeddedLoggerAdapterFactory)
+								.map(factory -> (EmbeddedLoggerAdapterFactory)factory)
+								.collect(Collectors.toList());
+	}
+	private static boolean exist(final String _className){
+		try{
+			Class.forName(_className);
+			return true;
+		}catch(ClassNotFoundException e){
+			return false;
+		}
+	}
+
+	@Test
+	@DisplayName("Embedded services should register all the probed providers except console with negative priorities in provider order")
+	public void testRegistration(){
+		final List<EmbeddedLoggerAdapterFactory> factories=embedded();
+		final List<LoggerAPIProvider> expected=Stream.of(LoggerAPIProvider.values())
+																		.filter(LoggerAPIProvider::isProbed)
+																		.filter(provider -> provider!=LoggerAPIProvider.CONSOLE)
+																		.collect(Collectors.toList());
+		Assertions.assertEquals(expected,factories.stream().map(EmbeddedLoggerAdapterFactory::getProvider).collect(Collectors.toList()));
+		for(int ic1=0;ic1<factories.size();ic1++){
+			Assertions.assertTrue(factories.get(ic1).getPriority()<0);
+			if(ic1>0){
+				Assertions.assertTrue(factories.get(ic1).getPriority()<factories.get(ic1-1).getPriority());
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Embedded services should be available only if the provider detection class exist")
+	public void testIsAvailable(){
+		for(EmbeddedLoggerAdapterFactory factory:embedded()){
+			Assertions.assertEquals(exist(factory.getProvider().detectionClassName),factory.isAvailable(),factory.toString());
+		}
+	}
+
+	@Test
+	@DisplayName("Java logging embedded service should provide java logging adapters")
+	public void testGetLogger(){
+		final EmbeddedLoggerAdapterFactory factory=new EmbeddedLoggerAdapterFactory.JavaLogging();
+		Assertions.assertTrue(factory.isAvailable());
+		Assertions.assertEquals(LoggerJSRLoggingImpl.class,factory.getLogger("my-logger").getClass());
+		Assertions.assertEquals("my-logger",factory.getLogger("my-logger").getName());
+	}
+}
@@ -18,6 +18,8 @@ package org.bytemechanics.logger.internal.factory.impl;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.logging.LogManager;
@@ -28,6 +30,7 @@ import org.apache.maven.plugin.logging.Log;
 import org.bytemechanics.logger.FluentLogger;
 import org.bytemechanics.logger.adapters.LoggerAdapter;
 import org.bytemechanics.logger.adapters.impl.LoggerMavenPluginImpl;
+import org.bytemechanics.logger.context.ContextSnapshot;
 import org.bytemechanics.logger.factory.LoggerFactoryMavenPluginImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -68,6 +71,43 @@ public class LoggerFactoryMavenImplTest {
 		Assertions.assertEquals(LoggerMavenPluginImpl.class,loggerAdapter.getClass());
 		Assertions.assertNull(((LoggerMavenPluginImpl)loggerAdapter).getUnderlayingLog());
 	}
+	private static Log proxyLog(){
+		return (Log)Proxy.newProxyInstance(Log.class.getClassLoader(),new Class[]{Log.class},(proxy,method,args) -> ("hashCode".equals(method.getName()))? System.identityHashCode(proxy) : ("equals".equals(method.getName()))? (proxy==args[0]) : null);
+	}
+	@ParameterizedTest(name="getLogger({0}) from concurrent mojos should use the log of each mojo")
+	@ValueSource(strings = {"my-name1","my-name2"})
+	public void getLogger_concurrentMojos(final String _name) throws Throwable{
+
+		final Callable<Boolean> mojo=() -> {
+			final Log log=proxyLog();
+			try(LoggerFactoryMavenPluginImpl instance=new LoggerFactoryMavenPluginImpl(log)){
+				Thread.sleep(50);
+				return log==((LoggerMavenPluginImpl)instance.getLogger(_name)).getUnderlayingLog();
+			}
+		};
+		final FutureTask<Boolean> mojo1=new FutureTask<>(mojo);
+		final FutureTask<Boolean> mojo2=new FutureTask<>(mojo);
+		new Thread(mojo1).start();
+		new Thread(mojo2).start();
+		Assertions.assertTrue(mojo1.get());
+		Assertions.assertTrue(mojo2.get());
+		Assertions.assertNull(((LoggerMavenPluginImpl)new LoggerFactoryMavenPluginImpl().getLogger(_name)).getUnderlayingLog());
+	}
+	@ParameterizedTest(name="getLogger({0}) from other threads should use the mojo log only when propagated with ContextSnapshot")
+	@ValueSource(strings = {"my-name1","my-name2"})
+	public void getLogger_propagated(final String _name) throws Throwable{
+
+		final Log log=proxyLog();
+		try(LoggerFactoryMavenPluginImpl instance=new LoggerFactoryMavenPluginImpl(log)){
+			final Callable<Log> task=() -> ((LoggerMavenPluginImpl)new LoggerFactoryMavenPluginImpl().getLogger(_name)).getUnderlayingLog();
+			final FutureTask<Log> child=new FutureTask<>(task);
+			final FutureTask<Log> propagated=new FutureTask<>(ContextSnapshot.capture().wrap(task));
+			new Thread(child).start();
+			new Thread(propagated).start();
+			Assertions.assertNull(child.get());
+			Assertions.assertSame(log,propagated.get());
+		}
+	}
 	@ParameterizedTest(name="getLogger({0}) wo a logger named as {0} of LoggerMavenPluginImpl")
 	@ValueSource(strings = {"my-name1","my-name2"})
 	public void getLogger(final String _name,final @Mocked Log _logger){
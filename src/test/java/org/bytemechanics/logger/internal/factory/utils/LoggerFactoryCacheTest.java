@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.internal.factory.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.adapters.impl.LoggerConsoleImpl;
+import org.bytemechanics.logger.adapters.impl.LoggerJSRLoggingImpl;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LoggerFactoryCacheTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LoggerFactoryCacheTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@Test
+	@DisplayName("Factory of each provider should be resolved once and reused")
+	public void testGetLoggerFactory(){
+		LoggerFactoryCache.clear();
+		final Function<String,LoggerAdapter> factory=LoggerFactoryCache.getLoggerFactory(LoggerAPIProvider.CONSOLE).get();
+		Assertions.assertSame(factory,LoggerFactoryCache.getLoggerFactory(LoggerAPIProvider.CONSOLE).get());
+		Assertions.assertEquals(LoggerConsoleImpl.class,factory.apply("my-logger").getClass());
+		Assertions.assertNotSame(factory,LoggerFactoryCache.getLoggerFactory(LoggerAPIProvider.JSR).get());
+		LoggerFactoryCache.clear();
+		Assertions.assertNotSame(factory,LoggerFactoryCache.getLoggerFactory(LoggerAPIProvider.CONSOLE).get());
+	}
+	@Test
+	@DisplayName("Cache should provide the embedded adapters")
+	public void testGetLoggerFactory_embedded(){
+		final LoggerAdapter jsr=LoggerFactoryCache.getLoggerFactory(LoggerAPIProvider.JSR).get().apply("my-logger");
+		Assertions.assertEquals(LoggerJSRLoggingImpl.class,jsr.getClass());
+		Assertions.assertEquals("my-logger",jsr.getName());
+		final LoggerAdapter console=LoggerFactoryCache.getLoggerFactory(LoggerAPIProvider.CONSOLE).get().apply("my-logger");
+		Assertions.assertEquals(LoggerConsoleImpl.class,console.getClass());
+	}
+	@Test
+	@DisplayName("Cache should provide all the registered embedded providers")
+	public void testGetLoggerFactory_all(){
+		for(LoggerAPIProvider provider:LoggerAPIProvider.values()){
+			Assertions.assertEquals(LoggerFactoryCache.isRegistered(provider),LoggerFactoryCache.getLoggerFactory(provider).isPresent(),provider.name());
+		}
+	}
+	@Test
+	@DisplayName("All the embedded adapters should be registered, except SYSTEM that only exists at the Java 9 section of the multi-release jar")
+	public void testIsRegistered(){
+		for(LoggerAPIProvider provider:LoggerAPIProvider.values()){
+			if(provider!=LoggerAPIProvider.SYSTEM){
+				Assertions.assertTrue(LoggerFactoryCache.isRegistered(provider),provider.name());
+			}
+		}
+		Assertions.assertFalse(LoggerFactoryCache.isRegistered(null));
+	}
+	@Test
+	@DisplayName("Null provider should return empty")
+	public void testGetLoggerFactory_null(){
+		Assertions.assertFalse(LoggerFactoryCache.getLoggerFactory(null).isPresent());
+	}
+	@Test
+	@DisplayName("Explicit provider loggers should use the cached factory")
+	public void testFluentLogger(){
+		final FluentLogger logger=FluentLogger.of(LoggerFactoryCacheTest.class,LoggerAPIProvider.CONSOLE);
+		Assertions.assertEquals(LoggerFactoryCacheTest.class.getName(),logger.getName());
+		Assertions.assertEquals("my-logger",FluentLogger.of("my-logger",LoggerAPIProvider.CONSOLE).getName());
+	}
+}
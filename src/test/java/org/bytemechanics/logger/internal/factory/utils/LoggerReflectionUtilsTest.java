@@ -181,10 +181,12 @@ public class LoggerReflectionUtilsTest {
 		}
 		
 		new Expectations() {{
+			loggerReflectionUtils.existAPI(LoggerAPIProvider.LOGBACK); result=false; times = 1;
 			loggerReflectionUtils.existAPI(LoggerAPIProvider.LOG4J); result=false; times = 1;
 			loggerReflectionUtils.existAPI(LoggerAPIProvider.LOG4J2E); result=false; times = 1;
 			loggerReflectionUtils.existAPI(LoggerAPIProvider.LOG4J2); result=false; times = 1;
 			loggerReflectionUtils.existAPI(LoggerAPIProvider.JSR); result=true; times = 1;
+			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOGBACK); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J2E); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J2); times = 0;
@@ -192,6 +194,7 @@ public class LoggerReflectionUtilsTest {
 		}};
 		
 		final Function<String,LoggerAdapter> loggerFactory=loggerReflectionUtils.findLoggerFactory(Stream.of(LoggerAPIProvider.values())
+																											.filter(LoggerAPIProvider::isProbed)
 																											.filter(apiProvider -> !LoggerAPIProvider.CONSOLE.equals(apiProvider))
 																									,LoggerFactoryReflectionImpl::consoleLogger);
 
@@ -207,10 +210,12 @@ public class LoggerReflectionUtilsTest {
 	public void testFindLoggerFactory_failure(){
 
 		new Expectations() {{
+			loggerReflectionUtils.existAPI(LoggerAPIProvider.LOGBACK); result=false; times = 1;
 			loggerReflectionUtils.existAPI(LoggerAPIProvider.LOG4J); result=false; times = 1;
 			loggerReflectionUtils.existAPI(LoggerAPIProvider.LOG4J2E); result=false; times = 1;
 			loggerReflectionUtils.existAPI(LoggerAPIProvider.LOG4J2); result=false; times = 1;
 			loggerReflectionUtils.existAPI(LoggerAPIProvider.JSR); result=false; times = 1;
+			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOGBACK); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J2E); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J2); times = 0;
@@ -218,6 +223,7 @@ public class LoggerReflectionUtilsTest {
 		}};
 		
 		final Function<String,LoggerAdapter> loggerFactory=loggerReflectionUtils.findLoggerFactory(Stream.of(LoggerAPIProvider.values())
+																											.filter(LoggerAPIProvider::isProbed)
 																											.filter(apiProvider -> !LoggerAPIProvider.CONSOLE.equals(apiProvider))
 																									,LoggerFactoryReflectionImpl::consoleLogger);
 
@@ -241,6 +247,7 @@ public class LoggerReflectionUtilsTest {
 		}
 		
 		new Expectations() {{
+			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOGBACK); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J2E); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J2); times = 0;
@@ -277,6 +284,7 @@ public class LoggerReflectionUtilsTest {
 	public void testGetLoggerFactory_failure(){
 
 		new Expectations() {{
+			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOGBACK); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J); times = 0;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J2E); result=null; times = 1;
 			loggerReflectionUtils.getAPIConstructor(LoggerAPIProvider.LOG4J2); times = 0;
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.layouts;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.beans.LogBean;
+import org.bytemechanics.logger.context.LogContext;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author afarre
+ */
+public class JsonLayoutTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> JsonLayoutTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	static Stream<Arguments> encodeDatapack() {
+		final LocalDateTime time=LocalDateTime.of(2019, Month.JANUARY, 1, 1, 1, 1, 23_000_000);
+	    return Stream.of(
+			Arguments.of(LogBean.of(Level.INFO).time(time).message("my-message {} {}").args("hallo",1)
+							,"{\"time\":\"2019-01-01T01:01:01.023\",\"level\":\"INFO\",\"logger\":\"my-log-name\",\"message\":\"my-message hallo 1\"}\n"),		
+			Arguments.of(LogBean.of(Level.DEBUG).time(time).message("quote \" backslash \\ newline \n tab \t control \u0001")
+							,"{\"time\":\"2019-01-01T01:01:01.023\",\"level\":\"DEBUG\",\"logger\":\"my-log-name\",\"message\":\"quote \\\" backslash \\\\ newline \\n tab \\t control \\u0001\"}\n"),		
+			Arguments.of(LogBean.of(Level.WARNING).time(time).message("fields").field("string","value").field("long",-12l).field("int",3).field("boolean",true).field("double",1.5d).field("null",null)
+							,"{\"time\":\"2019-01-01T01:01:01.023\",\"level\":\"WARNING\",\"logger\":\"my-log-name\",\"message\":\"fields\",\"fields\":{\"string\":\"value\",\"long\":-12,\"int\":3,\"boolean\":true,\"double\":1.5,\"null\":null}}\n")
+		);
+	}
+	@ParameterizedTest(name ="Encode logBean={0} should write json={1}")
+	@MethodSource("encodeDatapack")
+	public void testEncode(final LogBean _log,final String _json){
+		final LayoutBuffer buffer=new LayoutBuffer();
+		new JsonLayout().encode("my-log-name",_log,buffer);
+		Assertions.assertEquals(_json,buffer.toString());
+	}
+
+	@Test
+	@DisplayName("Encode should write throwable with its causes and limited frames")
+	@SuppressWarnings({"ThrowableInstanceNotThrown", "ThrowableInstanceNeverThrown"})
+	public void testEncode_throwable(){
+		final IOException cause=new IOException("cause-message");
+		cause.setStackTrace(new StackTraceElement[]{new StackTraceElement("my.Cause","method","Cause.java",2)});
+		final IllegalStateException exception=new IllegalStateException("exception-message",cause);
+		exception.setStackTrace(new StackTraceElement[]{new StackTraceElement("my.Class","method","Class.java",1),new StackTraceElement("my.Class","skipped",null,-1)});
+		final LayoutBuffer buffer=new LayoutBuffer();
+		new JsonLayout(1).encode("my-log-name",LogBean.of(Level.ERROR).time(LocalDateTime.of(2019, Month.JANUARY, 1, 1, 1, 1)).message("error").args(exception),buffer);
+		Assertions.assertEquals("{\"time\":\"2019-01-01T01:01:01.000\",\"level\":\"ERROR\",\"logger\":\"my-log-name\",\"message\":\"error\""
+									+",\"throwable\":{\"class\":\"java.lang.IllegalStateException\",\"message\":\"exception-message\",\"stacktrace\":[\"my.Class.method(Class.java:1)\"]"
+									+",\"cause\":{\"class\":\"java.io.IOException\",\"message\":\"cause-message\",\"stacktrace\":[\"my.Cause.method(Cause.java:2)\"]}}}\n"
+								,buffer.toString());
+	}
+
+	@Test
+	@DisplayName("Encode should write the log context snapshot")
+	public void testEncode_context(){
+		final LogBean log;
+		try(LogContext.Scope scope=LogContext.with("requestId","1234")){
+			log=LogBean.of(Level.INFO).time(LocalDateTime.of(2019, Month.JANUARY, 1, 1, 1, 1)).message("message");
+		}
+		final LayoutBuffer buffer=new LayoutBuffer();
+		new JsonLayout().encode("my-log-name",log,buffer);
+		Assertions.assertEquals("{\"time\":\"2019-01-01T01:01:01.000\",\"level\":\"INFO\",\"logger\":\"my-log-name\",\"message\":\"message\",\"context\":{\"requestId\":\"1234\"}}\n"
+								,buffer.toString());
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.layouts;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author afarre
+ */
+public class LayoutBufferTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LayoutBufferTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	static Stream<Arguments> longDatapack() {
+	    return Stream.of(
+			Arguments.of(0l),		
+			Arguments.of(7l),		
+			Arguments.of(-7l),		
+			Arguments.of(10l),		
+			Arguments.of(1234567890l),		
+			Arguments.of(-1234567890l),		
+			Arguments.of(999999999999999999l),		
+			Arguments.of(Long.MAX_VALUE),		
+			Arguments.of(Long.MIN_VALUE)	
+		);
+	}
+	@ParameterizedTest(name ="appendLong({0}) should write the same as String.valueOf")
+	@MethodSource("longDatapack")
+	public void testAppendLong(final long _value){
+		Assertions.assertEquals(String.valueOf(_value),new LayoutBuffer().appendLong(_value).toString());
+	}
+
+	static Stream<Arguments> paddedDatapack() {
+	    return Stream.of(
+			Arguments.of(0,2,"00"),		
+			Arguments.of(7,3,"007"),		
+			Arguments.of(2019,4,"2019"),		
+			Arguments.of(12345,3,"12345")	
+		);
+	}
+	@ParameterizedTest(name ="appendPadded({0},{1}) should write {2}")
+	@MethodSource("paddedDatapack")
+	public void testAppendPadded(final int _value,final int _width,final String _expected){
+		Assertions.assertEquals(_expected,new LayoutBuffer().appendPadded(_value,_width).toString());
+	}
+
+	static Stream<Arguments> utf8Datapack() {
+	    return Stream.of(
+			Arguments.of("plain ascii"),		
+			Arguments.of("\u00e0\u00e8\u00ec\u00f2\u00f9 \u00f1 \u00e7"),		
+			Arguments.of("\u20ac symbol"),		
+			Arguments.of("emoji \uD83D\uDE00 pair")	
+		);
+	}
+	@ParameterizedTest(name ="appendUtf8({0}) should encode as UTF-8")
+	@MethodSource("utf8Datapack")
+	public void testAppendUtf8(final String _text){
+		Assertions.assertArrayEquals(_text.getBytes(StandardCharsets.UTF_8),new LayoutBuffer().appendUtf8(_text).toByteArray());
+	}
+
+	@Test
+	@DisplayName("appendUtf8 should replace unpaired surrogates")
+	public void testAppendUtf8_unpairedSurrogate(){
+		Assertions.assertEquals("a?b",new LayoutBuffer().appendUtf8("a\uD83Db").toString());
+	}
+
+	@Test
+	@DisplayName("Buffer should grow beyond initial capacity and be reusable after reset")
+	public void testGrowAndReset() throws IOException{
+		final LayoutBuffer buffer=new LayoutBuffer(16);
+		for(int ic1=0;ic1<100;ic1++){
+			buffer.appendAscii("0123456789");
+		}
+		Assertions.assertEquals(1000,buffer.size());
+		buffer.reset().appendAscii("reused");
+		Assertions.assertEquals(6,buffer.size());
+		final ByteArrayOutputStream output=new ByteArrayOutputStream();
+		buffer.writeTo(output);
+		Assertions.assertEquals("reused",new String(output.toByteArray(),StandardCharsets.UTF_8));
+	}
+}
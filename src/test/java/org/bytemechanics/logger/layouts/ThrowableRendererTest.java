@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.layouts;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class ThrowableRendererTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> ThrowableRendererTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@SuppressWarnings({"ThrowableInstanceNotThrown", "ThrowableInstanceNeverThrown"})
+	private static Throwable buildException(final String _message,final int _line){
+		final IOException cause=new IOException("cause-message");
+		cause.setStackTrace(new StackTraceElement[]{new StackTraceElement("my.Cause","method","Cause.java",2)
+													,new StackTraceElement("my.Class","caller","Class.java",5)
+													,new StackTraceElement("my.Main","main","Main.java",1)});
+		final IllegalStateException reply=new IllegalStateException(_message,cause);
+		reply.setStackTrace(new StackTraceElement[]{new StackTraceElement("my.Class","method","Class.java",_line)
+													,new StackTraceElement("my.Class","caller","Class.java",5)
+													,new StackTraceElement("my.Main","main","Main.java",1)});
+		return reply;
+	}
+	
+	@Test
+	@DisplayName("Render without deduplication should write the full stacktrace omitting common frames")
+	public void testRender_full(){
+		final LayoutBuffer buffer=new LayoutBuffer();
+		new ThrowableRenderer(0,64,16).render(buildException("message",1),buffer);
+		Assertions.assertEquals("java.lang.IllegalStateException: message\n"
+									+"\tat my.Class.method(Class.java:1)\n"
+									+"\tat my.Class.caller(Class.java:5)\n"
+									+"\tat my.Main.main(Main.java:1)\n"
+									+"Caused by: java.io.IOException: cause-message\n"
+									+"\tat my.Cause.method(Cause.java:2)\n"
+									+"\t... 2 common frames omitted\n"
+								,buffer.toString());
+	}
+
+	@Test
+	@DisplayName("Render should limit the number of frames")
+	public void testRender_maxFrames(){
+		final LayoutBuffer buffer=new LayoutBuffer();
+		new ThrowableRenderer(0,1,16).render(buildException("message",1),buffer);
+		Assertions.assertEquals("java.lang.IllegalStateException: message\n"
+									+"\tat my.Class.method(Class.java:1)\n"
+									+"\t... 2 more frames\n"
+									+"Caused by: java.io.IOException: cause-message\n"
+									+"\tat my.Cause.method(Cause.java:2)\n"
+									+"\t... 2 common frames omitted\n"
+								,buffer.toString());
+	}
+
+	@Test
+	@DisplayName("Render repeated throwables should write the full stacktrace only once per window")
+	public void testRender_deduplicated(){
+		final ThrowableRenderer renderer=new ThrowableRenderer(60_000,64,16);
+		final LayoutBuffer buffer=new LayoutBuffer();
+		renderer.render(buildException("first",1),buffer);
+		final String first=buffer.toString();
+		Assertions.assertTrue(first.startsWith("java.lang.IllegalStateException: first [#"),first);
+		final String id=first.substring(first.indexOf("[#")+2,first.indexOf(']'));
+		
+		renderer.render(buildException("second",1),buffer.reset());
+		Assertions.assertEquals("java.lang.IllegalStateException: second [same as #"+id+", repeated 1 times]\n",buffer.toString());
+		renderer.render(buildException("third",1),buffer.reset());
+		Assertions.assertEquals("java.lang.IllegalStateException: third [same as #"+id+", repeated 2 times]\n",buffer.toString());
+
+		renderer.render(buildException("distinct",2),buffer.reset());
+		Assertions.assertTrue(buffer.toString().startsWith("java.lang.IllegalStateException: distinct [#"),buffer.toString());
+		Assertions.assertTrue(buffer.toString().contains("Caused by: java.io.IOException: cause-message"),buffer.toString());
+	}
+}
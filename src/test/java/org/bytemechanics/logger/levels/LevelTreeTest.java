@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.levels;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Properties;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.impl.LoggerConsoleImpl;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LevelTreeTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LevelTreeTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	@Test
+	@DisplayName("Node should return the same instance for the same name and build the hierarchy")
+	public void testNode(){
+		
+		final LevelTree tree=new LevelTree();
+		final LevelTree.Node node=tree.node("org.my.package.MyClass");
+		Assertions.assertSame(node,tree.node("org.my.package.MyClass"));
+		Assertions.assertEquals("org.my.package.MyClass",node.getName());
+		Assertions.assertEquals("",tree.node(null).getName());
+		Assertions.assertSame(tree.node(""),tree.node(null));
+		Assertions.assertFalse(node.isConfigured());
+		Assertions.assertTrue(node.isEnabled(Level.TRACE,true));
+		Assertions.assertFalse(node.isEnabled(Level.TRACE,false));
+	}
+	@Test
+	@DisplayName("Configured levels should be inherited by the descendants without their own level")
+	public void testSetLevel(){
+		
+		final LevelTree tree=new LevelTree();
+		final LevelTree.Node clazz=tree.node("org.my.package.MyClass");
+		final LevelTree.Node child=tree.node("org.my.package.MyClass.child");
+		final LevelTree.Node other=tree.node("org.other.Other");
+		tree.setLevel("org.my",Level.WARNING);
+		Assertions.assertFalse(clazz.isEnabled(Level.INFO,true));
+		Assertions.assertTrue(clazz.isEnabled(Level.WARNING,false));
+		Assertions.assertFalse(child.isEnabled(Level.INFO,true));
+		Assertions.assertFalse(other.isConfigured());
+		tree.setLevel("org.my.package.MyClass",Level.DEBUG);
+		Assertions.assertTrue(clazz.isEnabled(Level.DEBUG,false));
+		Assertions.assertTrue(child.isEnabled(Level.DEBUG,false));
+		tree.setLevel("org.my",Level.ERROR);
+		Assertions.assertTrue(clazz.isEnabled(Level.DEBUG,false));
+		Assertions.assertFalse(tree.node("org.my.package").isEnabled(Level.WARNING,true));
+		Assertions.assertFalse(tree.node("org.my.package.Created").isEnabled(Level.WARNING,true));
+		tree.setLevel("org.my.package.MyClass",null);
+		Assertions.assertFalse(child.isEnabled(Level.WARNING,true));
+		tree.disable("org.my.package.MyClass.child");
+		Assertions.assertFalse(child.isEnabled(Level.CRITICAL,true));
+		tree.clear();
+		Assertions.assertFalse(child.isConfigured());
+		Assertions.assertFalse(clazz.isConfigured());
+	}
+	@Test
+	@DisplayName("From should read the root and logger name levels ignoring invalid values")
+	public void testFrom(){
+		
+		final Properties properties=new Properties();
+		properties.setProperty(LevelTree.LEVEL_KEY,"warning");
+		properties.setProperty(LevelTree.LEVEL_KEY+".org.my","DEBUG");
+		properties.setProperty(LevelTree.LEVEL_KEY+".org.noisy","OFF");
+		properties.setProperty(LevelTree.LEVEL_KEY+".org.invalid","NONE");
+		properties.setProperty("other.key","ERROR");
+		final LevelTree tree=LevelTree.from(properties);
+		Assertions.assertFalse(tree.node("org.other").isEnabled(Level.INFO,true));
+		Assertions.assertTrue(tree.node("org.other").isEnabled(Level.WARNING,false));
+		Assertions.assertTrue(tree.node("org.my.MyClass").isEnabled(Level.DEBUG,false));
+		Assertions.assertFalse(tree.node("org.noisy.Noisy").isEnabled(Level.CRITICAL,true));
+		Assertions.assertFalse(tree.node("org.invalid").isEnabled(Level.INFO,true));
+	}
+	@Test
+	@DisplayName("Console adapter should use the level tree threshold when configured and INFO otherwise")
+	public void testConsoleAdapter(){
+		
+		final LevelTree tree=new LevelTree();
+		final LoggerConsoleImpl adapter=new LoggerConsoleImpl("org.my.MyClass",null,tree);
+		Assertions.assertFalse(adapter.isEnabled(Level.DEBUG));
+		Assertions.assertTrue(adapter.isEnabled(Level.INFO));
+		tree.setLevel("org.my",Level.DEBUG);
+		Assertions.assertTrue(adapter.isEnabled(Level.DEBUG));
+		tree.disable("org");
+		Assertions.assertTrue(adapter.isEnabled(Level.DEBUG));
+		tree.setLevel("org.my",null);
+		Assertions.assertFalse(adapter.isEnabled(Level.CRITICAL));
+	}
+}
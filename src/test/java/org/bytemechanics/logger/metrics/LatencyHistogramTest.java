@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LatencyHistogramTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LatencyHistogramTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@Test
+	@DisplayName("Bucket index should be monotonic and its highest value should contain the value with less than 3.2% error")
+	public void testIndex(){
+		int previous=0;
+		for(long value=0;value<(1l<<40);value=value*3/2+1){
+			final int index=LatencyHistogram.index(value);
+			Assertions.assertTrue(index>=previous);
+			Assertions.assertTrue(index<LatencyHistogram.BUCKETS);
+			final long highest=LatencyHistogram.highestValue(index);
+			Assertions.assertTrue(highest>=value,"highest "+highest+" for value "+value);
+			Assertions.assertTrue((highest-value)<=Math.max(1,value*0.032d),"highest "+highest+" for value "+value);
+			previous=index;
+		}
+		Assertions.assertEquals(LatencyHistogram.BUCKETS-1,LatencyHistogram.index(Long.MAX_VALUE));
+	}
+
+	@Test
+	@DisplayName("Snapshot should report percentiles, mean and max of the recorded values")
+	public void testSnapshot(){
+		final LatencyHistogram histogram=new LatencyHistogram();
+		for(int ic1=1;ic1<=1000;ic1++){
+			histogram.record(ic1*1000l);
+		}
+		histogram.record(-1);
+		final LatencySnapshot snapshot=histogram.snapshot("my-histogram");
+		Assertions.assertEquals("my-histogram",snapshot.getName());
+		Assertions.assertEquals(1001,snapshot.getCount());
+		Assertions.assertEquals(1_000_000,snapshot.getMax());
+		Assertions.assertEquals(500_000,snapshot.getP50(),500_000*0.032d);
+		Assertions.assertEquals(900_000,snapshot.getP90(),900_000*0.032d);
+		Assertions.assertEquals(990_000,snapshot.getP99(),990_000*0.032d);
+		Assertions.assertEquals(999_000,snapshot.getP999(),999_000*0.032d);
+		Assertions.assertEquals(500_000,snapshot.getMean(),500_000*0.032d);
+	}
+
+	@Test
+	@DisplayName("Reset should discard all recorded values")
+	public void testReset(){
+		final LatencyHistogram histogram=new LatencyHistogram();
+		histogram.record(1000);
+		histogram.reset();
+		final LatencySnapshot snapshot=histogram.snapshot("my-histogram");
+		Assertions.assertEquals(0,snapshot.getCount());
+		Assertions.assertEquals(0,snapshot.getMax());
+		Assertions.assertEquals(0,snapshot.getP99());
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.decorators.DeduplicatingLoggerAdapter;
+import org.bytemechanics.logger.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.logger.mocks.RecordingLoggerAdapter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LoggerMetricsTest {
+	
+	@BeforeAll
+	public static void setup() throws IOException{
+		System.out.println(">>>>> LoggerMetricsTest >>>> setupSpec");
+		try(InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")){
+			LogManager.getLogManager().readConfiguration(inputStream);
+		}catch (final IOException e){
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+		LoggerMetrics.getInstance().setEnabled(true);
+	}
+	@AfterAll
+	public static void tearDown(){
+		LoggerMetrics.getInstance().setEnabled(false);
+	}
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+	@Test
+	@DisplayName("Logger should count checked, enabled and emitted events per level")
+	public void testCounters(){
+		final FluentLogger logger=FluentLogger.of("metrics-logger-1",name -> new RecordingLoggerAdapter(name,Level.INFO));
+		for(int ic1=0;ic1<5;ic1++){
+			logger.debug("debug {}",ic1);
+			logger.info("info {}",ic1);
+		}
+		logger.error(() -> "error");
+		final LoggerCountersSnapshot snapshot=LoggerMetrics.getInstance().snapshot("metrics-logger-1").get();
+		Assertions.assertEquals(5,snapshot.getChecked(Level.DEBUG));
+		Assertions.assertEquals(0,snapshot.getEnabled(Level.DEBUG));
+		Assertions.assertEquals(0,snapshot.getEmitted(Level.DEBUG));
+		Assertions.assertEquals(5,snapshot.getChecked(Level.INFO));
+		Assertions.assertEquals(5,snapshot.getEnabled(Level.INFO));
+		Assertions.assertEquals(5,snapshot.getEmitted(Level.INFO));
+		Assertions.assertEquals(1,snapshot.getEmitted(Level.ERROR));
+		Assertions.assertEquals(11,snapshot.getTotalChecked());
+		Assertions.assertEquals(6,snapshot.getTotalEmitted());
+		Assertions.assertEquals(Long.valueOf(5),snapshot.getChecked().get("DEBUG"));
+	}
+
+	@Test
+	@DisplayName("Level guards should not be counted as checked")
+	public void testCounters_guards(){
+		final FluentLogger logger=FluentLogger.of("metrics-logger-4",name -> new RecordingLoggerAdapter(name,Level.INFO));
+		if(logger.isInfoEnabled()){
+			logger.info("info");
+		}
+		Assertions.assertFalse(logger.isDebugEnabled());
+		final LoggerCountersSnapshot snapshot=LoggerMetrics.getInstance().snapshot("metrics-logger-4").get();
+		Assertions.assertEquals(1,snapshot.getChecked(Level.INFO));
+		Assertions.assertEquals(1,snapshot.getEnabled(Level.INFO));
+		Assertions.assertEquals(1,snapshot.getEmitted(Level.INFO));
+		Assertions.assertEquals(0,snapshot.getChecked(Level.DEBUG));
+		Assertions.assertEquals(0,snapshot.getEnabled(Level.DEBUG));
+	}
+
+	@Test
+	@DisplayName("Events dropped by sampled or deduplicating adapters should be counted as enabled but not as emitted")
+	public void testCounters_notAdmitted(){
+		final RecordingLoggerAdapter adapter=new RecordingLoggerAdapter("metrics-logger-5");
+		final FluentLogger sampled=FluentLogger.of("metrics-logger-5",name -> adapter)
+												.everyN(2);
+		final FluentLogger deduplicated=FluentLogger.of("metrics-logger-6",DeduplicatingLoggerAdapter.decorate(name -> adapter,Duration.ofMinutes(1),16));
+		for(int ic1=0;ic1<4;ic1++){
+			sampled.info("sampled {}",ic1);
+			deduplicated.info("deduplicated {}",ic1);
+		}
+		final LoggerCountersSnapshot sampledSnapshot=LoggerMetrics.getInstance().snapshot("metrics-logger-5").get();
+		Assertions.assertEquals(4,sampledSnapshot.getEnabled(Level.INFO));
+		Assertions.assertEquals(2,sampledSnapshot.getEmitted(Level.INFO));
+		final LoggerCountersSnapshot deduplicatedSnapshot=LoggerMetrics.getInstance().snapshot("metrics-logger-6").get();
+		Assertions.assertEquals(4,deduplicatedSnapshot.getEnabled(Level.INFO));
+		Assertions.assertEquals(1,deduplicatedSnapshot.getEmitted(Level.INFO));
+		Assertions.assertEquals(3,adapter.getLogs().size());
+	}
+
+	@Test
+	@DisplayName("Derived loggers should share the counters of the logger name")
+	public void testCounters_shared(){
+		final FluentLogger logger=FluentLogger.of("metrics-logger-2",name -> new RecordingLoggerAdapter(name));
+		logger.info("info");
+		logger.prefixed("prefix: ").info("info");
+		logger.with("arg").info("info {}");
+		Assertions.assertEquals(3,LoggerMetrics.getInstance().snapshot("metrics-logger-2").get().getEmitted(Level.INFO));
+		Assertions.assertFalse(LoggerMetrics.getInstance().snapshot("unknown-metrics-logger").isPresent());
+	}
+
+	@Test
+	@DisplayName("Reset should set all counters to zero")
+	public void testReset(){
+		final LoggerCounters counters=new LoggerCounters("my-logger");
+		counters.checked(Level.INFO,true);
+		counters.emitted(Level.INFO);
+		counters.checked(Level.FINEST,false);
+		Assertions.assertEquals(2,counters.snapshot().getTotalChecked());
+		counters.reset();
+		Assertions.assertEquals(0,counters.snapshot().getTotalChecked());
+		Assertions.assertEquals(0,counters.snapshot().getTotalEnabled());
+		Assertions.assertEquals(0,counters.snapshot().getTotalEmitted());
+	}
+
+	@Test
+	@DisplayName("Disabled metrics should not provide counters")
+	public void testDisabled(){
+		final LoggerMetrics metrics=new LoggerMetrics(false,1024);
+		Assertions.assertNull(metrics.counters("my-logger"));
+		Assertions.assertEquals(0,metrics.getLoggers());
+	}
+
+	@Test
+	@DisplayName("Logger names exceeding the maximum should be aggregated in the overflow counters")
+	public void testOverflow(){
+		final LoggerMetrics metrics=new LoggerMetrics(true,2);
+		final LoggerCounters logger1=metrics.counters("logger-1");
+		final LoggerCounters logger2=metrics.counters("logger-2");
+		final LoggerCounters logger3=metrics.counters("logger-3");
+		final LoggerCounters logger4=metrics.counters("logger-4");
+		Assertions.assertEquals("logger-1",logger1.getName());
+		Assertions.assertEquals("logger-2",logger2.getName());
+		Assertions.assertEquals(LoggerMetrics.OVERFLOW_NAME,logger3.getName());
+		Assertions.assertSame(logger3,logger4);
+		Assertions.assertSame(logger1,metrics.counters("logger-1"));
+		Assertions.assertEquals(3,metrics.getLoggers());
+	}
+
+	@Test
+	@DisplayName("Metrics should be exposed as MXBean")
+	public void testMXBean() throws JMException{
+		FluentLogger.of("metrics-logger-3",name -> new RecordingLoggerAdapter(name)).warning("warning");
+		final MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+		final ObjectName objectName=new ObjectName(LoggerMetrics.OBJECT_NAME);
+		Assertions.assertTrue(server.isRegistered(objectName));
+		Assertions.assertTrue((Integer)server.getAttribute(objectName,"Loggers")>0);
+		final CompositeData[] counters=(CompositeData[])server.getAttribute(objectName,"Counters");
+		boolean found=false;
+		for(CompositeData data:counters){
+			if("metrics-logger-3".equals(data.get("name"))){
+				Assertions.assertEquals(1l,data.get("totalEmitted"));
+				found=true;
+			}
+		}
+		Assertions.assertTrue(found);
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.mocks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.flow.LogBatchSubscriber;
+import org.bytemechanics.logger.flow.LogSubscription;
+
+/**
+ *
+ * @author afarre
+ */
+public class RecordingLogBatchSubscriber implements LogBatchSubscriber{
+
+	private final List<List<Log>> batches=new CopyOnWriteArrayList<>();
+	private volatile LogSubscription subscription;
+	private volatile Throwable error;
+	private volatile boolean completed;
+
+	public LogSubscription getSubscription() {
+		return subscription;
+	}
+	public List<List<Log>> getBatches() {
+		return batches;
+	}
+	public Throwable getError() {
+		return error;
+	}
+	public boolean isCompleted() {
+		return completed;
+	}
+	public List<String> getMessages(){
+		return this.batches.stream()
+							.flatMap(List::stream)
+							.map(log -> log.getMessage().get())
+							.collect(Collectors.toList());
+	}
+	
+	@Override
+	public void onSubscribe(final LogSubscription _subscription) {
+		this.subscription=_subscription;
+	}
+	@Override
+	public void onNext(final List<Log> _batch) {
+		this.batches.add(_batch);
+	}
+	@Override
+	public void onError(final Throwable _error) {
+		this.error=_error;
+	}
+	@Override
+	public void onComplete() {
+		this.completed=true;
+	}
+}
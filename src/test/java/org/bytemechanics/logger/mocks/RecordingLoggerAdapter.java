@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.mocks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+
+/**
+ *
+ * @author afarre
+ */
+public class RecordingLoggerAdapter implements LoggerAdapter{
+
+	private final String name;
+	private final Level minimum;
+	private final List<Log> logs;
+	
+	public RecordingLoggerAdapter(final String _name){
+		this(_name,Level.FINEST);
+	}
+	public RecordingLoggerAdapter(final String _name,final Level _minimum){
+		this.name=_name;
+		this.minimum=_minimum;
+		this.logs=new CopyOnWriteArrayList<>();
+	}
+
+	public List<Log> getLogs() {
+		return logs;
+	}
+	
+	@Override
+	public String getName() {
+		return this.name;
+	}
+	
+	@Override
+	public boolean isEnabled(Level _level) {
+		return this.minimum.index<=_level.index;
+	}
+
+	@Override
+	public void log(Log _log) {
+		this.logs.add(_log);
+	}
+}
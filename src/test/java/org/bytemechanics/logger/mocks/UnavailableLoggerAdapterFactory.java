@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.mocks;
+
+import org.bytemechanics.logger.adapters.LoggerAdapter;
+import org.bytemechanics.logger.factory.LoggerAdapterFactory;
+
+/**
+ *
+ * @author afarre
+ */
+public class UnavailableLoggerAdapterFactory implements LoggerAdapterFactory{
+
+	@Override
+	public int getPriority() {
+		return 100;
+	}
+
+	@Override
+	public boolean isAvailable() {
+		return false;
+	}
+
+	@Override
+	public LoggerAdapter getLogger(final String _logger) {
+		return new RecordingLoggerAdapter(_logger);
+	}
+}
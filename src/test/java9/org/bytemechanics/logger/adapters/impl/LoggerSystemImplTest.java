@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.adapters.impl;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.adapters.LoggerAPIProvider;
+import org.bytemechanics.logger.beans.LogBean;
+import org.bytemechanics.logger.beans.MemoizedMessage;
+import org.bytemechanics.logger.internal.factory.utils.LoggerFactoryCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author afarre
+ */
+public class LoggerSystemImplTest {
+
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	private static final class RecordingSystemLogger implements System.Logger{
+		
+		private final System.Logger.Level minimum;
+		private final List<Object[]> logs;
+
+		RecordingSystemLogger(final System.Logger.Level _minimum){
+			this.minimum=_minimum;
+			this.logs=new ArrayList<>();
+		}
+		
+		@Override
+		public String getName() {
+			return "my-logger";
+		}
+		@Override
+		public boolean isLoggable(final System.Logger.Level _level) {
+			return _level.getSeverity()>=this.minimum.getSeverity();
+		}
+		@Override
+		public void log(final System.Logger.Level _level,final Supplier<String> _messageSupplier) {
+			this.logs.add(new Object[]{_level,_messageSupplier,null});
+		}
+		@Override
+		public void log(final System.Logger.Level _level,final Supplier<String> _messageSupplier,final Throwable _thrown) {
+			this.logs.add(new Object[]{_level,_messageSupplier,_thrown});
+		}
+		@Override
+		public void log(final System.Logger.Level _level,final ResourceBundle _bundle,final String _message,final Throwable _thrown) {
+			throw new AssertionError("Message should be given as supplier");
+		}
+		@Override
+		public void log(final System.Logger.Level _level,final ResourceBundle _bundle,final String _format,final Object... _params) {
+			throw new AssertionError("Message should be given as supplier");
+		}
+	}
+	
+
+	@Test
+	@DisplayName("SYSTEM provider should not be probed and its adapter should be registered on Java 9 or later")
+	public void testProvider(){
+		Assertions.assertFalse(LoggerAPIProvider.SYSTEM.isProbed());
+		Assertions.assertEquals(LoggerSystemImpl.class.getName(),LoggerAPIProvider.SYSTEM.implementationClassName);
+		Assertions.assertTrue(LoggerFactoryCache.isRegistered(LoggerAPIProvider.SYSTEM));
+		Assertions.assertEquals(LoggerSystemImpl.class,LoggerFactoryCache.getLoggerFactory(LoggerAPIProvider.SYSTEM).get().apply("my-logger").getClass());
+	}
+
+	@Test
+	@DisplayName("System.Logger bridge should be skipped from the log stacktrace")
+	public void testSkippedBridge() throws ClassNotFoundException{
+		Assertions.assertTrue(Log.SKIPPED_CLASS_NAMES.contains(Log.SYSTEM_LOGGER_BRIDGE));
+		Assertions.assertEquals(Log.SYSTEM_LOGGER_BRIDGE,Class.forName(Log.SYSTEM_LOGGER_BRIDGE).getName());
+	}
+
+	@Test
+	@DisplayName("GetName should return the System.Logger name")
+	public void testGetName(){
+		Assertions.assertEquals("my-logger",new LoggerSystemImpl("my-logger").getName());
+		Assertions.assertEquals("my-logger",new LoggerSystemImpl(new RecordingSystemLogger(System.Logger.Level.ALL)).getName());
+	}
+
+	static Stream<Arguments> translateLevelDatapack() {
+	    return Stream.of(
+			Arguments.of(Level.FINEST,System.Logger.Level.TRACE),		
+			Arguments.of(Level.TRACE,System.Logger.Level.TRACE),		
+			Arguments.of(Level.DEBUG,System.Logger.Level.DEBUG),		
+			Arguments.of(Level.INFO,System.Logger.Level.INFO),		
+			Arguments.of(Level.WARNING,System.Logger.Level.WARNING),		
+			Arguments.of(Level.ERROR,System.Logger.Level.ERROR),		
+			Arguments.of(Level.CRITICAL,System.Logger.Level.ERROR)	
+		);
+	}
+	@ParameterizedTest(name ="Log level={0} translation should be equal to level={1}")
+	@MethodSource("translateLevelDatapack")
+	public void testTranslateLevel(final Level _level,final System.Logger.Level _levelTranslated){
+		final LoggerSystemImpl logger=new LoggerSystemImpl(new RecordingSystemLogger(System.Logger.Level.ALL));
+		Assertions.assertEquals(_levelTranslated,logger.translateLevel(_level));
+	}
+
+	@ParameterizedTest(name ="Log level={0} is enabled should answer if level={1} is loggable")
+	@MethodSource("translateLevelDatapack")
+	public void testIsEnabled(final Level _level,final System.Logger.Level _levelTranslated){
+		final LoggerSystemImpl logger=new LoggerSystemImpl(new RecordingSystemLogger(System.Logger.Level.INFO));
+		Assertions.assertEquals(_levelTranslated.getSeverity()>=System.Logger.Level.INFO.getSeverity(),logger.isEnabled(_level));
+	}
+
+	static Stream<Arguments> logDatapack() {
+	    return Stream.of(
+			Arguments.of(LogBean.of(Level.FINEST).message("my-message {} {}").args("hallo",1).args(new RuntimeException("myRuntimeException"))),		
+			Arguments.of(LogBean.of(Level.TRACE).message("my-message {} {}")),		
+			Arguments.of(LogBean.of(Level.INFO).message("my-message {} {}").args("hallo",1)),		
+			Arguments.of(LogBean.of(Level.CRITICAL).message("my-message 4{} {}").args("hallo").args(new IOException("myIOException2")))	
+		);
+	}
+	@ParameterizedTest(name ="Log logBean={0} should be written with its message supplier without format it")
+	@MethodSource("logDatapack")
+	public void testLog(final LogBean _log){
+		final RecordingSystemLogger underlying=new RecordingSystemLogger(System.Logger.Level.ALL);
+		final LoggerSystemImpl logger=new LoggerSystemImpl(underlying);
+		
+		logger.log(_log);
+		
+		Assertions.assertEquals(1,underlying.logs.size());
+		Assertions.assertEquals(logger.translateLevel(_log.getLevel()),underlying.logs.get(0)[0]);
+		Assertions.assertSame(_log.getMessage(),underlying.logs.get(0)[1]);
+		Assertions.assertSame(_log.getThrowable().orElse(null),underlying.logs.get(0)[2]);
+		Assertions.assertFalse(((MemoizedMessage)_log.getMessage()).isRendered());
+	}
+}
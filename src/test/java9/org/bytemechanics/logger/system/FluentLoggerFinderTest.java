@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.system;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.mocks.RecordingLoggerAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class FluentLoggerFinderTest {
+
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	private final Map<String,RecordingLoggerAdapter> adapters=new ConcurrentHashMap<>();
+	
+	private FluentLogger recording(final String _name){
+		return FluentLogger.of(_name,name -> this.adapters.computeIfAbsent(name,RecordingLoggerAdapter::new));
+	}
+	
+	
+	@Test
+	@DisplayName("Finder should return a System.Logger with the given name writing through FluentLogger")
+	public void testGetLogger(){
+		
+		final FluentLoggerFinder finder=new FluentLoggerFinder(this::recording);
+		final System.Logger logger=finder.getLogger("my-logger",FluentLoggerFinderTest.class.getModule());
+		
+		Assertions.assertEquals(FluentSystemLogger.class,logger.getClass());
+		Assertions.assertEquals("my-logger",logger.getName());
+		logger.log(System.Logger.Level.INFO,"my-message");
+		Assertions.assertEquals(1,this.adapters.get("my-logger").getLogs().size());
+		Assertions.assertEquals(Level.INFO,this.adapters.get("my-logger").getLogs().get(0).getLevel());
+		Assertions.assertEquals("my-message",this.adapters.get("my-logger").getLogs().get(0).getMessage().get());
+	}
+
+	@Test
+	@DisplayName("Default finder should create the FluentLogger with the default provider resolution")
+	public void testGetLogger_default(){
+		Assertions.assertEquals("my-logger",new FluentLoggerFinder().getLogger("my-logger",FluentLoggerFinderTest.class.getModule()).getName());
+	}
+
+	@Test
+	@DisplayName("Finder should cache the System.Logger by name")
+	public void testGetLogger_cached(){
+		
+		final FluentLoggerFinder finder=new FluentLoggerFinder(this::recording);
+		final System.Logger logger=finder.getLogger("my-logger",FluentLoggerFinderTest.class.getModule());
+		
+		Assertions.assertSame(logger,finder.getLogger("my-logger",FluentLoggerFinderTest.class.getModule()));
+		Assertions.assertSame(logger,finder.getLogger("my-logger",Object.class.getModule()));
+		Assertions.assertNotSame(logger,finder.getLogger("my-other-logger",FluentLoggerFinderTest.class.getModule()));
+	}
+
+	@Test
+	@DisplayName("Finder should allow to request System.Loggers while a FluentLogger is created")
+	public void testGetLogger_reentrant(){
+		
+		final AtomicReference<FluentLoggerFinder> reference=new AtomicReference<>();
+		final FluentLoggerFinder finder=new FluentLoggerFinder(name -> {
+																	if(!"nested".equals(name)){
+																		reference.get().getLogger("nested",FluentLoggerFinderTest.class.getModule());
+																	}
+																	return recording(name);
+																});
+		reference.set(finder);
+		final System.Logger logger=finder.getLogger("my-logger",FluentLoggerFinderTest.class.getModule());
+		
+		Assertions.assertEquals("my-logger",logger.getName());
+		Assertions.assertSame(logger,finder.getLogger("my-logger",FluentLoggerFinderTest.class.getModule()));
+		Assertions.assertEquals("nested",finder.getLogger("nested",FluentLoggerFinderTest.class.getModule()).getName());
+	}
+
+	@Test
+	@DisplayName("Concurrent requests of the same name should return the same System.Logger")
+	public void testGetLogger_concurrent() throws InterruptedException, ExecutionException{
+		
+		final FluentLoggerFinder finder=new FluentLoggerFinder(this::recording);
+		final CountDownLatch start=new CountDownLatch(1);
+		final ExecutorService executor=Executors.newFixedThreadPool(8);
+		try{
+			final List<Future<System.Logger>> futures=IntStream.range(0,8)
+																.mapToObj(ic1 -> executor.submit(() -> {
+																					start.await();
+																					return finder.getLogger("my-logger",FluentLoggerFinderTest.class.getModule());
+																				}))
+																.collect(Collectors.toList());
+			start.countDown();
+			final System.Logger logger=futures.get(0).get();
+			for(Future<System.Logger> future:futures){
+				Assertions.assertSame(logger,future.get());
+			}
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+}
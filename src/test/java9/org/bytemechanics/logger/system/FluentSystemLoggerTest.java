@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.logger.system;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.bytemechanics.logger.FluentLogger;
+import org.bytemechanics.logger.Level;
+import org.bytemechanics.logger.adapters.Log;
+import org.bytemechanics.logger.mocks.RecordingLoggerAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author afarre
+ */
+public class FluentSystemLoggerTest {
+
+	@BeforeEach
+    void beforeEachTest(final TestInfo testInfo) {
+        System.out.println(">>>>> "+this.getClass().getSimpleName()+" >>>> "+testInfo.getTestMethod().map(Method::getName).orElse("Unkown")+""+testInfo.getTags().toString()+" >>>> "+testInfo.getDisplayName());
+    }
+
+	private RecordingLoggerAdapter adapter;
+	private FluentSystemLogger logger;
+	private final ResourceBundle bundle=new ListResourceBundle() {
+												@Override
+												protected Object[][] getContents() {
+													return new Object[][]{{"my.key","my {0} localized message {1}"}};
+												}
+											};
+	
+	@BeforeEach
+	void createLogger(){
+		this.adapter=new RecordingLoggerAdapter("my-logger",Level.INFO);
+		this.logger=new FluentSystemLogger(FluentLogger.of("my-logger",name -> this.adapter));
+	}
+	private Log lastLog(){
+		Assertions.assertFalse(this.adapter.getLogs().isEmpty());
+		return this.adapter.getLogs().get(this.adapter.getLogs().size()-1);
+	}
+	
+	
+	@Test
+	@DisplayName("GetName should return the FluentLogger name")
+	public void testGetName(){
+		Assertions.assertEquals("my-logger",this.logger.getName());
+	}
+
+	static Stream<Arguments> translateLevelDatapack() {
+	    return Stream.of(
+			Arguments.of(System.Logger.Level.ALL,Level.FINEST),		
+			Arguments.of(System.Logger.Level.TRACE,Level.TRACE),		
+			Arguments.of(System.Logger.Level.DEBUG,Level.DEBUG),		
+			Arguments.of(System.Logger.Level.INFO,Level.INFO),		
+			Arguments.of(System.Logger.Level.WARNING,Level.WARNING),		
+			Arguments.of(System.Logger.Level.ERROR,Level.ERROR),		
+			Arguments.of(System.Logger.Level.OFF,null)	
+		);
+	}
+	@ParameterizedTest(name ="System.Logger level={0} translation should be equal to level={1}")
+	@MethodSource("translateLevelDatapack")
+	public void testTranslateLevel(final System.Logger.Level _level,final Level _levelTranslated){
+		Assertions.assertEquals(_levelTranslated,FluentSystemLogger.translateLevel(_level));
+	}
+	@ParameterizedTest(name ="System.Logger level={0} is loggable should be translated to level={1}")
+	@MethodSource("translateLevelDatapack")
+	public void testIsLoggable(final System.Logger.Level _level,final Level _levelTranslated){
+		Assertions.assertEquals((_levelTranslated!=null)&&(_levelTranslated.index>=Level.INFO.index),this.logger.isLoggable(_level));
+	}
+
+	@Test
+	@DisplayName("Message supplier should not be called if the level is disabled and only once if the log is written")
+	public void testLog_supplier(){
+		
+		final AtomicInteger counter=new AtomicInteger();
+		this.logger.log(System.Logger.Level.DEBUG,() -> "my-message "+counter.incrementAndGet());
+		this.logger.log(System.Logger.Level.OFF,() -> "my-message "+counter.incrementAndGet());
+		Assertions.assertTrue(this.adapter.getLogs().isEmpty());
+		
+		this.logger.log(System.Logger.Level.WARNING,() -> "my-message "+counter.incrementAndGet());
+		Assertions.assertEquals(0,counter.get());
+		Assertions.assertEquals(Level.WARNING,lastLog().getLevel());
+		Assertions.assertEquals("my-message 1",lastLog().getMessage().get());
+		Assertions.assertEquals("my-message 1",lastLog().getMessage().get());
+		Assertions.assertEquals(1,counter.get());
+	}
+
+	@Test
+	@DisplayName("Messages, objects and throwables should be written as given")
+	public void testLog_message(){
+		
+		final IOException exception=new IOException("my-exception");
+		this.logger.log(System.Logger.Level.INFO,"my {0} message");
+		Assertions.assertEquals("my {0} message",lastLog().getMessage().get());
+		this.logger.log(System.Logger.Level.INFO,(Object)42);
+		Assertions.assertEquals("42",lastLog().getMessage().get());
+		this.logger.log(System.Logger.Level.ERROR,"my-message",exception);
+		Assertions.assertEquals(Level.ERROR,lastLog().getLevel());
+		Assertions.assertEquals("my-message",lastLog().getMessage().get());
+		Assertions.assertSame(exception,lastLog().getThrowable().get());
+		this.logger.log(System.Logger.Level.ERROR,() -> "my-supplied-message",exception);
+		Assertions.assertEquals("my-supplied-message",lastLog().getMessage().get());
+		Assertions.assertSame(exception,lastLog().getThrowable().get());
+	}
+
+	@Test
+	@DisplayName("Parameterized messages should be formatted with MessageFormat only if they have parameters")
+	public void testLog_format(){
+		
+		this.logger.log(System.Logger.Level.INFO,"my {0} message {1}","formatted",1);
+		Assertions.assertEquals("my formatted message 1",lastLog().getMessage().get());
+		this.logger.log(System.Logger.Level.INFO,"my {0} message",new Object[0]);
+		Assertions.assertEquals("my {0} message",lastLog().getMessage().get());
+		Assertions.assertNull(FluentSystemLogger.format(null,null,"param"));
+	}
+
+	@Test
+	@DisplayName("Bundle messages should be localized and formatted, missing keys should be written as given")
+	public void testLog_bundle(){
+		
+		final IOException exception=new IOException("my-exception");
+		this.logger.log(System.Logger.Level.INFO,this.bundle,"my.key","first",2);
+		Assertions.assertEquals("my first localized message 2",lastLog().getMessage().get());
+		this.logger.log(System.Logger.Level.WARNING,this.bundle,"my.key",exception);
+		Assertions.assertEquals("my {0} localized message {1}",lastLog().getMessage().get());
+		Assertions.assertSame(exception,lastLog().getThrowable().get());
+		this.logger.log(System.Logger.Level.INFO,this.bundle,"missing.key","param");
+		Assertions.assertEquals("missing.key",lastLog().getMessage().get());
+		this.logger.log(System.Logger.Level.INFO,(ResourceBundle)null,"my.key",(Throwable)null);
+		Assertions.assertEquals("my.key",lastLog().getMessage().get());
+	}
+}